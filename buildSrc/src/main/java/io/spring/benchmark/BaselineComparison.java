@@ -0,0 +1,86 @@
+package io.spring.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file with a baseline in the same format and fails when a benchmark
+ * got slower than the baseline by more than the threshold, a fraction such as 0.2, or when a
+ * baseline benchmark did not run at all. Benchmarks missing from the baseline are reported as new
+ * and do not fail the comparison.
+ */
+public class BaselineComparison {
+
+  /**
+   * Prints every benchmark next to its baseline and returns the ones that regressed or did not
+   * run.
+   */
+  public static List<String> compare(File results, File baseline, double threshold)
+      throws IOException {
+    Map<String, JsonNode> current = read(results);
+    Map<String, JsonNode> expected = read(baseline);
+    List<String> failures = new ArrayList<>();
+    for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+      JsonNode run = entry.getValue();
+      JsonNode base = expected.get(entry.getKey());
+      String unit = run.at("/primaryMetric/scoreUnit").asText();
+      double score = run.at("/primaryMetric/score").asDouble();
+      if (base == null) {
+        System.out.printf("%-80s %12.3f %s (new)%n", entry.getKey(), score, unit);
+        continue;
+      }
+      double baseScore = base.at("/primaryMetric/score").asDouble();
+      double change = slowdown(run.path("mode").asText(), score, baseScore);
+      String line =
+          String.format(
+              "%-80s %12.3f %s vs %12.3f, %+.1f%% slower",
+              entry.getKey(), score, unit, baseScore, change * 100);
+      System.out.println(line);
+      if (change > threshold) {
+        failures.add(line);
+      }
+    }
+    // a renamed or deleted benchmark would otherwise drop out of the comparison unnoticed
+    for (String name : expected.keySet()) {
+      if (!current.containsKey(name)) {
+        String line = String.format("%-80s missing from the run", name);
+        System.out.println(line);
+        failures.add(line);
+      }
+    }
+    return failures;
+  }
+
+  // throughput drops when a benchmark slows down, every other mode measures time per operation
+  private static double slowdown(String mode, double score, double baseScore) {
+    if ("thrpt".equals(mode)) {
+      return (baseScore - score) / baseScore;
+    }
+    return (score - baseScore) / baseScore;
+  }
+
+  private static Map<String, JsonNode> read(File file) throws IOException {
+    Map<String, JsonNode> runs = new LinkedHashMap<>();
+    for (JsonNode run : new ObjectMapper().readTree(file)) {
+      runs.put(key(run), run);
+    }
+    return runs;
+  }
+
+  private static String key(JsonNode run) {
+    StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+    Map<String, String> params = new TreeMap<>();
+    run.path("params")
+        .fields()
+        .forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+    params.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+    return key.toString();
+  }
+}
@@ -0,0 +1,60 @@
+package io.spring.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BaselineComparisonTest {
+  @TempDir Path dir;
+
+  @Test
+  public void should_pass_runs_within_the_threshold() throws IOException {
+    File baseline = write("baseline.json", run("a", "avgt", 10), run("b", "thrpt", 100));
+    File results = write("results.json", run("a", "avgt", 11), run("b", "thrpt", 90));
+
+    assertThat(BaselineComparison.compare(results, baseline, 0.2)).isEmpty();
+  }
+
+  @Test
+  public void should_fail_slower_runs_in_either_mode() throws IOException {
+    File baseline = write("baseline.json", run("a", "avgt", 10), run("b", "thrpt", 100));
+    File results = write("results.json", run("a", "avgt", 13), run("b", "thrpt", 70));
+
+    List<String> failures = BaselineComparison.compare(results, baseline, 0.2);
+
+    assertThat(failures).hasSize(2);
+    assertThat(failures.get(0)).startsWith("a ");
+    assertThat(failures.get(1)).startsWith("b ");
+  }
+
+  @Test
+  public void should_fail_baseline_benchmarks_missing_from_the_run() throws IOException {
+    File baseline = write("baseline.json", run("a", "avgt", 10), run("b", "avgt", 10));
+    File results = write("results.json", run("a", "avgt", 10), run("c", "avgt", 50));
+
+    List<String> failures = BaselineComparison.compare(results, baseline, 0.2);
+
+    assertThat(failures).hasSize(1);
+    assertThat(failures.get(0)).startsWith("b ").endsWith("missing from the run");
+  }
+
+  private File write(String name, String... runs) throws IOException {
+    Path file = dir.resolve(name);
+    Files.write(file, ("[" + String.join(",", runs) + "]").getBytes(StandardCharsets.UTF_8));
+    return file.toFile();
+  }
+
+  private static String run(String benchmark, String mode, double score) {
+    return String.format(
+        "{\"benchmark\":\"%s\",\"mode\":\"%s\",\"params\":{},"
+            + "\"primaryMetric\":{\"score\":%s,\"scoreUnit\":\"us/op\"}}",
+        benchmark, mode, score);
+  }
+}
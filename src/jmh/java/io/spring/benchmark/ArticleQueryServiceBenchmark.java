@@ -0,0 +1,216 @@
+package io.spring.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spring.application.ArticleCountService;
+import io.spring.application.ArticleCursor;
+import io.spring.application.ArticleDataCache;
+import io.spring.application.ArticleFetchPlan;
+import io.spring.application.ArticleQueryService;
+import io.spring.application.CursorPageParameter;
+import io.spring.application.CursorPager;
+import io.spring.application.CursorPager.Direction;
+import io.spring.application.Page;
+import io.spring.application.data.ArticleData;
+import io.spring.application.data.ArticleDataList;
+import io.spring.application.data.ArticleFavoriteCount;
+import io.spring.core.article.Tag;
+import io.spring.core.user.User;
+import io.spring.infrastructure.favorite.FavoriteFilter;
+import io.spring.infrastructure.mybatis.readservice.ArticleFavoritesReadService;
+import io.spring.infrastructure.mybatis.readservice.ArticleReadService;
+import io.spring.infrastructure.mybatis.readservice.UserRelationshipQueryService;
+import io.spring.infrastructure.tag.TagDictionary;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Builds a signed-in list page over read services that answer from memory, so only the work
+ * around the queries is measured: paging, tag sharing, and merging favorites and follows into
+ * the rows. The favorite filter is left unbuilt, as right after startup, so every row is a
+ * candidate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArticleQueryServiceBenchmark {
+  @Param({"20", "100"})
+  public int pageSize;
+
+  private ArticleQueryService articleQueryService;
+  private CursorPageParameter<ArticleCursor> page;
+  private User user;
+  private List<ArticleData> articles;
+
+  @Setup
+  public void setUp() {
+    articles = SampleArticles.page(pageSize + 1);
+    InMemoryReadServices readServices = new InMemoryReadServices(articles);
+    TagDictionary tagDictionary =
+        new TagDictionary(
+            () ->
+                articles.stream()
+                    .flatMap(article -> article.getTagList().stream())
+                    .distinct()
+                    .map(Tag::new)
+                    .collect(Collectors.toList()));
+    tagDictionary.reload();
+    articleQueryService =
+        new ArticleQueryService(
+            readServices,
+            readServices.relationships,
+            readServices.favorites,
+            new ArticleCountService(readServices, tagDictionary, 10000, 60, 100000),
+            new FavoriteFilter(null, null, new SimpleMeterRegistry(), 0.01, 5000),
+            tagDictionary,
+            new ArticleDataCache(0, 300, new SimpleMeterRegistry()));
+    page = new CursorPageParameter<>(null, pageSize, Direction.NEXT);
+    user = new User("reader@example.com", "reader", "123", "", "");
+  }
+
+  @Benchmark
+  public ArticleDataList recentArticles() {
+    return articleQueryService.findRecentArticles(null, null, null, page, user);
+  }
+
+  @Benchmark
+  public CursorPager<ArticleData> cursorPager() {
+    return new CursorPager<>(articles, Direction.NEXT, true);
+  }
+
+  private static class InMemoryReadServices implements ArticleReadService {
+    private final List<ArticleData> articles;
+    private final List<String> ids;
+    private final ArticleFavoritesReadService favorites;
+    private final UserRelationshipQueryService relationships;
+
+    private InMemoryReadServices(List<ArticleData> articles) {
+      this.articles = articles;
+      this.ids = articles.stream().map(ArticleData::getId).collect(Collectors.toList());
+      // every other article is a favorite and every other author is followed
+      Set<String> favorited = new HashSet<>();
+      for (int i = 0; i < ids.size(); i += 2) {
+        favorited.add(ids.get(i));
+      }
+      this.favorites =
+          new ArticleFavoritesReadService() {
+            @Override
+            public boolean isUserFavorite(String userId, String articleId) {
+              return favorited.contains(articleId);
+            }
+
+            @Override
+            public int articleFavoriteCount(String articleId) {
+              return 3;
+            }
+
+            @Override
+            public List<ArticleFavoriteCount> articlesFavoriteCount(List<String> ids) {
+              return ids.stream()
+                  .map(id -> new ArticleFavoriteCount(id, 3))
+                  .collect(Collectors.toList());
+            }
+
+            @Override
+            public Set<String> userFavorites(List<String> ids, User currentUser) {
+              return ids.stream().filter(favorited::contains).collect(Collectors.toSet());
+            }
+          };
+      this.relationships =
+          new UserRelationshipQueryService() {
+            @Override
+            public boolean isUserFollowing(String userId, String anotherUserId) {
+              return anotherUserId.hashCode() % 2 == 0;
+            }
+
+            @Override
+            public Set<String> followingAuthors(String userId, List<String> ids) {
+              return ids.stream()
+                  .filter(id -> isUserFollowing(userId, id))
+                  .collect(Collectors.toSet());
+            }
+
+            @Override
+            public List<String> followedUsers(String userId) {
+              return Collections.emptyList();
+            }
+          };
+    }
+
+    @Override
+    public List<String> findArticlesWithCursor(
+        String tag, String tagId, String author, String favoritedBy, CursorPageParameter page) {
+      return new ArrayList<>(ids.subList(0, Math.min(ids.size(), page.getQueryLimit())));
+    }
+
+    @Override
+    public List<ArticleData> findArticles(List<String> articleIds, ArticleFetchPlan plan) {
+      return new ArrayList<>(articles.subList(0, articleIds.size()));
+    }
+
+    @Override
+    public int countArticle(String tag, String tagId, String author, String favoritedBy) {
+      return 1000;
+    }
+
+    @Override
+    public long estimateArticleCount() {
+      return 1000;
+    }
+
+    @Override
+    public ArticleData findById(String id) {
+      return null;
+    }
+
+    @Override
+    public ArticleData findBySlug(String slug) {
+      return null;
+    }
+
+    @Override
+    public boolean existsBySlug(String slug) {
+      return false;
+    }
+
+    @Override
+    public List<String> queryArticles(
+        String tag, String tagId, String author, String favoritedBy, Page page) {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public List<ArticleData> findArticlesOfAuthors(
+        List<String> authors, Page page, ArticleFetchPlan plan) {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public List<String> findTimelineWithCursor(String userId, CursorPageParameter page) {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public int countFeedSize(List<String> authors) {
+      return 0;
+    }
+  }
+}
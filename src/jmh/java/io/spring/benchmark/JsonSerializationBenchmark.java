@@ -0,0 +1,64 @@
+package io.spring.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.JacksonCustomizations.RealWorldModules;
+import io.spring.application.data.ArticleDataList;
+import java.util.concurrent.TimeUnit;
+import org.joda.time.DateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writes list pages and timestamps the way the REST responses do, with the application's
+ * DateTime serializer registered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+  private ObjectMapper objectMapper;
+  private DateTime dateTime;
+
+  @Setup
+  public void setUp() {
+    objectMapper = new ObjectMapper().registerModule(new RealWorldModules());
+    dateTime = new DateTime(2022, 3, 1, 12, 0);
+  }
+
+  @Benchmark
+  public byte[] articleDataList(ListPage page) throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(page.articleDataList);
+  }
+
+  @Benchmark
+  public String dateTime() throws JsonProcessingException {
+    return objectMapper.writeValueAsString(dateTime);
+  }
+
+  @State(Scope.Benchmark)
+  public static class ListPage {
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ArticleDataList articleDataList;
+
+    @Setup
+    public void setUp() {
+      articleDataList =
+          new ArticleDataList(SampleArticles.page(pageSize), 1000, "1646136000000", null);
+    }
+  }
+}
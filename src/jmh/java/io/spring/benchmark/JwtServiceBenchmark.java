@@ -0,0 +1,53 @@
+package io.spring.benchmark;
+
+import io.spring.core.user.User;
+import io.spring.infrastructure.service.DefaultJwtService;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Compares token verification and issuance with the verified-token cache on and off. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+  private static final String SECRET =
+      "nRvyYC4soFxBdZ-F-5Nnzz5USXstR1YylsTd-mA0aKtI9HUlriGrtkf-TiuDapkLiUCogO3JOK7kwZisrHp6wA";
+
+  @Param({"0", "10000"})
+  public int cacheSize;
+
+  private DefaultJwtService jwtService;
+  private User user;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jwtService = new DefaultJwtService(SECRET, 86400, cacheSize);
+    user = new User("bench@example.com", "bench", "123", "", "");
+    token = jwtService.toToken(user);
+  }
+
+  @Benchmark
+  public Optional<String> verify() {
+    return jwtService.getSubFromToken(token);
+  }
+
+  @Benchmark
+  public String sign() {
+    return jwtService.toToken(user);
+  }
+}
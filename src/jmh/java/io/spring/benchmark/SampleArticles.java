@@ -0,0 +1,39 @@
+package io.spring.benchmark;
+
+import io.spring.application.data.ArticleData;
+import io.spring.application.data.ProfileData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.joda.time.DateTime;
+
+/** Article rows shaped like a list page: a few authors and tags shared between articles. */
+final class SampleArticles {
+  private static final DateTime NEWEST = new DateTime(2022, 3, 1, 12, 0);
+
+  private SampleArticles() {}
+
+  static List<ArticleData> page(int size) {
+    List<ArticleData> articles = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      articles.add(article(i));
+    }
+    return articles;
+  }
+
+  static ArticleData article(int i) {
+    DateTime createdAt = NEWEST.minusMinutes(i);
+    return new ArticleData(
+        "article-" + i,
+        "how-to-train-your-dragon-" + i,
+        "How to train your dragon " + i,
+        "Ever wonder how?",
+        null,
+        false,
+        0,
+        createdAt,
+        createdAt,
+        new ArrayList<>(Arrays.asList("dragons", "training", "tag-" + i % 7)),
+        new ProfileData("user-" + i % 5, "author" + i % 5, "bio", "image.png", false));
+  }
+}
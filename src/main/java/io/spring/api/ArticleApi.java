@@ -56,8 +56,7 @@ public class ArticleApi {
               Article updatedArticle =
                   articleCommandService.updateArticle(article, updateArticleParam);
               return ResponseEntity.ok(
-                  articleResponse(
-                      articleQueryService.findBySlug(updatedArticle.getSlug(), user).get()));
+                  articleResponse(articleQueryService.writtenArticle(updatedArticle, user)));
             })
         .orElseThrow(ResourceNotFoundException::new);
   }
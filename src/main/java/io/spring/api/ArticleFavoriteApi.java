@@ -3,8 +3,6 @@ package io.spring.api;
 import io.spring.api.exception.ResourceNotFoundException;
 import io.spring.application.ArticleQueryService;
 import io.spring.application.data.ArticleData;
-import io.spring.core.article.Article;
-import io.spring.core.article.ArticleRepository;
 import io.spring.core.favorite.ArticleFavorite;
 import io.spring.core.favorite.ArticleFavoriteRepository;
 import io.spring.core.user.User;
@@ -23,31 +21,25 @@ import org.springframework.web.bind.annotation.RestController;
 @AllArgsConstructor
 public class ArticleFavoriteApi {
   private ArticleFavoriteRepository articleFavoriteRepository;
-  private ArticleRepository articleRepository;
   private ArticleQueryService articleQueryService;
 
   @PostMapping
   public ResponseEntity favoriteArticle(
       @PathVariable("slug") String slug, @AuthenticationPrincipal User user) {
-    Article article =
-        articleRepository.findBySlug(slug).orElseThrow(ResourceNotFoundException::new);
-    ArticleFavorite articleFavorite = new ArticleFavorite(article.getId(), user.getId());
-    articleFavoriteRepository.save(articleFavorite);
-    return responseArticleData(articleQueryService.findBySlug(slug, user).get());
+    ArticleData articleData =
+        articleQueryService.findBySlug(slug, null).orElseThrow(ResourceNotFoundException::new);
+    articleFavoriteRepository.save(new ArticleFavorite(articleData.getId(), user.getId()));
+    return responseArticleData(articleQueryService.withFavorite(articleData, user, true));
   }
 
   @DeleteMapping
   public ResponseEntity unfavoriteArticle(
       @PathVariable("slug") String slug, @AuthenticationPrincipal User user) {
-    Article article =
-        articleRepository.findBySlug(slug).orElseThrow(ResourceNotFoundException::new);
-    articleFavoriteRepository
-        .find(article.getId(), user.getId())
-        .ifPresent(
-            favorite -> {
-              articleFavoriteRepository.remove(favorite);
-            });
-    return responseArticleData(articleQueryService.findBySlug(slug, user).get());
+    ArticleData articleData =
+        articleQueryService.findBySlug(slug, null).orElseThrow(ResourceNotFoundException::new);
+    // removing a favorite that does not exist is a no-op, so there is nothing to look up first
+    articleFavoriteRepository.remove(new ArticleFavorite(articleData.getId(), user.getId()));
+    return responseArticleData(articleQueryService.withFavorite(articleData, user, false));
   }
 
   private ResponseEntity<HashMap<String, Object>> responseArticleData(
@@ -1,6 +1,11 @@
 package io.spring.api;
 
+import io.spring.api.exception.InvalidRequestException;
+import io.spring.application.ArticleCursor;
+import io.spring.application.ArticleFetchPlan;
 import io.spring.application.ArticleQueryService;
+import io.spring.application.CursorPageParameter;
+import io.spring.application.CursorPager.Direction;
 import io.spring.application.Page;
 import io.spring.application.article.ArticleCommandService;
 import io.spring.application.article.NewArticleParam;
@@ -8,9 +13,11 @@ import io.spring.core.article.Article;
 import io.spring.core.user.User;
 import java.util.HashMap;
 import javax.validation.Valid;
-import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.MapBindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -20,10 +27,20 @@ import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping(path = "/articles")
-@AllArgsConstructor
 public class ArticlesApi {
   private ArticleCommandService articleCommandService;
   private ArticleQueryService articleQueryService;
+  private int maxOffset;
+
+  @Autowired
+  public ArticlesApi(
+      ArticleCommandService articleCommandService,
+      ArticleQueryService articleQueryService,
+      @Value("${articles.pagination.maxOffset:1000}") int maxOffset) {
+    this.articleCommandService = articleCommandService;
+    this.articleQueryService = articleQueryService;
+    this.maxOffset = maxOffset;
+  }
 
   @PostMapping
   public ResponseEntity createArticle(
@@ -32,7 +49,7 @@ public class ArticlesApi {
     return ResponseEntity.ok(
         new HashMap<String, Object>() {
           {
-            put("article", articleQueryService.findById(article.getId(), user).get());
+            put("article", articleQueryService.writtenArticle(article, user));
           }
         });
   }
@@ -41,20 +58,72 @@ public class ArticlesApi {
   public ResponseEntity getFeed(
       @RequestParam(value = "offset", defaultValue = "0") int offset,
       @RequestParam(value = "limit", defaultValue = "20") int limit,
+      @RequestParam(value = "after", required = false) String after,
+      @RequestParam(value = "before", required = false) String before,
       @AuthenticationPrincipal User user) {
-    return ResponseEntity.ok(articleQueryService.findUserFeed(user, new Page(offset, limit)));
+    if (after != null || before != null) {
+      return ResponseEntity.ok(
+          articleQueryService.findUserFeed(
+              user, cursorPage(after, before, limit), ArticleFetchPlan.SUMMARY));
+    }
+    return ResponseEntity.ok(
+        articleQueryService.findUserFeed(
+            user, offsetPage(offset, limit), ArticleFetchPlan.SUMMARY));
   }
 
   @GetMapping
   public ResponseEntity getArticles(
       @RequestParam(value = "offset", defaultValue = "0") int offset,
       @RequestParam(value = "limit", defaultValue = "20") int limit,
+      @RequestParam(value = "after", required = false) String after,
+      @RequestParam(value = "before", required = false) String before,
       @RequestParam(value = "tag", required = false) String tag,
       @RequestParam(value = "favorited", required = false) String favoritedBy,
       @RequestParam(value = "author", required = false) String author,
       @AuthenticationPrincipal User user) {
+    if (after != null || before != null) {
+      return ResponseEntity.ok(
+          articleQueryService.findRecentArticles(
+              tag,
+              author,
+              favoritedBy,
+              cursorPage(after, before, limit),
+              user,
+              ArticleFetchPlan.SUMMARY));
+    }
     return ResponseEntity.ok(
         articleQueryService.findRecentArticles(
-            tag, author, favoritedBy, new Page(offset, limit), user));
+            tag, author, favoritedBy, offsetPage(offset, limit), user, ArticleFetchPlan.SUMMARY));
+  }
+
+  private Page offsetPage(int offset, int limit) {
+    // deep offsets make the database walk and discard every row in front of the page
+    if (maxOffset > 0 && offset > maxOffset) {
+      throw invalidParam(
+          "offset", "must not exceed " + maxOffset + ", page with the nextCursor as after instead");
+    }
+    return new Page(offset, limit);
+  }
+
+  private static CursorPageParameter<ArticleCursor> cursorPage(
+      String after, String before, int limit) {
+    if (after != null && before != null) {
+      throw invalidParam("before", "cannot be combined with after");
+    }
+    String field = after != null ? "after" : "before";
+    ArticleCursor cursor;
+    try {
+      cursor = ArticleCursor.parse(after != null ? after : before);
+    } catch (NumberFormatException e) {
+      throw invalidParam(field, "is not a valid cursor");
+    }
+    return new CursorPageParameter<>(
+        cursor, limit, after != null ? Direction.NEXT : Direction.PREV);
+  }
+
+  private static InvalidRequestException invalidParam(String field, String message) {
+    MapBindingResult errors = new MapBindingResult(new HashMap<>(), "page");
+    errors.rejectValue(field, "INVALID", message);
+    return new InvalidRequestException(errors);
   }
 }
@@ -47,7 +47,7 @@ public class CommentsApi {
     Comment comment = new Comment(newCommentParam.getBody(), user.getId(), article.getId());
     commentRepository.save(comment);
     return ResponseEntity.status(201)
-        .body(commentResponse(commentQueryService.findById(comment.getId(), user).get()));
+        .body(commentResponse(commentQueryService.writtenComment(comment, user)));
   }
 
   @GetMapping
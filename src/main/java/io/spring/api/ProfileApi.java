@@ -43,7 +43,7 @@ public class ProfileApi {
             target -> {
               FollowRelation followRelation = new FollowRelation(user.getId(), target.getId());
               userRepository.saveRelation(followRelation);
-              return profileResponse(profileQueryService.findByUsername(username, user).get());
+              return profileResponse(profileOf(target, true));
             })
         .orElseThrow(ResourceNotFoundException::new);
   }
@@ -54,19 +54,21 @@ public class ProfileApi {
     Optional<User> userOptional = userRepository.findByUsername(username);
     if (userOptional.isPresent()) {
       User target = userOptional.get();
-      return userRepository
-          .findRelation(user.getId(), target.getId())
-          .map(
-              relation -> {
-                userRepository.removeRelation(relation);
-                return profileResponse(profileQueryService.findByUsername(username, user).get());
-              })
-          .orElseThrow(ResourceNotFoundException::new);
+      // the delete tells whether the user was following, so the relation is not read first
+      if (!userRepository.removeRelation(new FollowRelation(user.getId(), target.getId()))) {
+        throw new ResourceNotFoundException();
+      }
+      return profileResponse(profileOf(target, false));
     } else {
       throw new ResourceNotFoundException();
     }
   }
 
+  private static ProfileData profileOf(User target, boolean following) {
+    return new ProfileData(
+        target.getId(), target.getUsername(), target.getBio(), target.getImage(), following);
+  }
+
   private ResponseEntity profileResponse(ProfileData profile) {
     return ResponseEntity.ok(
         new HashMap<String, Object>() {
@@ -1,7 +1,6 @@
 package io.spring.api.security;
 
 import io.spring.core.service.JwtService;
-import io.spring.core.user.UserRepository;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Optional;
@@ -13,40 +12,60 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 @SuppressWarnings("SpringJavaAutowiringInspection")
 public class JwtTokenFilter extends OncePerRequestFilter {
-  @Autowired private UserRepository userRepository;
+  @Autowired private UserPrincipalCache userPrincipalCache;
   @Autowired private JwtService jwtService;
   private final String header = "Authorization";
+  private final RequestMatcher optionalAuthentication;
+
+  public JwtTokenFilter(RequestMatcher optionalAuthentication) {
+    this.optionalAuthentication = optionalAuthentication;
+  }
 
   @Override
   protected void doFilterInternal(
       HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
       throws ServletException, IOException {
     getTokenString(request.getHeader(header))
-        .flatMap(token -> jwtService.getSubFromToken(token))
         .ifPresent(
-            id -> {
+            token -> {
               if (SecurityContextHolder.getContext().getAuthentication() == null) {
-                userRepository
-                    .findById(id)
-                    .ifPresent(
-                        user -> {
-                          UsernamePasswordAuthenticationToken authenticationToken =
-                              new UsernamePasswordAuthenticationToken(
-                                  user, null, Collections.emptyList());
-                          authenticationToken.setDetails(
-                              new WebAuthenticationDetailsSource().buildDetails(request));
-                          SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-                        });
+                if (optionalAuthentication.matches(request)) {
+                  authenticateLazily(request, token);
+                } else {
+                  authenticate(request, token);
+                }
               }
             });
 
     filterChain.doFilter(request, response);
   }
 
+  private void authenticateLazily(HttpServletRequest request, String token) {
+    LazyJwtAuthentication authentication =
+        new LazyJwtAuthentication(token, jwtService, userPrincipalCache);
+    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+    SecurityContextHolder.getContext().setAuthentication(authentication);
+  }
+
+  private void authenticate(HttpServletRequest request, String token) {
+    jwtService
+        .getSubFromToken(token)
+        .flatMap(id -> userPrincipalCache.findById(id))
+        .ifPresent(
+            user -> {
+              UsernamePasswordAuthenticationToken authenticationToken =
+                  new UsernamePasswordAuthenticationToken(user, null, Collections.emptyList());
+              authenticationToken.setDetails(
+                  new WebAuthenticationDetailsSource().buildDetails(request));
+              SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+            });
+  }
+
   private Optional<String> getTokenString(String header) {
     if (header == null) {
       return Optional.empty();
@@ -0,0 +1,52 @@
+package io.spring.api.security;
+
+import io.spring.core.service.JwtService;
+import io.spring.core.user.User;
+import java.util.Collections;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+
+/**
+ * Authentication for requests where a user is optional. The token is only verified and the user
+ * only loaded when something asks for the principal, so handlers that never look at the current
+ * user cost no lookup. An invalid token or unknown user resolves to a {@code null} principal,
+ * which callers already treat as anonymous.
+ */
+public class LazyJwtAuthentication extends AbstractAuthenticationToken {
+  private final String token;
+  private final JwtService jwtService;
+  private final UserPrincipalCache userPrincipalCache;
+  private volatile boolean resolved;
+  private User principal;
+
+  public LazyJwtAuthentication(
+      String token, JwtService jwtService, UserPrincipalCache userPrincipalCache) {
+    super(Collections.emptyList());
+    this.token = token;
+    this.jwtService = jwtService;
+    this.userPrincipalCache = userPrincipalCache;
+    setAuthenticated(true);
+  }
+
+  @Override
+  public Object getCredentials() {
+    return null;
+  }
+
+  @Override
+  public Object getPrincipal() {
+    if (!resolved) {
+      synchronized (this) {
+        if (!resolved) {
+          principal =
+              jwtService.getSubFromToken(token).flatMap(userPrincipalCache::findById).orElse(null);
+          resolved = true;
+        }
+      }
+    }
+    return principal;
+  }
+
+  public boolean isResolved() {
+    return resolved;
+  }
+}
@@ -0,0 +1,39 @@
+package io.spring.api.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.spring.core.user.User;
+import io.spring.core.user.UserRepository;
+import io.spring.core.user.UserUpdatedEvent;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the users resolved from tokens so that authenticated requests do not load the user row
+ * every time. Entries hold no password hash and every lookup hands out a fresh copy, because
+ * request handlers may modify their principal. Entries are dropped once a user update commits, so
+ * a request running alongside the update cannot cache the old row again, and also expire after a
+ * while to bound staleness across instances.
+ */
+public class UserPrincipalCache {
+  private final UserRepository userRepository;
+  private final Cache<String, User> principals;
+
+  public UserPrincipalCache(UserRepository userRepository, int maximumSize, Duration ttl) {
+    this.userRepository = userRepository;
+    this.principals = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).build();
+  }
+
+  public Optional<User> findById(String id) {
+    User principal =
+        principals.get(
+            id, key -> userRepository.findById(key).map(User::withoutPassword).orElse(null));
+    return Optional.ofNullable(principal).map(User::withoutPassword);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserUpdated(UserUpdatedEvent event) {
+    principals.invalidate(event.getUserId());
+  }
+}
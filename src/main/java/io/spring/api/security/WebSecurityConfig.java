@@ -2,6 +2,9 @@ package io.spring.api.security;
 
 import static java.util.Arrays.asList;
 
+import io.spring.core.user.UserRepository;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -14,6 +17,11 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -22,9 +30,31 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @EnableWebSecurity
 public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
 
+  /**
+   * Endpoints that are open to everyone but personalize their response for a signed in user. A
+   * token sent to them is resolved lazily, see {@link LazyJwtAuthentication}.
+   */
+  public static final RequestMatcher OPTIONAL_AUTHENTICATION =
+      new OrRequestMatcher(
+          new AntPathRequestMatcher("/graphql"),
+          new AndRequestMatcher(
+              new AntPathRequestMatcher("/articles/**", HttpMethod.GET.name()),
+              new NegatedRequestMatcher(
+                  new AntPathRequestMatcher("/articles/feed", HttpMethod.GET.name()))),
+          new AntPathRequestMatcher("/profiles/**", HttpMethod.GET.name()),
+          new AntPathRequestMatcher("/tags", HttpMethod.GET.name()));
+
   @Bean
   public JwtTokenFilter jwtTokenFilter() {
-    return new JwtTokenFilter();
+    return new JwtTokenFilter(OPTIONAL_AUTHENTICATION);
+  }
+
+  @Bean
+  public UserPrincipalCache userPrincipalCache(
+      UserRepository userRepository,
+      @Value("${security.principalCache.size:10000}") int size,
+      @Value("${security.principalCache.ttlSeconds:300}") long ttlSeconds) {
+    return new UserPrincipalCache(userRepository, size, Duration.ofSeconds(ttlSeconds));
   }
 
   @Bean
@@ -50,13 +80,9 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
         .permitAll()
         .antMatchers("/graphiql")
         .permitAll()
-        .antMatchers("/graphql")
-        .permitAll()
-        .antMatchers(HttpMethod.GET, "/articles/feed")
-        .authenticated()
         .antMatchers(HttpMethod.POST, "/users", "/users/login")
         .permitAll()
-        .antMatchers(HttpMethod.GET, "/articles/**", "/profiles/**", "/tags")
+        .requestMatchers(OPTIONAL_AUTHENTICATION)
         .permitAll()
         .anyRequest()
         .authenticated();
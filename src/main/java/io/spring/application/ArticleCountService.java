@@ -0,0 +1,107 @@
+package io.spring.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.spring.application.data.ArticleCount;
+import io.spring.core.article.ArticleChangedEvent;
+import io.spring.core.favorite.ArticleFavoriteChangedEvent;
+import io.spring.infrastructure.mybatis.readservice.ArticleReadService;
+import io.spring.infrastructure.tag.TagDictionary;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Counts articles for the list endpoints. Exact counts are cached per filter and per feed author
+ * set, and dropped once an article or favorite write commits. The unfiltered total comes from
+ * the planner statistics once the table is big enough that counting it exactly is not worth it.
+ */
+@Service
+public class ArticleCountService {
+  private final ArticleReadService articleReadService;
+  private final TagDictionary tagDictionary;
+  private final Cache<ArticleFilter, ArticleCount> articleCounts;
+  private final Cache<List<String>, ArticleCount> feedCounts;
+  private final long estimateThreshold;
+
+  @Autowired
+  public ArticleCountService(
+      ArticleReadService articleReadService,
+      TagDictionary tagDictionary,
+      @Value("${articles.count.cacheSize:10000}") int cacheSize,
+      @Value("${articles.count.ttlSeconds:60}") long ttlSeconds,
+      @Value("${articles.count.estimateThreshold:100000}") long estimateThreshold) {
+    this.articleReadService = articleReadService;
+    this.tagDictionary = tagDictionary;
+    this.articleCounts = cacheSize > 0 ? newCache(cacheSize, ttlSeconds) : null;
+    this.feedCounts = cacheSize > 0 ? newCache(cacheSize, ttlSeconds) : null;
+    this.estimateThreshold = estimateThreshold;
+  }
+
+  public ArticleCount countArticles(String tag, String author, String favoritedBy) {
+    return cached(
+        articleCounts,
+        new ArticleFilter(tag, author, favoritedBy),
+        filter -> {
+          if (filter.isUnfiltered() && estimateThreshold > 0) {
+            long estimate = articleReadService.estimateArticleCount();
+            if (estimate >= estimateThreshold) {
+              return ArticleCount.estimate(estimate);
+            }
+          }
+          return ArticleCount.exact(
+              articleReadService.countArticle(tag, tagDictionary.idOf(tag), author, favoritedBy));
+        });
+  }
+
+  public ArticleCount countFeed(List<String> authors) {
+    List<String> key = new ArrayList<>(authors);
+    Collections.sort(key);
+    return cached(
+        feedCounts, key, ignored -> ArticleCount.exact(articleReadService.countFeedSize(authors)));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onArticleChanged(ArticleChangedEvent event) {
+    if (articleCounts != null) {
+      articleCounts.invalidateAll();
+      feedCounts.invalidateAll();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onArticleFavoriteChanged(ArticleFavoriteChangedEvent event) {
+    if (articleCounts != null) {
+      articleCounts.asMap().keySet().removeIf(filter -> filter.getFavoritedBy() != null);
+    }
+  }
+
+  private static <K> ArticleCount cached(
+      Cache<K, ArticleCount> cache, K key, Function<K, ArticleCount> loader) {
+    return cache == null ? loader.apply(key) : cache.get(key, loader);
+  }
+
+  private static <K> Cache<K, ArticleCount> newCache(int cacheSize, long ttlSeconds) {
+    return Caffeine.newBuilder()
+        .maximumSize(cacheSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .build();
+  }
+
+  @lombok.Value
+  private static class ArticleFilter {
+    private String tag;
+    private String author;
+    private String favoritedBy;
+
+    boolean isUnfiltered() {
+      return tag == null && author == null && favoritedBy == null;
+    }
+  }
+}
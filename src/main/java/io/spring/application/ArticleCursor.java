@@ -0,0 +1,68 @@
+package io.spring.application;
+
+import java.util.Objects;
+import org.joda.time.DateTime;
+
+/**
+ * Position of an article in created-at order. Articles created in the same millisecond are told
+ * apart by their id, so a page boundary between them neither skips nor repeats one.
+ */
+public class ArticleCursor extends PageCursor<DateTime> {
+  private static final char SEPARATOR = '_';
+
+  private final String id;
+
+  public ArticleCursor(DateTime createdAt, String id) {
+    super(createdAt);
+    this.id = id;
+  }
+
+  public DateTime getCreatedAt() {
+    return getData();
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ArticleCursor)) {
+      return false;
+    }
+    ArticleCursor other = (ArticleCursor) o;
+    return Objects.equals(getData(), other.getData()) && Objects.equals(id, other.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getData(), id);
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(getData().getMillis()) + SEPARATOR + id;
+  }
+
+  /**
+   * Parses the form written by {@link #toString()}. A bare timestamp, as handed out before ids
+   * were added, parses with no id and then pages strictly before or after that millisecond.
+   */
+  public static ArticleCursor parse(String cursor) {
+    if (cursor == null) {
+      return null;
+    }
+    int separator = cursor.indexOf(SEPARATOR);
+    if (separator < 0) {
+      return new ArticleCursor(DateTimeCursor.parse(cursor), null);
+    }
+    if (separator == cursor.length() - 1) {
+      throw new NumberFormatException("cursor has no id: " + cursor);
+    }
+    return new ArticleCursor(
+        DateTimeCursor.parse(cursor.substring(0, separator)), cursor.substring(separator + 1));
+  }
+}
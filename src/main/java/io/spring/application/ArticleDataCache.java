@@ -0,0 +1,183 @@
+package io.spring.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.spring.application.data.ArticleData;
+import io.spring.application.data.ProfileData;
+import io.spring.core.article.ArticleChangedEvent;
+import io.spring.core.user.UserUpdatedEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the shared part of single-article reads, i.e. the {@link ArticleData} before anything
+ * about the current user is filled in. Entries are weighed by their text so a few long bodies
+ * cannot crowd out many short articles. Every read hands out a fresh copy, because callers fill
+ * in per-user fields. Entries are dropped once an article or author write commits and also expire
+ * after a while to bound staleness across instances. Hits, misses and evictions are published as
+ * the {@code cache.*} meters tagged {@code cache=articles}.
+ */
+@Component
+public class ArticleDataCache {
+  // rough size of an entry besides its text: the objects, dates, ids and tag list
+  private static final int ENTRY_OVERHEAD = 512;
+
+  private final Cache<String, ArticleData> articles;
+  // slugs resolve to ids, so each article is stored and weighed once
+  private final Cache<String, String> slugs;
+  // bumped before every invalidation, so a load that read the row earlier can tell
+  private final AtomicLong invalidations = new AtomicLong();
+
+  @Autowired
+  public ArticleDataCache(
+      @Value("${articles.cache.maxBytes:67108864}") long maxBytes,
+      @Value("${articles.cache.ttlSeconds:300}") long ttlSeconds,
+      MeterRegistry meterRegistry) {
+    this(maxBytes, ttlSeconds, meterRegistry, ForkJoinPool.commonPool());
+  }
+
+  /** Eviction runs on {@code executor}; tests pass a direct one to observe it synchronously. */
+  ArticleDataCache(
+      long maxBytes, long ttlSeconds, MeterRegistry meterRegistry, Executor executor) {
+    if (maxBytes > 0) {
+      this.articles =
+          Caffeine.newBuilder()
+              .executor(executor)
+              .maximumWeight(maxBytes)
+              .weigher((String id, ArticleData articleData) -> weigh(articleData))
+              .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+              .recordStats()
+              .build();
+      this.slugs =
+          Caffeine.newBuilder()
+              .maximumSize(maxBytes / ENTRY_OVERHEAD)
+              .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+              .build();
+      CaffeineCacheMetrics.monitor(meterRegistry, articles, "articles");
+    } else {
+      this.articles = null;
+      this.slugs = null;
+    }
+  }
+
+  public ArticleData findById(String id, Function<String, ArticleData> loader) {
+    if (articles == null) {
+      return loader.apply(id);
+    }
+    long seen = invalidations.get();
+    boolean[] loaded = new boolean[1];
+    ArticleData articleData =
+        articles.get(
+            id,
+            key -> {
+              loaded[0] = true;
+              return loader.apply(key);
+            });
+    // an author update removes entries by scanning them, which does not see a load in flight
+    if (loaded[0] && articleData != null) {
+      dropIfInvalidatedSince(seen, id);
+    }
+    return copy(articleData);
+  }
+
+  public ArticleData findBySlug(String slug, Function<String, ArticleData> loader) {
+    if (articles == null) {
+      return loader.apply(slug);
+    }
+    String id = slugs.getIfPresent(slug);
+    ArticleData articleData = id == null ? null : articles.getIfPresent(id);
+    // the slug changes with the title, so an entry found through an old slug does not count
+    if (articleData == null || !slug.equals(articleData.getSlug())) {
+      long seen = invalidations.get();
+      articleData = loader.apply(slug);
+      if (articleData == null) {
+        return null;
+      }
+      articles.put(articleData.getId(), articleData);
+      slugs.put(slug, articleData.getId());
+      dropIfInvalidatedSince(seen, articleData.getId());
+    }
+    return copy(articleData);
+  }
+
+  // an invalidation that ran during the load missed the entry it stored, so drop that here
+  private void dropIfInvalidatedSince(long seen, String id) {
+    if (invalidations.get() != seen) {
+      articles.invalidate(id);
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onArticleChanged(ArticleChangedEvent event) {
+    if (articles != null) {
+      invalidations.incrementAndGet();
+      articles.invalidate(event.getArticleId());
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserUpdated(UserUpdatedEvent event) {
+    if (articles != null) {
+      invalidations.incrementAndGet();
+      articles
+          .asMap()
+          .values()
+          .removeIf(articleData -> event.getUserId().equals(articleData.getProfileData().getId()));
+    }
+  }
+
+  private static int weigh(ArticleData articleData) {
+    long weight =
+        ENTRY_OVERHEAD
+            + length(articleData.getBody())
+            + length(articleData.getTitle())
+            + length(articleData.getDescription())
+            + length(articleData.getSlug());
+    if (articleData.getTagList() != null) {
+      for (String tag : articleData.getTagList()) {
+        weight += tag.length();
+      }
+    }
+    ProfileData profile = articleData.getProfileData();
+    weight += length(profile.getUsername()) + length(profile.getBio()) + length(profile.getImage());
+    return (int) Math.min(Integer.MAX_VALUE, weight);
+  }
+
+  private static int length(String value) {
+    return value == null ? 0 : value.length();
+  }
+
+  private static ArticleData copy(ArticleData articleData) {
+    if (articleData == null) {
+      return null;
+    }
+    ProfileData profile = articleData.getProfileData();
+    return new ArticleData(
+        articleData.getId(),
+        articleData.getSlug(),
+        articleData.getTitle(),
+        articleData.getDescription(),
+        articleData.getBody(),
+        articleData.isFavorited(),
+        articleData.getFavoritesCount(),
+        articleData.getCreatedAt(),
+        articleData.getUpdatedAt(),
+        articleData.getTagList() == null ? null : new ArrayList<>(articleData.getTagList()),
+        new ProfileData(
+            profile.getId(),
+            profile.getUsername(),
+            profile.getBio(),
+            profile.getImage(),
+            profile.isFollowing()));
+  }
+}
@@ -0,0 +1,21 @@
+package io.spring.application;
+
+import lombok.Value;
+
+/**
+ * Describes which parts of an article a caller is going to read. Parts that are not requested are
+ * neither selected nor enriched, which saves the matching SQL round trips.
+ */
+@Value
+public class ArticleFetchPlan {
+  public static final ArticleFetchPlan FULL = new ArticleFetchPlan(true, true, true, true, true);
+  // list pages never show the body, which is most of an article's bytes
+  public static final ArticleFetchPlan SUMMARY =
+      new ArticleFetchPlan(true, true, true, true, false);
+
+  private boolean favoritesCount;
+  private boolean favorited;
+  private boolean following;
+  private boolean tags;
+  private boolean body;
+}
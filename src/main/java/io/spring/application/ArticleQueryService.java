@@ -2,13 +2,19 @@ package io.spring.application;
 
 import static java.util.stream.Collectors.toList;
 
+import io.spring.application.data.ArticleCount;
 import io.spring.application.data.ArticleData;
 import io.spring.application.data.ArticleDataList;
 import io.spring.application.data.ArticleFavoriteCount;
+import io.spring.application.data.ProfileData;
+import io.spring.core.article.Article;
+import io.spring.core.article.Tag;
 import io.spring.core.user.User;
+import io.spring.infrastructure.favorite.FavoriteFilter;
 import io.spring.infrastructure.mybatis.readservice.ArticleFavoritesReadService;
 import io.spring.infrastructure.mybatis.readservice.ArticleReadService;
 import io.spring.infrastructure.mybatis.readservice.UserRelationshipQueryService;
+import io.spring.infrastructure.tag.TagDictionary;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -17,48 +23,112 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import lombok.AllArgsConstructor;
-import org.joda.time.DateTime;
 import org.springframework.stereotype.Service;
 
 @Service
 @AllArgsConstructor
 public class ArticleQueryService {
+  // a writer already knows everything but the favorite state of what it wrote
+  private static final ArticleFetchPlan AFTER_WRITE =
+      new ArticleFetchPlan(true, true, true, false, false);
+  private static final ArticleFetchPlan AFTER_FAVORITE =
+      new ArticleFetchPlan(true, false, true, false, false);
+
   private ArticleReadService articleReadService;
   private UserRelationshipQueryService userRelationshipQueryService;
   private ArticleFavoritesReadService articleFavoritesReadService;
+  private ArticleCountService articleCountService;
+  private FavoriteFilter favoriteFilter;
+  private TagDictionary tagDictionary;
+  private ArticleDataCache articleDataCache;
 
   public Optional<ArticleData> findById(String id, User user) {
-    ArticleData articleData = articleReadService.findById(id);
+    return findById(id, user, ArticleFetchPlan.FULL);
+  }
+
+  public Optional<ArticleData> findById(String id, User user, ArticleFetchPlan plan) {
+    ArticleData articleData =
+        articleDataCache.findById(id, key -> shareTags(articleReadService.findById(key)));
     if (articleData == null) {
       return Optional.empty();
     } else {
       if (user != null) {
-        fillExtraInfo(id, user, articleData);
+        fillExtraInfo(id, user, articleData, plan);
       }
       return Optional.of(articleData);
     }
   }
 
+  /** Answered from the slug index alone, without reading the article. */
+  public boolean existsBySlug(String slug) {
+    return articleReadService.existsBySlug(slug);
+  }
+
   public Optional<ArticleData> findBySlug(String slug, User user) {
-    ArticleData articleData = articleReadService.findBySlug(slug);
+    return findBySlug(slug, user, ArticleFetchPlan.FULL);
+  }
+
+  public Optional<ArticleData> findBySlug(String slug, User user, ArticleFetchPlan plan) {
+    ArticleData articleData =
+        articleDataCache.findBySlug(slug, key -> shareTags(articleReadService.findBySlug(key)));
     if (articleData == null) {
       return Optional.empty();
     } else {
       if (user != null) {
-        fillExtraInfo(articleData.getId(), user, articleData);
+        fillExtraInfo(articleData.getId(), user, articleData, plan);
       }
       return Optional.of(articleData);
     }
   }
 
+  /** Builds the response for an article its author just saved from the article in hand. */
+  public ArticleData writtenArticle(Article article, User author) {
+    ArticleData articleData =
+        new ArticleData(
+            article.getId(),
+            article.getSlug(),
+            article.getTitle(),
+            article.getDescription(),
+            article.getBody(),
+            false,
+            0,
+            article.getCreatedAt(),
+            article.getUpdatedAt(),
+            // in the order reads list them, so a write and the next read agree
+            article.getTags().stream().map(Tag::getName).sorted().collect(toList()),
+            new ProfileData(
+                author.getId(), author.getUsername(), author.getBio(), author.getImage(), false));
+    fillExtraInfo(article.getId(), author, articleData, AFTER_WRITE);
+    return articleData;
+  }
+
+  /** Fills in the user's fields of an article the user just favorited or unfavorited. */
+  public ArticleData withFavorite(ArticleData articleData, User user, boolean favorited) {
+    articleData.setFavorited(favorited);
+    fillExtraInfo(articleData.getId(), user, articleData, AFTER_FAVORITE);
+    return articleData;
+  }
+
   public CursorPager<ArticleData> findRecentArticlesWithCursor(
       String tag,
       String author,
       String favoritedBy,
-      CursorPageParameter<DateTime> page,
+      CursorPageParameter<ArticleCursor> page,
       User currentUser) {
+    return findRecentArticlesWithCursor(
+        tag, author, favoritedBy, page, currentUser, ArticleFetchPlan.FULL);
+  }
+
+  public CursorPager<ArticleData> findRecentArticlesWithCursor(
+      String tag,
+      String author,
+      String favoritedBy,
+      CursorPageParameter<ArticleCursor> page,
+      User currentUser,
+      ArticleFetchPlan plan) {
     List<String> articleIds =
-        articleReadService.findArticlesWithCursor(tag, author, favoritedBy, page);
+        articleReadService.findArticlesWithCursor(
+            tag, tagDictionary.idOf(tag), author, favoritedBy, page);
     if (articleIds.size() == 0) {
       return new CursorPager<>(new ArrayList<>(), page.getDirection(), false);
     } else {
@@ -70,63 +140,152 @@ public class ArticleQueryService {
         Collections.reverse(articleIds);
       }
 
-      List<ArticleData> articles = articleReadService.findArticles(articleIds);
-      fillExtraInfo(articles, currentUser);
+      List<ArticleData> articles = articleReadService.findArticles(articleIds, plan);
+      fillExtraInfo(articles, currentUser, plan);
 
       return new CursorPager<>(articles, page.getDirection(), hasExtra);
     }
   }
 
   public CursorPager<ArticleData> findUserFeedWithCursor(
-      User user, CursorPageParameter<DateTime> page) {
-    List<String> followdUsers = userRelationshipQueryService.followedUsers(user.getId());
-    if (followdUsers.size() == 0) {
+      User user, CursorPageParameter<ArticleCursor> page) {
+    return findUserFeedWithCursor(user, page, ArticleFetchPlan.FULL);
+  }
+
+  public CursorPager<ArticleData> findUserFeedWithCursor(
+      User user, CursorPageParameter<ArticleCursor> page, ArticleFetchPlan plan) {
+    List<String> articleIds = articleReadService.findTimelineWithCursor(user.getId(), page);
+    if (articleIds.size() == 0) {
       return new CursorPager<>(new ArrayList<>(), page.getDirection(), false);
     } else {
-      List<ArticleData> articles =
-          articleReadService.findArticlesOfAuthorsWithCursor(followdUsers, page);
-      boolean hasExtra = articles.size() > page.getLimit();
+      boolean hasExtra = articleIds.size() > page.getLimit();
       if (hasExtra) {
-        articles.remove(page.getLimit());
+        articleIds.remove(page.getLimit());
       }
       if (!page.isNext()) {
-        Collections.reverse(articles);
+        Collections.reverse(articleIds);
       }
-      fillExtraInfo(articles, user);
+      List<ArticleData> articles = articleReadService.findArticles(articleIds, plan);
+      fillExtraInfo(articles, user, plan);
       return new CursorPager<>(articles, page.getDirection(), hasExtra);
     }
   }
 
   public ArticleDataList findRecentArticles(
       String tag, String author, String favoritedBy, Page page, User currentUser) {
-    List<String> articleIds = articleReadService.queryArticles(tag, author, favoritedBy, page);
-    int articleCount = articleReadService.countArticle(tag, author, favoritedBy);
+    return findRecentArticles(tag, author, favoritedBy, page, currentUser, ArticleFetchPlan.FULL);
+  }
+
+  public ArticleDataList findRecentArticles(
+      String tag,
+      String author,
+      String favoritedBy,
+      Page page,
+      User currentUser,
+      ArticleFetchPlan plan) {
+    List<String> articleIds =
+        articleReadService.queryArticles(tag, tagDictionary.idOf(tag), author, favoritedBy, page);
+    ArticleCount articleCount = articleCountService.countArticles(tag, author, favoritedBy);
     if (articleIds.size() == 0) {
-      return new ArticleDataList(new ArrayList<>(), articleCount);
+      return new ArticleDataList(new ArrayList<>(), articleCount, null, null);
     } else {
-      List<ArticleData> articles = articleReadService.findArticles(articleIds);
-      fillExtraInfo(articles, currentUser);
-      return new ArticleDataList(articles, articleCount);
+      List<ArticleData> articles = articleReadService.findArticles(articleIds, plan);
+      fillExtraInfo(articles, currentUser, plan);
+      return toArticleDataList(articles, articleCount, page);
     }
   }
 
+  public ArticleDataList findRecentArticles(
+      String tag,
+      String author,
+      String favoritedBy,
+      CursorPageParameter<ArticleCursor> page,
+      User currentUser) {
+    return findRecentArticles(tag, author, favoritedBy, page, currentUser, ArticleFetchPlan.FULL);
+  }
+
+  public ArticleDataList findRecentArticles(
+      String tag,
+      String author,
+      String favoritedBy,
+      CursorPageParameter<ArticleCursor> page,
+      User currentUser,
+      ArticleFetchPlan plan) {
+    CursorPager<ArticleData> pager =
+        findRecentArticlesWithCursor(tag, author, favoritedBy, page, currentUser, plan);
+    ArticleCount articleCount = articleCountService.countArticles(tag, author, favoritedBy);
+    return toArticleDataList(pager, articleCount, page);
+  }
+
   public ArticleDataList findUserFeed(User user, Page page) {
+    return findUserFeed(user, page, ArticleFetchPlan.FULL);
+  }
+
+  public ArticleDataList findUserFeed(User user, Page page, ArticleFetchPlan plan) {
     List<String> followdUsers = userRelationshipQueryService.followedUsers(user.getId());
     if (followdUsers.size() == 0) {
       return new ArticleDataList(new ArrayList<>(), 0);
     } else {
-      List<ArticleData> articles = articleReadService.findArticlesOfAuthors(followdUsers, page);
-      fillExtraInfo(articles, user);
-      int count = articleReadService.countFeedSize(followdUsers);
-      return new ArticleDataList(articles, count);
+      List<ArticleData> articles =
+          articleReadService.findArticlesOfAuthors(followdUsers, page, plan);
+      fillExtraInfo(articles, user, plan);
+      ArticleCount count = articleCountService.countFeed(followdUsers);
+      return toArticleDataList(articles, count, page);
     }
   }
 
-  private void fillExtraInfo(List<ArticleData> articles, User currentUser) {
-    setFavoriteCount(articles);
+  public ArticleDataList findUserFeed(User user, CursorPageParameter<ArticleCursor> page) {
+    return findUserFeed(user, page, ArticleFetchPlan.FULL);
+  }
+
+  public ArticleDataList findUserFeed(
+      User user, CursorPageParameter<ArticleCursor> page, ArticleFetchPlan plan) {
+    List<String> followdUsers = userRelationshipQueryService.followedUsers(user.getId());
+    if (followdUsers.size() == 0) {
+      return new ArticleDataList(new ArrayList<>(), 0);
+    } else {
+      CursorPager<ArticleData> pager = findUserFeedWithCursor(user, page, plan);
+      return toArticleDataList(pager, articleCountService.countFeed(followdUsers), page);
+    }
+  }
+
+  private ArticleDataList toArticleDataList(
+      List<ArticleData> articles, ArticleCount count, Page page) {
+    // hand out a cursor so clients paging by offset can switch to keyset paging
+    // a cached or estimated count can promise rows the page did not find
+    boolean hasNext =
+        !articles.isEmpty()
+            && (count.isExact()
+                ? page.getOffset() + articles.size() < count.getCount()
+                : articles.size() >= page.getLimit());
+    String nextCursor = hasNext ? articles.get(articles.size() - 1).getCursor().toString() : null;
+    return new ArticleDataList(articles, count, nextCursor, null);
+  }
+
+  private ArticleDataList toArticleDataList(
+      CursorPager<ArticleData> pager, ArticleCount count, CursorPageParameter<ArticleCursor> page) {
+    boolean hasNext = page.isNext() ? pager.hasNext() : page.getCursor() != null;
+    boolean hasPrevious = page.isNext() ? page.getCursor() != null : pager.hasPrevious();
+    return new ArticleDataList(
+        pager.getData(),
+        count,
+        hasNext && pager.getEndCursor() != null ? pager.getEndCursor().toString() : null,
+        hasPrevious && pager.getStartCursor() != null ? pager.getStartCursor().toString() : null);
+  }
+
+  private void fillExtraInfo(
+      List<ArticleData> articles, User currentUser, ArticleFetchPlan plan) {
+    articles.forEach(articleData -> tagDictionary.shareNames(articleData.getTagList()));
+    if (plan.isFavoritesCount()) {
+      setFavoriteCount(articles);
+    }
     if (currentUser != null) {
-      setIsFavorite(articles, currentUser);
-      setIsFollowingAuthor(articles, currentUser);
+      if (plan.isFavorited()) {
+        setIsFavorite(articles, currentUser);
+      }
+      if (plan.isFollowing()) {
+        setIsFollowingAuthor(articles, currentUser);
+      }
     }
   }
 
@@ -159,10 +318,15 @@ public class ArticleQueryService {
   }
 
   private void setIsFavorite(List<ArticleData> articles, User currentUser) {
+    List<String> candidates =
+        favoriteFilter.mightBeFavorites(
+            currentUser.getId(),
+            articles.stream().map(articleData -> articleData.getId()).collect(toList()));
+    if (candidates.isEmpty()) {
+      return;
+    }
     Set<String> favoritedArticles =
-        articleFavoritesReadService.userFavorites(
-            articles.stream().map(articleData -> articleData.getId()).collect(toList()),
-            currentUser);
+        articleFavoritesReadService.userFavorites(candidates, currentUser);
 
     articles.forEach(
         articleData -> {
@@ -172,13 +336,29 @@ public class ArticleQueryService {
         });
   }
 
-  private void fillExtraInfo(String id, User user, ArticleData articleData) {
-    articleData.setFavorited(articleFavoritesReadService.isUserFavorite(user.getId(), id));
-    articleData.setFavoritesCount(articleFavoritesReadService.articleFavoriteCount(id));
-    articleData
-        .getProfileData()
-        .setFollowing(
-            userRelationshipQueryService.isUserFollowing(
-                user.getId(), articleData.getProfileData().getId()));
+  private void fillExtraInfo(
+      String id, User user, ArticleData articleData, ArticleFetchPlan plan) {
+    if (plan.isFavorited()) {
+      articleData.setFavorited(
+          favoriteFilter.mightBeFavorite(user.getId(), id)
+              && articleFavoritesReadService.isUserFavorite(user.getId(), id));
+    }
+    if (plan.isFavoritesCount()) {
+      articleData.setFavoritesCount(articleFavoritesReadService.articleFavoriteCount(id));
+    }
+    if (plan.isFollowing()) {
+      articleData
+          .getProfileData()
+          .setFollowing(
+              userRelationshipQueryService.isUserFollowing(
+                  user.getId(), articleData.getProfileData().getId()));
+    }
+  }
+
+  private ArticleData shareTags(ArticleData articleData) {
+    if (articleData != null) {
+      tagDictionary.shareNames(articleData.getTagList());
+    }
+    return articleData;
   }
 }
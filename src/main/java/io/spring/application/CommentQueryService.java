@@ -1,6 +1,8 @@
 package io.spring.application;
 
 import io.spring.application.data.CommentData;
+import io.spring.application.data.ProfileData;
+import io.spring.core.comment.Comment;
 import io.spring.core.user.User;
 import io.spring.infrastructure.mybatis.readservice.CommentReadService;
 import io.spring.infrastructure.mybatis.readservice.UserRelationshipQueryService;
@@ -34,6 +36,22 @@ public class CommentQueryService {
     return Optional.ofNullable(commentData);
   }
 
+  /** Builds the response for a comment its author just posted, without reading it back. */
+  public CommentData writtenComment(Comment comment, User author) {
+    return new CommentData(
+        comment.getId(),
+        comment.getBody(),
+        comment.getArticleId(),
+        comment.getCreatedAt(),
+        comment.getCreatedAt(),
+        new ProfileData(
+            author.getId(),
+            author.getUsername(),
+            author.getBio(),
+            author.getImage(),
+            false));
+  }
+
   public List<CommentData> findByArticleId(String articleId, User user) {
     List<CommentData> comments = commentReadService.findByArticleId(articleId);
     if (comments.size() > 0 && user != null) {
@@ -0,0 +1,8 @@
+package io.spring.application;
+
+/**
+ * Validation group of the checks against values that are already taken. Unique keys reject those
+ * writes anyway, so the checks stay out of default validation and only run once a write has hit a
+ * key, to tell the client which field collided.
+ */
+public interface DuplicateChecks {}
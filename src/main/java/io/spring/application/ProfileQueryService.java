@@ -5,7 +5,15 @@ import io.spring.application.data.UserData;
 import io.spring.core.user.User;
 import io.spring.infrastructure.mybatis.readservice.UserReadService;
 import io.spring.infrastructure.mybatis.readservice.UserRelationshipQueryService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -32,4 +40,29 @@ public class ProfileQueryService {
       return Optional.of(profileData);
     }
   }
+
+  public Map<String, ProfileData> findByUsernames(Collection<String> usernames, User currentUser) {
+    if (usernames.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    List<UserData> users = userReadService.findByUsernames(new ArrayList<>(usernames));
+    Set<String> followingAuthors =
+        currentUser == null || users.isEmpty()
+            ? Collections.emptySet()
+            : userRelationshipQueryService.followingAuthors(
+                currentUser.getId(),
+                users.stream().map(UserData::getId).collect(Collectors.toList()));
+    Map<String, ProfileData> profiles = new HashMap<>();
+    for (UserData userData : users) {
+      profiles.put(
+          userData.getUsername(),
+          new ProfileData(
+              userData.getId(),
+              userData.getUsername(),
+              userData.getBio(),
+              userData.getImage(),
+              followingAuthors.contains(userData.getId())));
+    }
+    return profiles;
+  }
 }
@@ -1,6 +1,6 @@
 package io.spring.application;
 
-import io.spring.infrastructure.mybatis.readservice.TagReadService;
+import io.spring.infrastructure.tag.TagDictionary;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -8,9 +8,9 @@ import org.springframework.stereotype.Service;
 @Service
 @AllArgsConstructor
 public class TagsQueryService {
-  private TagReadService tagReadService;
+  private TagDictionary tagDictionary;
 
   public List<String> allTags() {
-    return tagReadService.all();
+    return tagDictionary.names();
   }
 }
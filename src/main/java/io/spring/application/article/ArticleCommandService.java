@@ -1,10 +1,16 @@
 package io.spring.application.article;
 
+import io.spring.application.DuplicateChecks;
 import io.spring.core.article.Article;
 import io.spring.core.article.ArticleRepository;
 import io.spring.core.user.User;
+import java.util.Set;
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
 import javax.validation.Valid;
+import javax.validation.Validator;
 import lombok.AllArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
@@ -14,6 +20,7 @@ import org.springframework.validation.annotation.Validated;
 public class ArticleCommandService {
 
   private ArticleRepository articleRepository;
+  private Validator validator;
 
   public Article createArticle(@Valid NewArticleParam newArticleParam, User creator) {
     Article article =
@@ -23,7 +30,17 @@ public class ArticleCommandService {
             newArticleParam.getBody(),
             newArticleParam.getTagList(),
             creator.getId());
-    articleRepository.save(article);
+    try {
+      articleRepository.save(article);
+    } catch (DuplicateKeyException e) {
+      // the slug key rejected the title; the duplicate check only turns that into a field error
+      Set<ConstraintViolation<NewArticleParam>> violations =
+          validator.validate(newArticleParam, DuplicateChecks.class);
+      if (violations.isEmpty()) {
+        throw e;
+      }
+      throw new ConstraintViolationException(violations);
+    }
     return article;
   }
 
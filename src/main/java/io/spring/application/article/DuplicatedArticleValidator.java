@@ -13,6 +13,6 @@ class DuplicatedArticleValidator
 
   @Override
   public boolean isValid(String value, ConstraintValidatorContext context) {
-    return !articleQueryService.findBySlug(Article.toSlug(value), null).isPresent();
+    return !articleQueryService.existsBySlug(Article.toSlug(value));
   }
 }
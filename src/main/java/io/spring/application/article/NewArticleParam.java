@@ -1,6 +1,7 @@
 package io.spring.application.article;
 
 import com.fasterxml.jackson.annotation.JsonRootName;
+import io.spring.application.DuplicateChecks;
 import java.util.List;
 import javax.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
@@ -15,7 +16,7 @@ import lombok.NoArgsConstructor;
 @Builder
 public class NewArticleParam {
   @NotBlank(message = "can't be empty")
-  @DuplicatedArticleConstraint
+  @DuplicatedArticleConstraint(groups = DuplicateChecks.class)
   private String title;
 
   @NotBlank(message = "can't be empty")
@@ -0,0 +1,17 @@
+package io.spring.application.data;
+
+import lombok.Value;
+
+@Value
+public class ArticleCount {
+  private int count;
+  private boolean exact;
+
+  public static ArticleCount exact(int count) {
+    return new ArticleCount(count, true);
+  }
+
+  public static ArticleCount estimate(long count) {
+    return new ArticleCount((int) Math.min(count, Integer.MAX_VALUE), false);
+  }
+}
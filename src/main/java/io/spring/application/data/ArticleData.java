@@ -1,7 +1,8 @@
 package io.spring.application.data;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import io.spring.application.DateTimeCursor;
+import io.spring.application.ArticleCursor;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -16,6 +17,8 @@ public class ArticleData implements io.spring.application.Node {
   private String slug;
   private String title;
   private String description;
+  // left out of list pages, see ArticleFetchPlan.SUMMARY
+  @JsonInclude(JsonInclude.Include.NON_NULL)
   private String body;
   private boolean favorited;
   private int favoritesCount;
@@ -27,7 +30,7 @@ public class ArticleData implements io.spring.application.Node {
   private ProfileData profileData;
 
   @Override
-  public DateTimeCursor getCursor() {
-    return new DateTimeCursor(updatedAt);
+  public ArticleCursor getCursor() {
+    return new ArticleCursor(createdAt, id);
   }
 }
@@ -1,5 +1,6 @@
 package io.spring.application.data;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import lombok.Getter;
@@ -12,9 +13,30 @@ public class ArticleDataList {
   @JsonProperty("articlesCount")
   private final int count;
 
+  @JsonProperty("articlesCountExact")
+  private final boolean countExact;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private final String nextCursor;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private final String prevCursor;
+
   public ArticleDataList(List<ArticleData> articleDatas, int count) {
+    this(articleDatas, count, null, null);
+  }
+
+  public ArticleDataList(
+      List<ArticleData> articleDatas, int count, String nextCursor, String prevCursor) {
+    this(articleDatas, ArticleCount.exact(count), nextCursor, prevCursor);
+  }
 
+  public ArticleDataList(
+      List<ArticleData> articleDatas, ArticleCount count, String nextCursor, String prevCursor) {
     this.articleDatas = articleDatas;
-    this.count = count;
+    this.count = count.getCount();
+    this.countExact = count.isExact();
+    this.nextCursor = nextCursor;
+    this.prevCursor = prevCursor;
   }
 }
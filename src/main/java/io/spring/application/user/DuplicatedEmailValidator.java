@@ -12,6 +12,6 @@ public class DuplicatedEmailValidator
 
   @Override
   public boolean isValid(String value, ConstraintValidatorContext context) {
-    return (value == null || value.isEmpty()) || !userRepository.findByEmail(value).isPresent();
+    return (value == null || value.isEmpty()) || !userRepository.existsByEmail(value, null);
   }
 }
@@ -12,6 +12,6 @@ class DuplicatedUsernameValidator
 
   @Override
   public boolean isValid(String value, ConstraintValidatorContext context) {
-    return (value == null || value.isEmpty()) || !userRepository.findByUsername(value).isPresent();
+    return (value == null || value.isEmpty()) || !userRepository.existsByUsername(value, null);
   }
 }
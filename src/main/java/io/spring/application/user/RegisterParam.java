@@ -1,6 +1,7 @@
 package io.spring.application.user;
 
 import com.fasterxml.jackson.annotation.JsonRootName;
+import io.spring.application.DuplicateChecks;
 import javax.validation.constraints.Email;
 import javax.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
@@ -14,11 +15,11 @@ import lombok.NoArgsConstructor;
 public class RegisterParam {
   @NotBlank(message = "can't be empty")
   @Email(message = "should be an email")
-  @DuplicatedEmailConstraint
+  @DuplicatedEmailConstraint(groups = DuplicateChecks.class)
   private String email;
 
   @NotBlank(message = "can't be empty")
-  @DuplicatedUsernameConstraint
+  @DuplicatedUsernameConstraint(groups = DuplicateChecks.class)
   private String username;
 
   @NotBlank(message = "can't be empty")
@@ -1,12 +1,13 @@
 package io.spring.application.user;
 
+import io.spring.application.DuplicateChecks;
 import io.spring.core.user.User;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 @Getter
 @AllArgsConstructor
-@UpdateUserConstraint
+@UpdateUserConstraint(groups = DuplicateChecks.class)
 public class UpdateUserCommand {
 
   private User targetUser;
@@ -1,15 +1,21 @@
 package io.spring.application.user;
 
+import io.spring.application.DuplicateChecks;
 import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.util.Set;
 import javax.validation.Constraint;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
 import javax.validation.Valid;
+import javax.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
@@ -20,15 +26,18 @@ public class UserService {
   private UserRepository userRepository;
   private String defaultImage;
   private PasswordEncoder passwordEncoder;
+  private Validator validator;
 
   @Autowired
   public UserService(
       UserRepository userRepository,
       @Value("${image.default}") String defaultImage,
-      PasswordEncoder passwordEncoder) {
+      PasswordEncoder passwordEncoder,
+      Validator validator) {
     this.userRepository = userRepository;
     this.defaultImage = defaultImage;
     this.passwordEncoder = passwordEncoder;
+    this.validator = validator;
   }
 
   public User createUser(@Valid RegisterParam registerParam) {
@@ -39,7 +48,7 @@ public class UserService {
             passwordEncoder.encode(registerParam.getPassword()),
             "",
             defaultImage);
-    userRepository.save(user);
+    save(user, registerParam);
     return user;
   }
 
@@ -52,7 +61,20 @@ public class UserService {
         updateUserParam.getPassword(),
         updateUserParam.getBio(),
         updateUserParam.getImage());
-    userRepository.save(user);
+    save(user, command);
+  }
+
+  // the unique keys decide; the duplicate checks only run to name the fields that collided
+  private <T> void save(User user, T param) {
+    try {
+      userRepository.save(user);
+    } catch (DuplicateKeyException e) {
+      Set<ConstraintViolation<T>> violations = validator.validate(param, DuplicateChecks.class);
+      if (violations.isEmpty()) {
+        throw e;
+      }
+      throw new ConstraintViolationException(violations);
+    }
   }
 }
 
@@ -75,15 +97,12 @@ class UpdateUserValidator implements ConstraintValidator<UpdateUserConstraint, U
   public boolean isValid(UpdateUserCommand value, ConstraintValidatorContext context) {
     String inputEmail = value.getParam().getEmail();
     String inputUsername = value.getParam().getUsername();
-    final User targetUser = value.getTargetUser();
+    String targetUserId = value.getTargetUser().getId();
 
     boolean isEmailValid =
-        userRepository.findByEmail(inputEmail).map(user -> user.equals(targetUser)).orElse(true);
+        isEmpty(inputEmail) || !userRepository.existsByEmail(inputEmail, targetUserId);
     boolean isUsernameValid =
-        userRepository
-            .findByUsername(inputUsername)
-            .map(user -> user.equals(targetUser))
-            .orElse(true);
+        isEmpty(inputUsername) || !userRepository.existsByUsername(inputUsername, targetUserId);
     if (isEmailValid && isUsernameValid) {
       return true;
     } else {
@@ -103,4 +122,8 @@ class UpdateUserValidator implements ConstraintValidator<UpdateUserConstraint, U
       return false;
     }
   }
+
+  private static boolean isEmpty(String value) {
+    return value == null || value.isEmpty();
+  }
 }
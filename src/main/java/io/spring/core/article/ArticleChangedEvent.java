@@ -0,0 +1,9 @@
+package io.spring.core.article;
+
+import lombok.Value;
+
+/** Published after an article has been created, updated or removed. */
+@Value
+public class ArticleChangedEvent {
+  private String articleId;
+}
@@ -0,0 +1,12 @@
+package io.spring.core.article;
+
+import lombok.Value;
+import org.joda.time.DateTime;
+
+/** Published after a new article has been stored. */
+@Value
+public class ArticleCreatedEvent {
+  private String articleId;
+  private String authorId;
+  private DateTime createdAt;
+}
@@ -0,0 +1,9 @@
+package io.spring.core.article;
+
+import lombok.Value;
+
+/** Published after an article has been removed. */
+@Value
+public class ArticleRemovedEvent {
+  private String articleId;
+}
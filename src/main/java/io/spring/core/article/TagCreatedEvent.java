@@ -0,0 +1,10 @@
+package io.spring.core.article;
+
+import lombok.Value;
+
+/** Published after a tag name has been stored for the first time. */
+@Value
+public class TagCreatedEvent {
+  private String tagId;
+  private String name;
+}
@@ -0,0 +1,10 @@
+package io.spring.core.favorite;
+
+import lombok.Value;
+
+/** Published after a user has favorited or unfavorited an article. */
+@Value
+public class ArticleFavoriteChangedEvent {
+  private String articleId;
+  private String userId;
+}
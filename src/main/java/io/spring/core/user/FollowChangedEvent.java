@@ -0,0 +1,11 @@
+package io.spring.core.user;
+
+import lombok.Value;
+
+/** Published after a user has followed or unfollowed another user. */
+@Value
+public class FollowChangedEvent {
+  private String userId;
+  private String targetId;
+  private boolean following;
+}
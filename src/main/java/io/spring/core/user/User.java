@@ -26,6 +26,16 @@ public class User {
     this.image = image;
   }
 
+  public User withoutPassword() {
+    User copy = new User();
+    copy.id = id;
+    copy.email = email;
+    copy.username = username;
+    copy.bio = bio;
+    copy.image = image;
+    return copy;
+  }
+
   public void update(String email, String username, String password, String bio, String image) {
     if (!Util.isEmpty(email)) {
       this.email = email;
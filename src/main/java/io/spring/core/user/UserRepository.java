@@ -13,9 +13,16 @@ public interface UserRepository {
 
   Optional<User> findByEmail(String email);
 
+  /** Whether a user other than {@code exceptUserId} has the username; null checks every user. */
+  boolean existsByUsername(String username, String exceptUserId);
+
+  /** Whether a user other than {@code exceptUserId} has the email; null checks every user. */
+  boolean existsByEmail(String email, String exceptUserId);
+
   void saveRelation(FollowRelation followRelation);
 
   Optional<FollowRelation> findRelation(String userId, String targetId);
 
-  void removeRelation(FollowRelation followRelation);
+  /** Returns false when there was no such relation to remove. */
+  boolean removeRelation(FollowRelation followRelation);
 }
@@ -0,0 +1,9 @@
+package io.spring.core.user;
+
+import lombok.Value;
+
+/** Published after an existing user row has been changed. */
+@Value
+public class UserUpdatedEvent {
+  private String userId;
+}
@@ -10,11 +10,11 @@ import graphql.relay.DefaultConnectionCursor;
 import graphql.relay.DefaultPageInfo;
 import graphql.schema.DataFetchingEnvironment;
 import io.spring.api.exception.ResourceNotFoundException;
+import io.spring.application.ArticleCursor;
 import io.spring.application.ArticleQueryService;
 import io.spring.application.CursorPageParameter;
 import io.spring.application.CursorPager;
 import io.spring.application.CursorPager.Direction;
-import io.spring.application.DateTimeCursor;
 import io.spring.application.data.ArticleData;
 import io.spring.application.data.CommentData;
 import io.spring.core.user.User;
@@ -57,12 +57,14 @@ public class ArticleDatafetcher {
       articles =
           articleQueryService.findUserFeedWithCursor(
               current,
-              new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT));
+              new CursorPageParameter<>(ArticleCursor.parse(after), first, Direction.NEXT),
+              FetchPlanUtil.forConnection(dfe));
     } else {
       articles =
           articleQueryService.findUserFeedWithCursor(
               current,
-              new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV));
+              new CursorPageParameter<>(ArticleCursor.parse(before), last, Direction.PREV),
+              FetchPlanUtil.forConnection(dfe));
     }
     graphql.relay.PageInfo pageInfo = buildArticlePageInfo(articles);
     ArticlesConnection articlesConnection =
@@ -107,12 +109,14 @@ public class ArticleDatafetcher {
       articles =
           articleQueryService.findUserFeedWithCursor(
               target,
-              new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT));
+              new CursorPageParameter<>(ArticleCursor.parse(after), first, Direction.NEXT),
+              FetchPlanUtil.forConnection(dfe));
     } else {
       articles =
           articleQueryService.findUserFeedWithCursor(
               target,
-              new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV));
+              new CursorPageParameter<>(ArticleCursor.parse(before), last, Direction.PREV),
+              FetchPlanUtil.forConnection(dfe));
     }
     graphql.relay.PageInfo pageInfo = buildArticlePageInfo(articles);
     ArticlesConnection articlesConnection =
@@ -156,16 +160,18 @@ public class ArticleDatafetcher {
               null,
               null,
               profile.getUsername(),
-              new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT),
-              current);
+              new CursorPageParameter<>(ArticleCursor.parse(after), first, Direction.NEXT),
+              current,
+              FetchPlanUtil.forConnection(dfe));
     } else {
       articles =
           articleQueryService.findRecentArticlesWithCursor(
               null,
               null,
               profile.getUsername(),
-              new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV),
-              current);
+              new CursorPageParameter<>(ArticleCursor.parse(before), last, Direction.PREV),
+              current,
+              FetchPlanUtil.forConnection(dfe));
     }
     graphql.relay.PageInfo pageInfo = buildArticlePageInfo(articles);
 
@@ -210,16 +216,18 @@ public class ArticleDatafetcher {
               null,
               profile.getUsername(),
               null,
-              new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT),
-              current);
+              new CursorPageParameter<>(ArticleCursor.parse(after), first, Direction.NEXT),
+              current,
+              FetchPlanUtil.forConnection(dfe));
     } else {
       articles =
           articleQueryService.findRecentArticlesWithCursor(
               null,
               profile.getUsername(),
               null,
-              new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV),
-              current);
+              new CursorPageParameter<>(ArticleCursor.parse(before), last, Direction.PREV),
+              current,
+              FetchPlanUtil.forConnection(dfe));
     }
     graphql.relay.PageInfo pageInfo = buildArticlePageInfo(articles);
     ArticlesConnection articlesConnection =
@@ -265,16 +273,18 @@ public class ArticleDatafetcher {
               withTag,
               authoredBy,
               favoritedBy,
-              new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT),
-              current);
+              new CursorPageParameter<>(ArticleCursor.parse(after), first, Direction.NEXT),
+              current,
+              FetchPlanUtil.forConnection(dfe));
     } else {
       articles =
           articleQueryService.findRecentArticlesWithCursor(
               withTag,
               authoredBy,
               favoritedBy,
-              new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV),
-              current);
+              new CursorPageParameter<>(ArticleCursor.parse(before), last, Direction.PREV),
+              current,
+              FetchPlanUtil.forConnection(dfe));
     }
     graphql.relay.PageInfo pageInfo = buildArticlePageInfo(articles);
     ArticlesConnection articlesConnection =
@@ -304,7 +314,7 @@ public class ArticleDatafetcher {
     User current = SecurityUtil.getCurrentUser().orElse(null);
     ArticleData articleData =
         articleQueryService
-            .findById(article.getId(), current)
+            .findById(article.getId(), current, FetchPlanUtil.forArticle(dfe))
             .orElseThrow(ResourceNotFoundException::new);
     Article articleResult = buildArticleResult(articleData);
     return DataFetcherResult.<Article>newResult()
@@ -325,7 +335,8 @@ public class ArticleDatafetcher {
     User current = SecurityUtil.getCurrentUser().orElse(null);
     ArticleData articleData =
         articleQueryService
-            .findById(comment.getArticleId(), current)
+            .findById(
+                comment.getArticleId(), current, FetchPlanUtil.forArticle(dataFetchingEnvironment))
             .orElseThrow(ResourceNotFoundException::new);
     Article articleResult = buildArticleResult(articleData);
     return DataFetcherResult.<Article>newResult()
@@ -340,10 +351,13 @@ public class ArticleDatafetcher {
   }
 
   @DgsQuery(field = QUERY.Article)
-  public DataFetcherResult<Article> findArticleBySlug(@InputArgument("slug") String slug) {
+  public DataFetcherResult<Article> findArticleBySlug(
+      @InputArgument("slug") String slug, DataFetchingEnvironment dfe) {
     User current = SecurityUtil.getCurrentUser().orElse(null);
     ArticleData articleData =
-        articleQueryService.findBySlug(slug, current).orElseThrow(ResourceNotFoundException::new);
+        articleQueryService
+            .findBySlug(slug, current, FetchPlanUtil.forArticle(dfe))
+            .orElseThrow(ResourceNotFoundException::new);
     Article articleResult = buildArticleResult(articleData);
     return DataFetcherResult.<Article>newResult()
         .localContext(
@@ -0,0 +1,40 @@
+package io.spring.graphql;
+
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import io.spring.application.ArticleFetchPlan;
+import io.spring.graphql.DgsConstants.ARTICLE;
+import io.spring.graphql.DgsConstants.ARTICLEEDGE;
+import io.spring.graphql.DgsConstants.ARTICLESCONNECTION;
+
+/**
+ * Builds an {@link ArticleFetchPlan} from the fields a query selects. The author's following flag
+ * is never requested here because {@code Article.author} is resolved by the profile data loader.
+ */
+public class FetchPlanUtil {
+  private static final String CONNECTION_NODE =
+      ARTICLESCONNECTION.Edges + "/" + ARTICLEEDGE.Node + "/";
+
+  public static ArticleFetchPlan forConnection(DataFetchingEnvironment dataFetchingEnvironment) {
+    return plan(dataFetchingEnvironment, CONNECTION_NODE);
+  }
+
+  public static ArticleFetchPlan forArticle(DataFetchingEnvironment dataFetchingEnvironment) {
+    return plan(dataFetchingEnvironment, "");
+  }
+
+  private static ArticleFetchPlan plan(
+      DataFetchingEnvironment dataFetchingEnvironment, String prefix) {
+    DataFetchingFieldSelectionSet selectionSet =
+        dataFetchingEnvironment == null ? null : dataFetchingEnvironment.getSelectionSet();
+    if (selectionSet == null) {
+      return ArticleFetchPlan.FULL;
+    }
+    return new ArticleFetchPlan(
+        selectionSet.contains(prefix + ARTICLE.FavoritesCount),
+        selectionSet.contains(prefix + ARTICLE.Favorited),
+        false,
+        selectionSet.contains(prefix + ARTICLE.TagList),
+        selectionSet.contains(prefix + ARTICLE.Body));
+  }
+}
@@ -14,12 +14,15 @@ import io.spring.graphql.DgsConstants.ARTICLE;
 import io.spring.graphql.DgsConstants.COMMENT;
 import io.spring.graphql.DgsConstants.QUERY;
 import io.spring.graphql.DgsConstants.USER;
+import io.spring.graphql.dataloader.ProfileDataLoader;
 import io.spring.graphql.types.Article;
 import io.spring.graphql.types.Comment;
 import io.spring.graphql.types.Profile;
 import io.spring.graphql.types.ProfilePayload;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import lombok.AllArgsConstructor;
+import org.dataloader.DataLoader;
 
 @DgsComponent
 @AllArgsConstructor
@@ -35,17 +38,20 @@ public class ProfileDatafetcher {
   }
 
   @DgsData(parentType = ARTICLE.TYPE_NAME, field = ARTICLE.Author)
-  public Profile getAuthor(DataFetchingEnvironment dataFetchingEnvironment) {
+  public CompletableFuture<Profile> getAuthor(DataFetchingEnvironment dataFetchingEnvironment) {
     Map<String, ArticleData> map = dataFetchingEnvironment.getLocalContext();
     Article article = dataFetchingEnvironment.getSource();
-    return queryProfile(map.get(article.getSlug()).getProfileData().getUsername());
+    return loadProfile(
+        dataFetchingEnvironment, map.get(article.getSlug()).getProfileData().getUsername());
   }
 
   @DgsData(parentType = COMMENT.TYPE_NAME, field = COMMENT.Author)
-  public Profile getCommentAuthor(DataFetchingEnvironment dataFetchingEnvironment) {
+  public CompletableFuture<Profile> getCommentAuthor(
+      DataFetchingEnvironment dataFetchingEnvironment) {
     Comment comment = dataFetchingEnvironment.getSource();
     Map<String, CommentData> map = dataFetchingEnvironment.getLocalContext();
-    return queryProfile(map.get(comment.getId()).getProfileData().getUsername());
+    return loadProfile(
+        dataFetchingEnvironment, map.get(comment.getId()).getProfileData().getUsername());
   }
 
   @DgsData(parentType = DgsConstants.QUERY_TYPE, field = QUERY.Profile)
@@ -55,12 +61,32 @@ public class ProfileDatafetcher {
     return ProfilePayload.newBuilder().profile(profile).build();
   }
 
+  private CompletableFuture<Profile> loadProfile(
+      DataFetchingEnvironment dataFetchingEnvironment, String username) {
+    User current = SecurityUtil.getCurrentUser().orElse(null);
+    DataLoader<String, ProfileData> dataLoader =
+        dataFetchingEnvironment.getDataLoader(ProfileDataLoader.NAME);
+    return dataLoader
+        .load(username, current)
+        .thenApply(
+            profileData -> {
+              if (profileData == null) {
+                throw new ResourceNotFoundException();
+              }
+              return toProfile(profileData);
+            });
+  }
+
   private Profile queryProfile(String username) {
     User current = SecurityUtil.getCurrentUser().orElse(null);
     ProfileData profileData =
         profileQueryService
             .findByUsername(username, current)
             .orElseThrow(ResourceNotFoundException::new);
+    return toProfile(profileData);
+  }
+
+  private Profile toProfile(ProfileData profileData) {
     return Profile.newBuilder()
         .username(profileData.getUsername())
         .bio(profileData.getBio())
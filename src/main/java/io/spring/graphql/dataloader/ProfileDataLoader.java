@@ -0,0 +1,39 @@
+package io.spring.graphql.dataloader;
+
+import com.netflix.graphql.dgs.DgsDataLoader;
+import io.spring.application.ProfileQueryService;
+import io.spring.application.data.ProfileData;
+import io.spring.core.user.User;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import lombok.AllArgsConstructor;
+import org.dataloader.BatchLoaderEnvironment;
+import org.dataloader.MappedBatchLoaderWithContext;
+
+/**
+ * Request scoped batch loader for author profiles. Every username requested during one dispatch
+ * is resolved with a single users query and a single follows query. The viewer is passed as the
+ * key context so the following flag can be computed for the whole batch.
+ */
+@DgsDataLoader(name = ProfileDataLoader.NAME)
+@AllArgsConstructor
+public class ProfileDataLoader implements MappedBatchLoaderWithContext<String, ProfileData> {
+  public static final String NAME = "profiles";
+
+  private ProfileQueryService profileQueryService;
+
+  @Override
+  public CompletionStage<Map<String, ProfileData>> load(
+      Set<String> usernames, BatchLoaderEnvironment environment) {
+    User currentUser =
+        environment.getKeyContextsList().stream()
+            .filter(User.class::isInstance)
+            .map(User.class::cast)
+            .findFirst()
+            .orElse(null);
+    return CompletableFuture.completedFuture(
+        profileQueryService.findByUsernames(usernames, currentUser));
+  }
+}
@@ -0,0 +1,270 @@
+package io.spring.infrastructure.favorite;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.spring.core.favorite.ArticleFavorite;
+import io.spring.core.favorite.ArticleFavoriteChangedEvent;
+import io.spring.infrastructure.mybatis.mapper.ArticleFavoriteMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Bloom filter over (user, article) favorites. Most favorite checks come back false, and a
+ * negative answer here is definite, so callers only go to the database for the keys that might
+ * be favorites. Writes add their key once they commit; a rebuild collects the keys committed
+ * while it scans, so none falls between the scan and the swap. Favorites written by other
+ * instances are picked up by {@link #refresh()} every {@code favorites.filter.refreshDelayMs}.
+ * Removed favorites stay in the filter until the periodic rebuild.
+ */
+@Slf4j
+@Component
+public class FavoriteFilter {
+  private static final int MIN_EXPECTED_INSERTIONS = 1024;
+  // refreshes reread this much more than their delay, for transactions that commit late
+  private static final long REFRESH_OVERLAP_MS = 60_000;
+
+  private final ArticleFavoriteMapper mapper;
+  private final TransactionTemplate transactionTemplate;
+  private final double falsePositiveRate;
+  private final long refreshWindowMs;
+  private final Object writeLock = new Object();
+  private final LongAdder lookups = new LongAdder();
+  private final LongAdder negatives = new LongAdder();
+  private volatile Bits bits;
+  // keys written while a rebuild is running, added to the fresh filter before it is swapped in
+  private List<String> pendingKeys;
+
+  @Autowired
+  public FavoriteFilter(
+      ArticleFavoriteMapper mapper,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${favorites.filter.falsePositiveRate:0.01}") double falsePositiveRate,
+      @Value("${favorites.filter.refreshDelayMs:5000}") long refreshDelayMs) {
+    this.mapper = mapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.falsePositiveRate = falsePositiveRate;
+    this.refreshWindowMs = refreshDelayMs + REFRESH_OVERLAP_MS;
+    bindMeters(meterRegistry);
+  }
+
+  public boolean mightBeFavorite(String userId, String articleId) {
+    Bits current = bits;
+    if (current == null) {
+      return true;
+    }
+    lookups.increment();
+    if (current.mightContain(key(userId, articleId))) {
+      return true;
+    }
+    negatives.increment();
+    return false;
+  }
+
+  /** Returns the articles that might be favorites of the user, dropping definite negatives. */
+  public List<String> mightBeFavorites(String userId, List<String> articleIds) {
+    if (bits == null) {
+      return articleIds;
+    }
+    List<String> candidates = new ArrayList<>();
+    for (String articleId : articleIds) {
+      if (mightBeFavorite(userId, articleId)) {
+        candidates.add(articleId);
+      }
+    }
+    return candidates;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onArticleFavoriteChanged(ArticleFavoriteChangedEvent event) {
+    add(key(event.getUserId(), event.getArticleId()));
+  }
+
+  @Scheduled(
+      initialDelayString = "${favorites.filter.refreshDelayMs:5000}",
+      fixedDelayString = "${favorites.filter.refreshDelayMs:5000}")
+  public void refresh() {
+    if (bits == null) {
+      return;
+    }
+    for (ArticleFavorite favorite : mapper.recentFavorites(refreshWindowMs)) {
+      add(key(favorite.getUserId(), favorite.getArticleId()));
+    }
+  }
+
+  @PostConstruct
+  @Scheduled(
+      initialDelayString = "${favorites.filter.rebuildDelayMs:3600000}",
+      fixedDelayString = "${favorites.filter.rebuildDelayMs:3600000}")
+  public void rebuild() {
+    if (falsePositiveRate <= 0) {
+      return;
+    }
+    // opened before the scan takes its snapshot: a write that commits after the snapshot is
+    // missing from the scan, but its listener runs after the commit and lands here
+    synchronized (writeLock) {
+      pendingKeys = new ArrayList<>();
+    }
+    Bits rebuilt = null;
+    try {
+      rebuilt =
+          transactionTemplate.execute(
+              status -> {
+                // leave room to grow until the next rebuild
+                long expected = Math.max(MIN_EXPECTED_INSERTIONS, 2L * mapper.countFavorites());
+                Bits fresh = new Bits(expected, falsePositiveRate);
+                mapper.scanFavorites(
+                    context ->
+                        fresh.put(
+                            key(
+                                context.getResultObject().getUserId(),
+                                context.getResultObject().getArticleId())));
+                return fresh;
+              });
+    } finally {
+      synchronized (writeLock) {
+        if (rebuilt != null) {
+          pendingKeys.forEach(rebuilt::put);
+          bits = rebuilt;
+        }
+        pendingKeys = null;
+      }
+    }
+    log.info(
+        "rebuilt favorite filter: {} bits, {} hashes, {} estimated false positive rate",
+        bitSize(),
+        rebuilt.hashes,
+        estimatedFalsePositiveRate());
+  }
+
+  private void bindMeters(MeterRegistry registry) {
+    Gauge.builder("favorites.filter.size", this, FavoriteFilter::bitSize)
+        .baseUnit("bits")
+        .register(registry);
+    Gauge.builder(
+            "favorites.filter.false.positive.rate",
+            this,
+            FavoriteFilter::estimatedFalsePositiveRate)
+        .register(registry);
+    FunctionCounter.builder("favorites.filter.lookups", this, FavoriteFilter::lookupCount)
+        .register(registry);
+    FunctionCounter.builder("favorites.filter.negatives", this, FavoriteFilter::negativeCount)
+        .register(registry);
+  }
+
+  public long bitSize() {
+    Bits current = bits;
+    return current == null ? 0 : current.size;
+  }
+
+  /** False positive rate implied by how many bits are set, i.e. fill ratio ^ hash count. */
+  public double estimatedFalsePositiveRate() {
+    Bits current = bits;
+    return current == null ? 1 : Math.pow(current.fillRatio(), current.hashes);
+  }
+
+  public long lookupCount() {
+    return lookups.sum();
+  }
+
+  /** Lookups answered as definite negatives, i.e. database round trips saved. */
+  public long negativeCount() {
+    return negatives.sum();
+  }
+
+  private void add(String key) {
+    synchronized (writeLock) {
+      if (pendingKeys != null) {
+        pendingKeys.add(key);
+      }
+      if (bits != null) {
+        bits.put(key);
+      }
+    }
+  }
+
+  private static String key(String userId, String articleId) {
+    return userId + ':' + articleId;
+  }
+
+  /** Fixed-size bit array probed with double hashing over a 64-bit FNV-1a hash. */
+  private static final class Bits {
+    private final AtomicLongArray words;
+    private final long size;
+    private final int hashes;
+
+    private Bits(long expectedInsertions, double falsePositiveRate) {
+      long bits =
+          (long)
+              Math.ceil(
+                  -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+      this.words = new AtomicLongArray((int) ((bits + 63) / 64));
+      this.size = words.length() * 64L;
+      this.hashes =
+          Math.max(1, (int) Math.round((double) size / expectedInsertions * Math.log(2)));
+    }
+
+    void put(String key) {
+      long hash = hash(key);
+      int first = (int) hash;
+      int second = (int) (hash >>> 32);
+      for (int i = 0; i < hashes; i++) {
+        long bit = Math.floorMod(first + (long) i * second, size);
+        int word = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long value;
+        do {
+          value = words.get(word);
+        } while ((value & mask) == 0 && !words.compareAndSet(word, value, value | mask));
+      }
+    }
+
+    boolean mightContain(String key) {
+      long hash = hash(key);
+      int first = (int) hash;
+      int second = (int) (hash >>> 32);
+      for (int i = 0; i < hashes; i++) {
+        long bit = Math.floorMod(first + (long) i * second, size);
+        if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    double fillRatio() {
+      long set = 0;
+      for (int i = 0; i < words.length(); i++) {
+        set += Long.bitCount(words.get(i));
+      }
+      return (double) set / size;
+    }
+
+    private static long hash(String key) {
+      long hash = 0xcbf29ce484222325L;
+      for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+        hash ^= b & 0xff;
+        hash *= 0x100000001b3L;
+      }
+      // FNV spreads the low bits poorly on short keys; finish with a murmur3 mix
+      hash ^= hash >>> 33;
+      hash *= 0xff51afd7ed558ccdL;
+      hash ^= hash >>> 33;
+      return hash;
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package io.spring.infrastructure.favorite;
+
+import io.spring.infrastructure.mybatis.mapper.ArticleFavoriteMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps {@code articles.favorites_count} in step with {@code article_favorites}. Favorite writes
+ * only append to {@code article_favorite_deltas}; {@link #flush()} folds those into the column in
+ * batches and {@link #reconcile()} recounts every article to repair any drift. Both take the same
+ * advisory lock, so the column never moves while it is being recounted.
+ */
+@Slf4j
+@Component
+public class FavoritesCountJobs {
+  private final ArticleFavoriteMapper mapper;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+
+  @Autowired
+  public FavoritesCountJobs(
+      ArticleFavoriteMapper mapper,
+      PlatformTransactionManager transactionManager,
+      @Value("${favorites.count.flushBatchSize:5000}") int batchSize) {
+    this.mapper = mapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(fixedDelayString = "${favorites.count.flushDelayMs:1000}")
+  public void flush() {
+    int flushed;
+    do {
+      flushed =
+          transactionTemplate.execute(
+              status -> {
+                mapper.lockCountMaintenance();
+                return mapper.flushCountDeltas(batchSize);
+              });
+    } while (flushed >= batchSize);
+  }
+
+  @Scheduled(
+      initialDelayString = "${favorites.count.reconcileDelayMs:3600000}",
+      fixedDelayString = "${favorites.count.reconcileDelayMs:3600000}")
+  public void reconcile() {
+    int repaired =
+        transactionTemplate.execute(
+            status -> {
+              mapper.lockCountMaintenance();
+              return mapper.reconcileCounts();
+            });
+    if (repaired > 0) {
+      log.warn("repaired favorites_count drift on {} articles", repaired);
+    }
+  }
+}
@@ -0,0 +1,334 @@
+package io.spring.infrastructure.follow;
+
+import io.spring.core.user.FollowChangedEvent;
+import io.spring.infrastructure.mybatis.mapper.UserMapper;
+import io.spring.infrastructure.mybatis.readservice.UserRelationshipQueryService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import javax.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Answers follow lookups from memory. User ids are mapped to dense ints and each user keeps a
+ * sorted {@code int[]} of the users they follow, so a lookup is a hash probe plus a binary search.
+ * The graph is loaded at startup and patched by the {@link FollowChangedEvent}s that {@code
+ * MyBatisUserRepository} publishes. Every {@code follows.graph.refreshDelayMs}, {@link #refresh()}
+ * replays the recent rows of {@code follow_changes}, so another instance's follow shows up here
+ * within about that delay. {@link #reload()} rebuilds the whole graph much less often, as a
+ * backstop.
+ */
+@Slf4j
+@Primary
+@Component
+public class FollowGraph implements UserRelationshipQueryService {
+  // changes are replayed for a while past the refresh delay, to cover transactions still open
+  private static final long REFRESH_OVERLAP_MS = 60_000;
+
+  private final UserMapper userMapper;
+  private final TransactionTemplate transactionTemplate;
+  private final long refreshWindowMs;
+  private final Object writeLock = new Object();
+  private volatile Adjacency adjacency = new Adjacency();
+  // changes seen while a reload is running, replayed onto the fresh graph before it is swapped in
+  private List<FollowChangedEvent> pendingChanges;
+
+  @Autowired
+  public FollowGraph(
+      UserMapper userMapper,
+      PlatformTransactionManager transactionManager,
+      @Value("${follows.graph.refreshDelayMs:5000}") long refreshDelayMs) {
+    this.userMapper = userMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.refreshWindowMs = refreshDelayMs + REFRESH_OVERLAP_MS;
+  }
+
+  @Override
+  public boolean isUserFollowing(String userId, String anotherUserId) {
+    return adjacency.contains(userId, anotherUserId);
+  }
+
+  @Override
+  public Set<String> followingAuthors(String userId, List<String> ids) {
+    return adjacency.retainFollowed(userId, ids);
+  }
+
+  @Override
+  public List<String> followedUsers(String userId) {
+    return adjacency.followed(userId);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onFollowChanged(FollowChangedEvent event) {
+    synchronized (writeLock) {
+      if (pendingChanges != null) {
+        pendingChanges.add(event);
+      }
+      adjacency.apply(event);
+    }
+  }
+
+  /** Replays changes in commit order, so each follow pair ends up as its latest change left it. */
+  @Scheduled(
+      initialDelayString = "${follows.graph.refreshDelayMs:5000}",
+      fixedDelayString = "${follows.graph.refreshDelayMs:5000}")
+  public void refresh() {
+    transactionTemplate
+        .execute(status -> userMapper.recentFollowChanges(refreshWindowMs))
+        .forEach(this::onFollowChanged);
+  }
+
+  @PostConstruct
+  @Scheduled(
+      initialDelayString = "${follows.graph.reloadDelayMs:600000}",
+      fixedDelayString = "${follows.graph.reloadDelayMs:600000}")
+  public void reload() {
+    synchronized (writeLock) {
+      pendingChanges = new ArrayList<>();
+    }
+    Adjacency loaded = new Adjacency();
+    try {
+      transactionTemplate.executeWithoutResult(
+          status ->
+              userMapper.scanRelations(
+                  context ->
+                      loaded.append(
+                          context.getResultObject().getUserId(),
+                          context.getResultObject().getTargetId())));
+      loaded.seal();
+    } finally {
+      synchronized (writeLock) {
+        if (loaded.isSealed()) {
+          pendingChanges.forEach(loaded::apply);
+          adjacency = loaded;
+        }
+        pendingChanges = null;
+      }
+    }
+    log.info(
+        "loaded follow graph: {} users, {} edges, {} bytes per million edges",
+        userCount(),
+        edgeCount(),
+        bytesPerMillionEdges());
+  }
+
+  // reloads already hold anything older than the refresh window; runs after startup migrations
+  @Scheduled(
+      initialDelayString = "${follows.graph.reloadDelayMs:600000}",
+      fixedDelayString = "${follows.graph.reloadDelayMs:600000}")
+  public void pruneChanges() {
+    userMapper.pruneFollowChanges(refreshWindowMs);
+  }
+
+  public int userCount() {
+    return adjacency.userCount();
+  }
+
+  public long edgeCount() {
+    return adjacency.edgeCount();
+  }
+
+  public long estimatedBytes() {
+    return adjacency.estimatedBytes();
+  }
+
+  public long bytesPerMillionEdges() {
+    long edges = edgeCount();
+    return edges == 0 ? 0 : estimatedBytes() * 1_000_000 / edges;
+  }
+
+  /** Sorted int adjacency lists keyed by dense user indexes. */
+  private static final class Adjacency {
+    private static final int[] EMPTY = new int[0];
+    // rough 64-bit JVM sizes with compressed oops
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    // HashMap node and table slot, boxed index, String and its byte[] header
+    private static final int ID_OVERHEAD = 32 + REFERENCE + 16 + 24 + ARRAY_HEADER;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private final List<String> ids = new ArrayList<>();
+    private int[][] rows = new int[16][];
+    private int[] degrees = new int[16];
+    private long edges;
+    private boolean sealed;
+
+    boolean contains(String userId, String targetId) {
+      lock.readLock().lock();
+      try {
+        Integer user = indexes.get(userId);
+        Integer target = indexes.get(targetId);
+        return user != null && target != null && find(user, target) >= 0;
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    Set<String> retainFollowed(String userId, List<String> candidates) {
+      Set<String> result = new HashSet<>();
+      lock.readLock().lock();
+      try {
+        Integer user = indexes.get(userId);
+        if (user == null || degrees[user] == 0) {
+          return result;
+        }
+        for (String candidate : candidates) {
+          Integer target = indexes.get(candidate);
+          if (target != null && find(user, target) >= 0) {
+            result.add(candidate);
+          }
+        }
+        return result;
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    List<String> followed(String userId) {
+      lock.readLock().lock();
+      try {
+        Integer user = indexes.get(userId);
+        if (user == null) {
+          return new ArrayList<>();
+        }
+        List<String> result = new ArrayList<>(degrees[user]);
+        for (int i = 0; i < degrees[user]; i++) {
+          result.add(ids.get(rows[user][i]));
+        }
+        return result;
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    /** Bulk load path: appends without keeping the row sorted until {@link #seal()}. */
+    void append(String userId, String targetId) {
+      int user = indexOf(userId);
+      int target = indexOf(targetId);
+      ensureCapacity(user, degrees[user] + 1);
+      rows[user][degrees[user]++] = target;
+      edges++;
+    }
+
+    void seal() {
+      for (int i = 0; i < ids.size(); i++) {
+        rows[i] = degrees[i] == 0 ? EMPTY : Arrays.copyOf(rows[i], degrees[i]);
+        Arrays.sort(rows[i]);
+      }
+      sealed = true;
+    }
+
+    boolean isSealed() {
+      return sealed;
+    }
+
+    void apply(FollowChangedEvent event) {
+      lock.writeLock().lock();
+      try {
+        int user = indexOf(event.getUserId());
+        int target = indexOf(event.getTargetId());
+        int position = find(user, target);
+        if (event.isFollowing() && position < 0) {
+          insert(user, -position - 1, target);
+        } else if (!event.isFollowing() && position >= 0) {
+          remove(user, position);
+        }
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    int userCount() {
+      lock.readLock().lock();
+      try {
+        return ids.size();
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    long edgeCount() {
+      lock.readLock().lock();
+      try {
+        return edges;
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    long estimatedBytes() {
+      lock.readLock().lock();
+      try {
+        long bytes = 2L * ARRAY_HEADER + (long) rows.length * REFERENCE + 4L * degrees.length;
+        bytes += ARRAY_HEADER + (long) ids.size() * REFERENCE;
+        for (int i = 0; i < ids.size(); i++) {
+          bytes += ID_OVERHEAD + ids.get(i).length();
+          if (rows[i] != EMPTY) {
+            bytes += ARRAY_HEADER + 4L * rows[i].length;
+          }
+        }
+        return bytes;
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    private int find(int user, int target) {
+      return Arrays.binarySearch(rows[user], 0, degrees[user], target);
+    }
+
+    private void insert(int user, int position, int target) {
+      ensureCapacity(user, degrees[user] + 1);
+      int[] row = rows[user];
+      System.arraycopy(row, position, row, position + 1, degrees[user] - position);
+      row[position] = target;
+      degrees[user]++;
+      edges++;
+    }
+
+    private void remove(int user, int position) {
+      int[] row = rows[user];
+      System.arraycopy(row, position + 1, row, position, degrees[user] - position - 1);
+      degrees[user]--;
+      edges--;
+    }
+
+    private int indexOf(String userId) {
+      Integer index = indexes.get(userId);
+      if (index != null) {
+        return index;
+      }
+      int next = ids.size();
+      if (next == rows.length) {
+        rows = Arrays.copyOf(rows, next * 2);
+        degrees = Arrays.copyOf(degrees, next * 2);
+      }
+      rows[next] = EMPTY;
+      indexes.put(userId, next);
+      ids.add(userId);
+      return next;
+    }
+
+    private void ensureCapacity(int user, int size) {
+      if (rows[user].length < size) {
+        rows[user] = Arrays.copyOf(rows[user], Math.max(4, rows[user].length * 2));
+      }
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package io.spring.infrastructure.mybatis;
+
+import io.spring.infrastructure.mybatis.StatementTally.Tally;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Tallies the statements of each HTTP request, GraphQL ones included, and warns when a request
+ * runs more than the budget, which is how a lookup repeated per row usually shows up. The tally
+ * is left on the request under {@link #TALLY_ATTRIBUTE}.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StatementBudgetFilter extends OncePerRequestFilter {
+  public static final String TALLY_ATTRIBUTE = StatementBudgetFilter.class.getName() + ".tally";
+
+  private final int budget;
+
+  public StatementBudgetFilter(@Value("${requests.statements.budget:10}") int budget) {
+    this.budget = budget;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    Tally tally = StatementTally.begin();
+    request.setAttribute(TALLY_ATTRIBUTE, tally);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      StatementTally.end();
+      if (tally.getStatements() > budget) {
+        log.warn(
+            "{} {} ran {} statements in {} ms, over the budget of {}",
+            request.getMethod(),
+            request.getRequestURI(),
+            tally.getStatements(),
+            tally.getTime(TimeUnit.MILLISECONDS),
+            budget);
+      } else if (log.isDebugEnabled()) {
+        log.debug(
+            "{} {} ran {} statements in {} ms",
+            request.getMethod(),
+            request.getRequestURI(),
+            tally.getStatements(),
+            tally.getTime(TimeUnit.MILLISECONDS));
+      }
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package io.spring.infrastructure.mybatis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the latency, the rows returned or affected and the failures of every mapper statement,
+ * tagged with its short id such as {@code ArticleReadService.findArticlesWithCursor}. A
+ * statement's meters are registered on its first run; later runs look them up by the statement
+ * instance and record without allocating.
+ */
+@Component
+@Intercepts({
+  @Signature(
+      type = Executor.class,
+      method = "query",
+      args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+  @Signature(
+      type = Executor.class,
+      method = "update",
+      args = {MappedStatement.class, Object.class})
+})
+public class StatementMetrics implements Interceptor {
+  private final MeterRegistry meterRegistry;
+  private final Map<MappedStatement, Meters> meters = new ConcurrentHashMap<>();
+
+  @Autowired
+  public StatementMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    Object[] args = invocation.getArgs();
+    Meters statementMeters = metersOf((MappedStatement) args[0]);
+    long start = System.nanoTime();
+    Object result;
+    try {
+      result = invocation.proceed();
+    } catch (Throwable e) {
+      statementMeters.errors.increment();
+      throw e;
+    } finally {
+      statementMeters.latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+    if (result instanceof Integer) {
+      statementMeters.rows.record((Integer) result);
+    } else if (result instanceof List && args[3] == Executor.NO_RESULT_HANDLER) {
+      // a result handler consumes the rows and leaves the list empty, so only lists are counted
+      statementMeters.rows.record(((List<?>) result).size());
+    }
+    return result;
+  }
+
+  private Meters metersOf(MappedStatement statement) {
+    Meters statementMeters = meters.get(statement);
+    if (statementMeters == null) {
+      statementMeters = meters.computeIfAbsent(statement, this::register);
+    }
+    return statementMeters;
+  }
+
+  private Meters register(MappedStatement statement) {
+    String[] parts = statement.getId().split("\\.");
+    String name = parts[parts.length - 2] + "." + parts[parts.length - 1];
+    return new Meters(
+        Timer.builder("mybatis.statement")
+            .description("Time spent running a mapper statement")
+            .tag("statement", name)
+            .publishPercentileHistogram()
+            .register(meterRegistry),
+        DistributionSummary.builder("mybatis.statement.rows")
+            .description("Rows a mapper statement returned or affected")
+            .tag("statement", name)
+            .register(meterRegistry),
+        Counter.builder("mybatis.statement.errors")
+            .description("Mapper statement runs that failed")
+            .tag("statement", name)
+            .register(meterRegistry));
+  }
+
+  private static class Meters {
+    private final Timer latency;
+    private final DistributionSummary rows;
+    private final Counter errors;
+
+    private Meters(Timer latency, DistributionSummary rows, Counter errors) {
+      this.latency = latency;
+      this.rows = rows;
+      this.errors = errors;
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package io.spring.infrastructure.mybatis;
+
+import java.sql.Statement;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the JDBC statements MyBatis runs, and the time spent in them, into the tally of the
+ * current thread. Threads without a tally are not counted, so scheduled jobs and other work
+ * outside a request cost one thread local read per statement.
+ */
+@Component
+@Intercepts({
+  @Signature(
+      type = StatementHandler.class,
+      method = "query",
+      args = {Statement.class, ResultHandler.class}),
+  @Signature(
+      type = StatementHandler.class,
+      method = "queryCursor",
+      args = {Statement.class}),
+  @Signature(
+      type = StatementHandler.class,
+      method = "update",
+      args = {Statement.class}),
+  @Signature(
+      type = StatementHandler.class,
+      method = "batch",
+      args = {Statement.class})
+})
+public class StatementTally implements Interceptor {
+  private static final ThreadLocal<Tally> CURRENT = new ThreadLocal<>();
+
+  /** Starts a new tally on this thread; a tally already running there keeps counting too. */
+  public static Tally begin() {
+    Tally tally = new Tally(CURRENT.get());
+    CURRENT.set(tally);
+    return tally;
+  }
+
+  /** Ends the tally begun last on this thread and goes back to the one it was begun in. */
+  public static void end() {
+    Tally tally = CURRENT.get();
+    if (tally == null || tally.outer == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(tally.outer);
+    }
+  }
+
+  /** Runs the work with the statements it runs on this thread counted into the given tally. */
+  public static <T> T counting(Tally tally, Callable<T> work) throws Exception {
+    Tally outer = CURRENT.get();
+    CURRENT.set(tally);
+    try {
+      return work.call();
+    } finally {
+      if (outer == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(outer);
+      }
+    }
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    Tally tally = CURRENT.get();
+    if (tally == null) {
+      return invocation.proceed();
+    }
+    long start = System.nanoTime();
+    try {
+      return invocation.proceed();
+    } finally {
+      tally.add(System.nanoTime() - start);
+    }
+  }
+
+  /** Statements and time counted so far; threads may share one tally. */
+  public static final class Tally {
+    private final Tally outer;
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong nanos = new AtomicLong();
+
+    public Tally() {
+      this(null);
+    }
+
+    private Tally(Tally outer) {
+      this.outer = outer;
+    }
+
+    public int getStatements() {
+      return statements.get();
+    }
+
+    public long getTime(TimeUnit unit) {
+      return unit.convert(nanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    private void add(long elapsed) {
+      for (Tally tally = this; tally != null; tally = tally.outer) {
+        tally.statements.incrementAndGet();
+        tally.nanos.addAndGet(elapsed);
+      }
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package io.spring.infrastructure.mybatis;
+
+import java.sql.Array;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedTypes;
+import org.apache.ibatis.type.TypeHandler;
+
+/** Maps string lists to and from SQL text arrays; a null array reads as an empty list. */
+@MappedTypes(List.class)
+public class StringListHandler implements TypeHandler<List<String>> {
+
+  @Override
+  public void setParameter(
+      PreparedStatement ps, int i, List<String> parameter, JdbcType jdbcType)
+      throws SQLException {
+    if (parameter == null) {
+      ps.setNull(i, java.sql.Types.ARRAY);
+    } else {
+      ps.setArray(i, ps.getConnection().createArrayOf("text", parameter.toArray()));
+    }
+  }
+
+  @Override
+  public List<String> getResult(ResultSet rs, String columnName) throws SQLException {
+    return toList(rs.getArray(columnName));
+  }
+
+  @Override
+  public List<String> getResult(ResultSet rs, int columnIndex) throws SQLException {
+    return toList(rs.getArray(columnIndex));
+  }
+
+  @Override
+  public List<String> getResult(CallableStatement cs, int columnIndex) throws SQLException {
+    return toList(cs.getArray(columnIndex));
+  }
+
+  private static List<String> toList(Array array) throws SQLException {
+    if (array == null) {
+      return new ArrayList<>();
+    }
+    try {
+      return new ArrayList<>(Arrays.asList((String[]) array.getArray()));
+    } finally {
+      array.free();
+    }
+  }
+}
@@ -1,14 +1,30 @@
 package io.spring.infrastructure.mybatis.mapper;
 
 import io.spring.core.favorite.ArticleFavorite;
+import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 @Mapper
 public interface ArticleFavoriteMapper {
   ArticleFavorite find(@Param("articleId") String articleId, @Param("userId") String userId);
 
-  void insert(@Param("articleFavorite") ArticleFavorite articleFavorite);
+  int insert(@Param("articleFavorite") ArticleFavorite articleFavorite);
 
-  void delete(@Param("favorite") ArticleFavorite favorite);
+  int delete(@Param("favorite") ArticleFavorite favorite);
+
+  void insertCountDelta(@Param("articleId") String articleId, @Param("delta") int delta);
+
+  String lockCountMaintenance();
+
+  int flushCountDeltas(@Param("batchSize") int batchSize);
+
+  int reconcileCounts();
+
+  long countFavorites();
+
+  void scanFavorites(ResultHandler<ArticleFavorite> handler);
+
+  List<ArticleFavorite> recentFavorites(@Param("windowMs") long windowMs);
 }
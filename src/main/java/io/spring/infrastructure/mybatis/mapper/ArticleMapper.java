@@ -2,24 +2,31 @@ package io.spring.infrastructure.mybatis.mapper;
 
 import io.spring.core.article.Article;
 import io.spring.core.article.Tag;
+import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 @Mapper
 public interface ArticleMapper {
-  void insert(@Param("article") Article article);
+  /** Inserts the article or updates its text when the id exists; true when it was inserted. */
+  boolean upsert(@Param("article") Article article);
 
   Article findById(@Param("id") String id);
 
   Tag findTag(@Param("tagName") String tagName);
 
-  void insertTag(@Param("tag") Tag tag);
+  List<Tag> findTags(@Param("names") List<String> names);
 
-  void insertArticleTagRelation(@Param("articleId") String articleId, @Param("tagId") String tagId);
+  /**
+   * Inserts the tags whose names are not stored yet and returns the stored row for every name,
+   * with the caller's id for the ones it created. A name inserted by a concurrent transaction that
+   * commits while this runs is left out of the result.
+   */
+  List<Tag> upsertTags(@Param("tags") List<Tag> tags);
 
-  Article findBySlug(@Param("slug") String slug);
+  void insertArticleTags(@Param("articleId") String articleId, @Param("tags") List<Tag> tags);
 
-  void update(@Param("article") Article article);
+  Article findBySlug(@Param("slug") String slug);
 
   void delete(@Param("id") String id);
 }
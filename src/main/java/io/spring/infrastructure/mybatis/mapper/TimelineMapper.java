@@ -0,0 +1,36 @@
+package io.spring.infrastructure.mybatis.mapper;
+
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.joda.time.DateTime;
+
+@Mapper
+public interface TimelineMapper {
+  int countFollowers(@Param("authorId") String authorId);
+
+  boolean isPullAuthor(@Param("authorId") String authorId);
+
+  void insertPullAuthor(@Param("authorId") String authorId);
+
+  int fanOut(
+      @Param("articleId") String articleId,
+      @Param("authorId") String authorId,
+      @Param("createdAt") DateTime createdAt);
+
+  int backfill(@Param("userId") String userId, @Param("authorId") String authorId);
+
+  void deleteAuthorEntries(@Param("userId") String userId, @Param("authorId") String authorId);
+
+  void deleteArticleEntries(@Param("articleId") String articleId);
+
+  boolean tryLockRepair();
+
+  List<String> nextRepairUsers(@Param("batchSize") int batchSize);
+
+  void saveRepairProgress(@Param("lastUserId") String lastUserId);
+
+  int repairMissingEntries(@Param("userIds") List<String> userIds);
+
+  int deleteStaleEntries(@Param("userIds") List<String> userIds);
+}
@@ -1,13 +1,16 @@
 package io.spring.infrastructure.mybatis.mapper;
 
+import io.spring.core.user.FollowChangedEvent;
 import io.spring.core.user.FollowRelation;
 import io.spring.core.user.User;
+import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 @Mapper
 public interface UserMapper {
-  void insert(@Param("user") User user);
+  int insert(@Param("user") User user);
 
   User findByUsername(@Param("username") String username);
 
@@ -15,11 +18,22 @@ public interface UserMapper {
 
   User findById(@Param("id") String id);
 
+  boolean existsByUsername(
+      @Param("username") String username, @Param("exceptUserId") String exceptUserId);
+
+  boolean existsByEmail(@Param("email") String email, @Param("exceptUserId") String exceptUserId);
+
   void update(@Param("user") User user);
 
   FollowRelation findRelation(@Param("userId") String userId, @Param("targetId") String targetId);
 
-  void saveRelation(@Param("followRelation") FollowRelation followRelation);
+  int saveRelation(@Param("followRelation") FollowRelation followRelation);
+
+  int deleteRelation(@Param("followRelation") FollowRelation followRelation);
+
+  List<FollowChangedEvent> recentFollowChanges(@Param("windowMs") long windowMs);
+
+  int pruneFollowChanges(@Param("windowMs") long windowMs);
 
-  void deleteRelation(@Param("followRelation") FollowRelation followRelation);
+  void scanRelations(ResultHandler<FollowRelation> handler);
 }
@@ -1,5 +1,6 @@
 package io.spring.infrastructure.mybatis.readservice;
 
+import io.spring.application.ArticleFetchPlan;
 import io.spring.application.CursorPageParameter;
 import io.spring.application.Page;
 import io.spring.application.data.ArticleData;
@@ -13,29 +14,39 @@ public interface ArticleReadService {
 
   ArticleData findBySlug(@Param("slug") String slug);
 
+  boolean existsBySlug(@Param("slug") String slug);
+
   List<String> queryArticles(
       @Param("tag") String tag,
+      @Param("tagId") String tagId,
       @Param("author") String author,
       @Param("favoritedBy") String favoritedBy,
       @Param("page") Page page);
 
   int countArticle(
       @Param("tag") String tag,
+      @Param("tagId") String tagId,
       @Param("author") String author,
       @Param("favoritedBy") String favoritedBy);
 
-  List<ArticleData> findArticles(@Param("articleIds") List<String> articleIds);
+  long estimateArticleCount();
+
+  List<ArticleData> findArticles(
+      @Param("articleIds") List<String> articleIds, @Param("plan") ArticleFetchPlan plan);
 
   List<ArticleData> findArticlesOfAuthors(
-      @Param("authors") List<String> authors, @Param("page") Page page);
+      @Param("authors") List<String> authors,
+      @Param("page") Page page,
+      @Param("plan") ArticleFetchPlan plan);
 
-  List<ArticleData> findArticlesOfAuthorsWithCursor(
-      @Param("authors") List<String> authors, @Param("page") CursorPageParameter page);
+  List<String> findTimelineWithCursor(
+      @Param("userId") String userId, @Param("page") CursorPageParameter page);
 
   int countFeedSize(@Param("authors") List<String> authors);
 
   List<String> findArticlesWithCursor(
       @Param("tag") String tag,
+      @Param("tagId") String tagId,
       @Param("author") String author,
       @Param("favoritedBy") String favoritedBy,
       @Param("page") CursorPageParameter page);
@@ -1,25 +1,35 @@
 package io.spring.infrastructure.repository;
 
 import io.spring.core.favorite.ArticleFavorite;
+import io.spring.core.favorite.ArticleFavoriteChangedEvent;
 import io.spring.core.favorite.ArticleFavoriteRepository;
 import io.spring.infrastructure.mybatis.mapper.ArticleFavoriteMapper;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class MyBatisArticleFavoriteRepository implements ArticleFavoriteRepository {
   private ArticleFavoriteMapper mapper;
+  private ApplicationEventPublisher eventPublisher;
 
   @Autowired
-  public MyBatisArticleFavoriteRepository(ArticleFavoriteMapper mapper) {
+  public MyBatisArticleFavoriteRepository(
+      ArticleFavoriteMapper mapper, ApplicationEventPublisher eventPublisher) {
     this.mapper = mapper;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
+  @Transactional
   public void save(ArticleFavorite articleFavorite) {
-    if (mapper.find(articleFavorite.getArticleId(), articleFavorite.getUserId()) == null) {
-      mapper.insert(articleFavorite);
+    if (mapper.insert(articleFavorite) > 0) {
+      mapper.insertCountDelta(articleFavorite.getArticleId(), 1);
+      eventPublisher.publishEvent(
+          new ArticleFavoriteChangedEvent(
+              articleFavorite.getArticleId(), articleFavorite.getUserId()));
     }
   }
 
@@ -29,7 +39,12 @@ public class MyBatisArticleFavoriteRepository implements ArticleFavoriteReposito
   }
 
   @Override
+  @Transactional
   public void remove(ArticleFavorite favorite) {
-    mapper.delete(favorite);
+    if (mapper.delete(favorite) > 0) {
+      mapper.insertCountDelta(favorite.getArticleId(), -1);
+      eventPublisher.publishEvent(
+          new ArticleFavoriteChangedEvent(favorite.getArticleId(), favorite.getUserId()));
+    }
   }
 }
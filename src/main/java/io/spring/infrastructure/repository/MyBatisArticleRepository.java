@@ -1,43 +1,76 @@
 package io.spring.infrastructure.repository;
 
 import io.spring.core.article.Article;
+import io.spring.core.article.ArticleChangedEvent;
+import io.spring.core.article.ArticleCreatedEvent;
+import io.spring.core.article.ArticleRemovedEvent;
 import io.spring.core.article.ArticleRepository;
 import io.spring.core.article.Tag;
+import io.spring.core.article.TagCreatedEvent;
 import io.spring.infrastructure.mybatis.mapper.ArticleMapper;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class MyBatisArticleRepository implements ArticleRepository {
+  private static final int UPSERT_ROUNDS = 2;
+
   private ArticleMapper articleMapper;
+  private ApplicationEventPublisher eventPublisher;
 
-  public MyBatisArticleRepository(ArticleMapper articleMapper) {
+  public MyBatisArticleRepository(
+      ArticleMapper articleMapper, ApplicationEventPublisher eventPublisher) {
     this.articleMapper = articleMapper;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
   @Transactional
   public void save(Article article) {
-    if (articleMapper.findById(article.getId()) == null) {
-      createNew(article);
-    } else {
-      articleMapper.update(article);
+    // one statement either creates the article or updates it, and a taken slug fails it before
+    // any tag is written
+    if (articleMapper.upsert(article)) {
+      if (!article.getTags().isEmpty()) {
+        articleMapper.insertArticleTags(article.getId(), storeTags(article.getTags()));
+      }
+      eventPublisher.publishEvent(
+          new ArticleCreatedEvent(article.getId(), article.getUserId(), article.getCreatedAt()));
     }
+    eventPublisher.publishEvent(new ArticleChangedEvent(article.getId()));
   }
 
-  private void createNew(Article article) {
-    for (Tag tag : article.getTags()) {
-      Tag targetTag =
-          Optional.ofNullable(articleMapper.findTag(tag.getName()))
-              .orElseGet(
-                  () -> {
-                    articleMapper.insertTag(tag);
-                    return tag;
-                  });
-      articleMapper.insertArticleTagRelation(article.getId(), targetTag.getId());
+  /** Resolves every tag to its stored row, inserting the new ones in the same statement. */
+  private List<Tag> storeTags(List<Tag> tags) {
+    Map<String, Tag> pending = new LinkedHashMap<>();
+    tags.forEach(tag -> pending.putIfAbsent(tag.getName(), tag));
+    List<Tag> stored = new ArrayList<>();
+    // names committed by a concurrent insert are missing from one round and found by the next
+    for (int round = 0; round < UPSERT_ROUNDS && !pending.isEmpty(); round++) {
+      for (Tag tag : articleMapper.upsertTags(new ArrayList<>(pending.values()))) {
+        Tag candidate = pending.remove(tag.getName());
+        if (candidate != null && candidate.getId().equals(tag.getId())) {
+          eventPublisher.publishEvent(new TagCreatedEvent(tag.getId(), tag.getName()));
+        }
+        stored.add(tag);
+      }
+    }
+    if (!pending.isEmpty()) {
+      // a snapshot older than the conflicting insert never sees it, however often it upserts
+      for (Tag tag : articleMapper.findTags(new ArrayList<>(pending.keySet()))) {
+        pending.remove(tag.getName());
+        stored.add(tag);
+      }
+    }
+    if (!pending.isEmpty()) {
+      throw new IllegalStateException("tags not visible to this transaction: " + pending.keySet());
     }
-    articleMapper.insert(article);
+    return stored;
   }
 
   @Override
@@ -53,5 +86,7 @@ public class MyBatisArticleRepository implements ArticleRepository {
   @Override
   public void remove(Article article) {
     articleMapper.delete(article.getId());
+    eventPublisher.publishEvent(new ArticleChangedEvent(article.getId()));
+    eventPublisher.publishEvent(new ArticleRemovedEvent(article.getId()));
   }
 }
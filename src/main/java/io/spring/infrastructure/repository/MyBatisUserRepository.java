@@ -1,28 +1,34 @@
 package io.spring.infrastructure.repository;
 
+import io.spring.core.user.FollowChangedEvent;
 import io.spring.core.user.FollowRelation;
 import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
+import io.spring.core.user.UserUpdatedEvent;
 import io.spring.infrastructure.mybatis.mapper.UserMapper;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class MyBatisUserRepository implements UserRepository {
   private final UserMapper userMapper;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Autowired
-  public MyBatisUserRepository(UserMapper userMapper) {
+  public MyBatisUserRepository(UserMapper userMapper, ApplicationEventPublisher eventPublisher) {
     this.userMapper = userMapper;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
   public void save(User user) {
-    if (userMapper.findById(user.getId()) == null) {
-      userMapper.insert(user);
-    } else {
+    // registrations are the common save, so insert first and update only when the id is taken;
+    // a taken username or email fails either statement with a DuplicateKeyException
+    if (userMapper.insert(user) == 0) {
       userMapper.update(user);
+      eventPublisher.publishEvent(new UserUpdatedEvent(user.getId()));
     }
   }
 
@@ -41,10 +47,21 @@ public class MyBatisUserRepository implements UserRepository {
     return Optional.ofNullable(userMapper.findByEmail(email));
   }
 
+  @Override
+  public boolean existsByUsername(String username, String exceptUserId) {
+    return userMapper.existsByUsername(username, exceptUserId);
+  }
+
+  @Override
+  public boolean existsByEmail(String email, String exceptUserId) {
+    return userMapper.existsByEmail(email, exceptUserId);
+  }
+
   @Override
   public void saveRelation(FollowRelation followRelation) {
-    if (!findRelation(followRelation.getUserId(), followRelation.getTargetId()).isPresent()) {
-      userMapper.saveRelation(followRelation);
+    if (userMapper.saveRelation(followRelation) > 0) {
+      eventPublisher.publishEvent(
+          new FollowChangedEvent(followRelation.getUserId(), followRelation.getTargetId(), true));
     }
   }
 
@@ -54,7 +71,12 @@ public class MyBatisUserRepository implements UserRepository {
   }
 
   @Override
-  public void removeRelation(FollowRelation followRelation) {
-    userMapper.deleteRelation(followRelation);
+  public boolean removeRelation(FollowRelation followRelation) {
+    if (userMapper.deleteRelation(followRelation) == 0) {
+      return false;
+    }
+    eventPublisher.publishEvent(
+        new FollowChangedEvent(followRelation.getUserId(), followRelation.getTargetId(), false));
+    return true;
   }
 }
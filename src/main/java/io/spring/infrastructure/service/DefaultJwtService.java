@@ -1,35 +1,96 @@
 package io.spring.infrastructure.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.spring.core.service.JwtService;
 import io.spring.core.user.User;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * Signs and verifies HS512 tokens. Verified tokens are cached by their SHA-256 digest until they
+ * expire, so a token presented again skips the signature check and claims parsing. Issued tokens
+ * are reused per user while at least half of the session time is left.
+ */
 @Component
 public class DefaultJwtService implements JwtService {
+  private static final int DEFAULT_CACHE_SIZE = 10_000;
+
   private final SecretKey signingKey;
   private final SignatureAlgorithm signatureAlgorithm;
+  private final JwtParser jwtParser;
+  private final Cache<String, CachedToken> verifiedTokens;
+  private final Cache<String, CachedToken> issuedTokens;
   private int sessionTime;
 
+  public DefaultJwtService(String secret, int sessionTime) {
+    this(secret, sessionTime, DEFAULT_CACHE_SIZE);
+  }
+
   @Autowired
   public DefaultJwtService(
-      @Value("${jwt.secret}") String secret, @Value("${jwt.sessionTime}") int sessionTime) {
+      @Value("${jwt.secret}") String secret,
+      @Value("${jwt.sessionTime}") int sessionTime,
+      @Value("${jwt.cacheSize:" + DEFAULT_CACHE_SIZE + "}") int cacheSize) {
     this.sessionTime = sessionTime;
     signatureAlgorithm = SignatureAlgorithm.HS512;
     this.signingKey = new SecretKeySpec(secret.getBytes(), signatureAlgorithm.getJcaName());
+    this.jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    this.verifiedTokens = cacheSize > 0 ? newCache(cacheSize) : null;
+    this.issuedTokens = cacheSize > 0 ? newCache(cacheSize) : null;
   }
 
   @Override
   public String toToken(User user) {
+    if (issuedTokens == null) {
+      return sign(user);
+    }
+    // only hand out a cached token while at least half of the session is left
+    long reuseUntil = System.currentTimeMillis() + sessionTime * 500L;
+    CachedToken issued = issuedTokens.getIfPresent(user.getId());
+    if (issued != null && issued.expiresAt > reuseUntil) {
+      return issued.value;
+    }
+    String token = sign(user);
+    issuedTokens.put(user.getId(), new CachedToken(token, expireTimeFromNow().getTime()));
+    return token;
+  }
+
+  @Override
+  public Optional<String> getSubFromToken(String token) {
+    String digest = verifiedTokens == null ? null : digest(token);
+    if (digest != null) {
+      CachedToken cached = verifiedTokens.getIfPresent(digest);
+      if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+        return Optional.of(cached.value);
+      }
+    }
+    CachedToken verified = verify(token);
+    if (verified == null) {
+      return Optional.empty();
+    }
+    if (digest != null && verified.value != null && verified.expiresAt != Long.MAX_VALUE) {
+      verifiedTokens.put(digest, verified);
+    }
+    return Optional.ofNullable(verified.value);
+  }
+
+  private String sign(User user) {
     return Jwts.builder()
         .setSubject(user.getId())
         .setExpiration(expireTimeFromNow())
@@ -37,18 +98,64 @@ public class DefaultJwtService implements JwtService {
         .compact();
   }
 
-  @Override
-  public Optional<String> getSubFromToken(String token) {
+  private CachedToken verify(String token) {
     try {
-      Jws<Claims> claimsJws =
-          Jwts.parserBuilder().setSigningKey(signingKey).build().parseClaimsJws(token);
-      return Optional.ofNullable(claimsJws.getBody().getSubject());
+      Claims claims = jwtParser.parseClaimsJws(token).getBody();
+      Date expiration = claims.getExpiration();
+      return new CachedToken(
+          claims.getSubject(), expiration == null ? Long.MAX_VALUE : expiration.getTime());
     } catch (Exception e) {
-      return Optional.empty();
+      return null;
     }
   }
 
   private Date expireTimeFromNow() {
     return new Date(System.currentTimeMillis() + sessionTime * 1000L);
   }
+
+  private static String digest(String token) {
+    try {
+      byte[] hash =
+          MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Cache<String, CachedToken> newCache(int maximumSize) {
+    return Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfter(
+            new Expiry<String, CachedToken>() {
+              @Override
+              public long expireAfterCreate(String key, CachedToken value, long currentTime) {
+                long remaining = value.expiresAt - System.currentTimeMillis();
+                return TimeUnit.MILLISECONDS.toNanos(Math.max(remaining, 0));
+              }
+
+              @Override
+              public long expireAfterUpdate(
+                  String key, CachedToken value, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, value, currentTime);
+              }
+
+              @Override
+              public long expireAfterRead(
+                  String key, CachedToken value, long currentTime, long currentDuration) {
+                return currentDuration;
+              }
+            })
+        .build();
+  }
+
+  private static class CachedToken {
+    private final String value;
+    private final long expiresAt;
+
+    private CachedToken(String value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+  }
 }
@@ -0,0 +1,91 @@
+package io.spring.infrastructure.tag;
+
+import io.spring.core.article.Tag;
+import io.spring.core.article.TagCreatedEvent;
+import io.spring.infrastructure.mybatis.readservice.TagReadService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Every tag name and id, held in memory. It is loaded at startup, extended when a new tag
+ * commits, and reloaded periodically to pick up tags created by other instances. Tag filters bind
+ * the id from here and fall back to matching the name in SQL when a tag is not known yet.
+ */
+@Component
+public class TagDictionary {
+  private final TagReadService tagReadService;
+  private volatile Snapshot snapshot = new Snapshot(new HashMap<>(), new ArrayList<>());
+
+  @Autowired
+  public TagDictionary(TagReadService tagReadService) {
+    this.tagReadService = tagReadService;
+  }
+
+  /** Returns the id of the tag, or null if the tag is not known here. */
+  public String idOf(String name) {
+    Tag tag = name == null ? null : snapshot.tags.get(name);
+    return tag == null ? null : tag.getId();
+  }
+
+  /** All tag names, as an unmodifiable list shared by every caller. */
+  public List<String> names() {
+    return snapshot.names;
+  }
+
+  /** Replaces known names with the dictionary's own instances so rows share one copy. */
+  public void shareNames(List<String> tagList) {
+    Map<String, Tag> tags = snapshot.tags;
+    tagList.replaceAll(
+        name -> {
+          Tag tag = tags.get(name);
+          return tag == null ? name : tag.getName();
+        });
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public synchronized void onTagCreated(TagCreatedEvent event) {
+    if (snapshot.tags.containsKey(event.getName())) {
+      return;
+    }
+    Tag tag = new Tag();
+    tag.setId(event.getTagId());
+    tag.setName(event.getName());
+    Map<String, Tag> tags = new HashMap<>(snapshot.tags);
+    List<String> names = new ArrayList<>(snapshot.names);
+    tags.put(tag.getName(), tag);
+    names.add(tag.getName());
+    snapshot = new Snapshot(tags, names);
+  }
+
+  @PostConstruct
+  @Scheduled(
+      initialDelayString = "${tags.dictionary.reloadDelayMs:60000}",
+      fixedDelayString = "${tags.dictionary.reloadDelayMs:60000}")
+  public synchronized void reload() {
+    Map<String, Tag> tags = new HashMap<>();
+    List<String> names = new ArrayList<>();
+    for (Tag tag : tagReadService.all()) {
+      tags.put(tag.getName(), tag);
+      names.add(tag.getName());
+    }
+    snapshot = new Snapshot(tags, names);
+  }
+
+  private static final class Snapshot {
+    private final Map<String, Tag> tags;
+    private final List<String> names;
+
+    private Snapshot(Map<String, Tag> tags, List<String> names) {
+      this.tags = tags;
+      this.names = Collections.unmodifiableList(names);
+    }
+  }
+}
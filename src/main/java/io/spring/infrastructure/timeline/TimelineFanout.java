@@ -0,0 +1,136 @@
+package io.spring.infrastructure.timeline;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.spring.core.article.ArticleCreatedEvent;
+import io.spring.core.article.ArticleRemovedEvent;
+import io.spring.core.user.FollowChangedEvent;
+import io.spring.infrastructure.mybatis.mapper.TimelineMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains {@code timeline_entries}, the per-user feed read by the cursor feed query. New
+ * articles are copied to every follower's timeline once the write commits. Authors with more
+ * than {@code feed.fanout.maxFollowers} followers are marked as pull authors instead, and the
+ * feed query reads their articles directly, so one popular post never turns into a huge insert.
+ *
+ * <p>Follow changes are applied in whatever order the async listeners run, so the backfill and
+ * delete statements check the follow as it is when they run. {@link #repair()} adds entries a
+ * failed fan-out left out and drops entries nothing follows any more, one batch of {@code
+ * feed.fanout.repairBatchSize} users per run. Runs take an advisory lock and share their position
+ * in {@code timeline_repair}, so the instances walk the users together instead of each repeating
+ * the whole table.
+ */
+@Slf4j
+@Component
+public class TimelineFanout {
+  private final TimelineMapper timelineMapper;
+  private final TransactionTemplate transactionTemplate;
+  private final int maxFollowers;
+  private final int repairBatchSize;
+  // counted once per author, then patched by follow events; expiry picks up other instances
+  private final Cache<String, AtomicInteger> followerCounts;
+
+  @Autowired
+  public TimelineFanout(
+      TimelineMapper timelineMapper,
+      PlatformTransactionManager transactionManager,
+      @Value("${feed.fanout.maxFollowers:10000}") int maxFollowers,
+      @Value("${feed.fanout.followerCountTtlSeconds:600}") long followerCountTtlSeconds,
+      @Value("${feed.fanout.repairBatchSize:500}") int repairBatchSize) {
+    this.timelineMapper = timelineMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.maxFollowers = maxFollowers;
+    this.repairBatchSize = repairBatchSize;
+    this.followerCounts =
+        Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofSeconds(followerCountTtlSeconds))
+            .build();
+  }
+
+  @Async
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onArticleCreated(ArticleCreatedEvent event) {
+    if (isPullAuthor(event.getAuthorId())) {
+      return;
+    }
+    timelineMapper.fanOut(event.getArticleId(), event.getAuthorId(), event.getCreatedAt());
+  }
+
+  @Async
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onArticleRemoved(ArticleRemovedEvent event) {
+    timelineMapper.deleteArticleEntries(event.getArticleId());
+  }
+
+  @Async
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onFollowChanged(FollowChangedEvent event) {
+    AtomicInteger followers = followerCounts.getIfPresent(event.getTargetId());
+    if (followers != null) {
+      followers.addAndGet(event.isFollowing() ? 1 : -1);
+    }
+    if (!event.isFollowing()) {
+      timelineMapper.deleteAuthorEntries(event.getUserId(), event.getTargetId());
+    } else if (!timelineMapper.isPullAuthor(event.getTargetId())) {
+      timelineMapper.backfill(event.getUserId(), event.getTargetId());
+    }
+  }
+
+  @Scheduled(
+      initialDelayString = "${feed.fanout.repairDelayMs:60000}",
+      fixedDelayString = "${feed.fanout.repairDelayMs:60000}")
+  public void repair() {
+    int[] repaired =
+        transactionTemplate.execute(
+            status -> {
+              if (!timelineMapper.tryLockRepair()) {
+                return null;
+              }
+              List<String> userIds = timelineMapper.nextRepairUsers(repairBatchSize);
+              // a short batch reached the last user, so the next run starts over
+              timelineMapper.saveRepairProgress(
+                  userIds.size() < repairBatchSize ? "" : userIds.get(userIds.size() - 1));
+              if (userIds.isEmpty()) {
+                return null;
+              }
+              return new int[] {
+                timelineMapper.repairMissingEntries(userIds),
+                timelineMapper.deleteStaleEntries(userIds)
+              };
+            });
+    if (repaired != null && (repaired[0] > 0 || repaired[1] > 0)) {
+      log.warn(
+          "repaired timelines: added {} missing entries, removed {} stale",
+          repaired[0],
+          repaired[1]);
+    }
+  }
+
+  private boolean isPullAuthor(String authorId) {
+    if (timelineMapper.isPullAuthor(authorId)) {
+      return true;
+    }
+    int followers =
+        followerCounts
+            .get(authorId, key -> new AtomicInteger(timelineMapper.countFollowers(key)))
+            .get();
+    if (followers > maxFollowers) {
+      timelineMapper.insertPullAuthor(authorId);
+      return true;
+    }
+    return false;
+  }
+}
@@ -0,0 +1,15 @@
+alter table articles add column favorites_count integer not null default 0;
+
+update articles A set favorites_count = (
+  select count(1) from article_favorites AF where AF.article_id = A.id
+);
+
+-- favorite/unfavorite append here instead of updating the article row, so a burst on one
+-- article never queues on its row lock; FavoritesCountJobs folds them into favorites_count
+create table article_favorite_deltas (
+  id bigserial primary key,
+  article_id varchar(255) not null,
+  delta integer not null
+);
+
+create index article_favorite_deltas_article_id on article_favorite_deltas (article_id);
@@ -0,0 +1,28 @@
+-- tag names are looked up one row at a time, so fold any duplicate tags into one row per name
+update article_tags AT set tag_id = K.keep_id
+from (select id, min(id) over (partition by name) keep_id from tags) K
+where AT.tag_id = K.id and K.id != K.keep_id;
+
+delete from tags T using tags T2 where T.name = T2.name and T.id > T2.id;
+
+alter table tags add constraint tags_name_key unique (name);
+
+delete from article_tags AT using article_tags AT2
+where AT.article_id = AT2.article_id and AT.tag_id = AT2.tag_id and AT.ctid > AT2.ctid;
+
+alter table article_tags add primary key (article_id, tag_id);
+
+create index article_tags_tag_id on article_tags (tag_id);
+
+delete from follows F using follows F2
+where F.user_id = F2.user_id and F.follow_id = F2.follow_id and F.ctid > F2.ctid;
+
+alter table follows add primary key (user_id, follow_id);
+
+create index articles_created_at on articles (created_at);
+
+create index articles_user_id_created_at on articles (user_id, created_at);
+
+create index article_favorites_user_id on article_favorites (user_id);
+
+create index comments_article_id_created_at on comments (article_id, created_at);
@@ -0,0 +1,24 @@
+-- feed entries fanned out to each follower when an article is created
+create table timeline_entries (
+  user_id varchar(255) not null,
+  article_id varchar(255) not null,
+  author_id varchar(255) not null,
+  created_at TIMESTAMP NOT NULL,
+  primary key (user_id, article_id)
+);
+
+create index timeline_entries_user_id_created_at on timeline_entries (user_id, created_at);
+
+create index timeline_entries_article_id on timeline_entries (article_id);
+
+-- authors with too many followers to fan out to; their articles are pulled at read time
+create table timeline_pull_authors (
+  author_id varchar(255) primary key
+);
+
+create index follows_follow_id on follows (follow_id);
+
+insert into timeline_entries (user_id, article_id, author_id, created_at)
+select F.user_id, A.id, A.user_id, A.created_at
+from follows F
+join articles A on A.user_id = F.follow_id;
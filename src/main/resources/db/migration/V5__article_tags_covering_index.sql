@@ -0,0 +1,4 @@
+-- tag filters read a tag's article ids straight from this index, without visiting the table
+drop index article_tags_tag_id;
+
+create index article_tags_tag_id_article_id on article_tags (tag_id, article_id);
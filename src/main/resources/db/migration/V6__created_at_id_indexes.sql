@@ -0,0 +1,13 @@
+-- keyset pages order by (created_at, id), so the id joins created_at in the indexes they walk
+drop index articles_created_at;
+
+create index articles_created_at_id on articles (created_at, id);
+
+drop index articles_user_id_created_at;
+
+create index articles_user_id_created_at_id on articles (user_id, created_at, id);
+
+drop index timeline_entries_user_id_created_at;
+
+create index timeline_entries_user_id_created_at_article_id
+  on timeline_entries (user_id, created_at, article_id);
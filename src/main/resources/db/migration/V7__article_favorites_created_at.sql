@@ -0,0 +1,4 @@
+-- lets the favorite filter pick up favorites written by other instances without a full rescan
+alter table article_favorites add column created_at timestamp not null default now();
+
+create index article_favorites_created_at on article_favorites (created_at);
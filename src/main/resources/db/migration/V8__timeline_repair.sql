@@ -0,0 +1,5 @@
+-- how far the batched timeline repair has walked through users, shared by every instance
+create table timeline_repair (
+  id smallint primary key,
+  last_user_id varchar(255) not null
+);
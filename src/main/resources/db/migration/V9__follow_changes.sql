@@ -0,0 +1,10 @@
+-- follows and unfollows in commit order, polled by every instance's follow graph
+create table follow_changes (
+  id bigserial primary key,
+  user_id varchar(255) not null,
+  follow_id varchar(255) not null,
+  following boolean not null,
+  changed_at timestamp not null default now()
+);
+
+create index follow_changes_changed_at on follow_changes (changed_at);
@@ -104,8 +104,8 @@ public class ArticleApiTest extends TestWithCurrentUser {
         .thenReturn(Optional.of(originalArticle));
     when(articleCommandService.updateArticle(eq(originalArticle), any()))
         .thenReturn(updatedArticle);
-    when(articleQueryService.findBySlug(eq(updatedArticle.getSlug()), eq(user)))
-        .thenReturn(Optional.of(updatedArticleData));
+    when(articleQueryService.writtenArticle(eq(updatedArticle), eq(user)))
+        .thenReturn(updatedArticleData);
 
     given()
         .contentType("application/json")
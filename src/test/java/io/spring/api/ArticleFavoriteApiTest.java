@@ -14,7 +14,6 @@ import io.spring.application.ArticleQueryService;
 import io.spring.application.data.ArticleData;
 import io.spring.application.data.ProfileData;
 import io.spring.core.article.Article;
-import io.spring.core.article.ArticleRepository;
 import io.spring.core.article.Tag;
 import io.spring.core.favorite.ArticleFavorite;
 import io.spring.core.favorite.ArticleFavoriteRepository;
@@ -37,8 +36,6 @@ public class ArticleFavoriteApiTest extends TestWithCurrentUser {
 
   @MockBean private ArticleFavoriteRepository articleFavoriteRepository;
 
-  @MockBean private ArticleRepository articleRepository;
-
   @MockBean private ArticleQueryService articleQueryService;
 
   private Article article;
@@ -49,7 +46,6 @@ public class ArticleFavoriteApiTest extends TestWithCurrentUser {
     RestAssuredMockMvc.mockMvc(mvc);
     User anotherUser = new User("other@test.com", "other", "123", "", "");
     article = new Article("title", "desc", "body", Arrays.asList("java"), anotherUser.getId());
-    when(articleRepository.findBySlug(eq(article.getSlug()))).thenReturn(Optional.of(article));
     ArticleData articleData =
         new ArticleData(
             article.getId(),
@@ -68,8 +64,10 @@ public class ArticleFavoriteApiTest extends TestWithCurrentUser {
                 anotherUser.getBio(),
                 anotherUser.getImage(),
                 false));
-    when(articleQueryService.findBySlug(eq(articleData.getSlug()), eq(user)))
+    when(articleQueryService.findBySlug(eq(articleData.getSlug()), eq(null)))
         .thenReturn(Optional.of(articleData));
+    when(articleQueryService.withFavorite(eq(articleData), eq(user), any(Boolean.class)))
+        .thenReturn(articleData);
   }
 
   @Test
@@ -83,13 +81,12 @@ public class ArticleFavoriteApiTest extends TestWithCurrentUser {
         .statusCode(200)
         .body("article.id", equalTo(article.getId()));
 
-    verify(articleFavoriteRepository).save(any());
+    verify(articleFavoriteRepository).save(new ArticleFavorite(article.getId(), user.getId()));
+    verify(articleQueryService).withFavorite(any(), eq(user), eq(true));
   }
 
   @Test
   public void should_unfavorite_an_article_success() throws Exception {
-    when(articleFavoriteRepository.find(eq(article.getId()), eq(user.getId())))
-        .thenReturn(Optional.of(new ArticleFavorite(article.getId(), user.getId())));
     given()
         .header("Authorization", "Token " + token)
         .when()
@@ -99,5 +96,6 @@ public class ArticleFavoriteApiTest extends TestWithCurrentUser {
         .statusCode(200)
         .body("article.id", equalTo(article.getId()));
     verify(articleFavoriteRepository).remove(new ArticleFavorite(article.getId(), user.getId()));
+    verify(articleQueryService).withFavorite(any(), eq(user), eq(false));
   }
 }
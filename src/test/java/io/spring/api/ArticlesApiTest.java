@@ -12,14 +12,17 @@ import io.restassured.module.mockmvc.RestAssuredMockMvc;
 import io.spring.JacksonCustomizations;
 import io.spring.api.security.WebSecurityConfig;
 import io.spring.application.ArticleQueryService;
+import io.spring.application.DuplicateChecks;
 import io.spring.application.article.ArticleCommandService;
+import io.spring.application.article.NewArticleParam;
 import io.spring.application.data.ArticleData;
 import io.spring.application.data.ProfileData;
 import io.spring.core.article.Article;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validator;
 import org.joda.time.DateTime;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,6 +41,8 @@ public class ArticlesApiTest extends TestWithCurrentUser {
 
   @MockBean private ArticleCommandService articleCommandService;
 
+  @Autowired private Validator validator;
+
   @Override
   @BeforeEach
   public void setUp() throws Exception {
@@ -71,10 +76,7 @@ public class ArticlesApiTest extends TestWithCurrentUser {
     when(articleCommandService.createArticle(any(), any()))
         .thenReturn(new Article(title, description, body, tagList, user.getId()));
 
-    when(articleQueryService.findBySlug(eq(Article.toSlug(title)), any()))
-        .thenReturn(Optional.empty());
-
-    when(articleQueryService.findById(any(), any())).thenReturn(Optional.of(articleData));
+    when(articleQueryService.writtenArticle(any(), eq(user))).thenReturn(articleData);
 
     given()
         .contentType("application/json")
@@ -123,24 +125,14 @@ public class ArticlesApiTest extends TestWithCurrentUser {
     String[] tagList = {"reactjs", "angularjs", "dragons"};
     Map<String, Object> param = prepareParam(title, description, body, asList(tagList));
 
-    ArticleData articleData =
-        new ArticleData(
-            "123",
-            slug,
-            title,
-            description,
-            body,
-            false,
-            0,
-            new DateTime(),
-            new DateTime(),
-            asList(tagList),
-            new ProfileData("userid", user.getUsername(), user.getBio(), user.getImage(), false));
-
-    when(articleQueryService.findBySlug(eq(Article.toSlug(title)), any()))
-        .thenReturn(Optional.of(articleData));
-
-    when(articleQueryService.findById(any(), any())).thenReturn(Optional.of(articleData));
+    when(articleQueryService.existsBySlug(eq(slug))).thenReturn(true);
+    // the slug key rejects the insert, then the service names the field through the checks
+    ConstraintViolationException duplicated =
+        new ConstraintViolationException(
+            validator.validate(
+                new NewArticleParam(title, description, body, asList(tagList)),
+                DuplicateChecks.class));
+    when(articleCommandService.createArticle(any(), any())).thenThrow(duplicated);
 
     given()
         .contentType("application/json")
@@ -150,7 +142,8 @@ public class ArticlesApiTest extends TestWithCurrentUser {
         .post("/articles")
         .prettyPeek()
         .then()
-        .statusCode(422);
+        .statusCode(422)
+        .body("errors.title[0]", equalTo("article name exists"));
   }
 
   private HashMap<String, Object> prepareParam(
@@ -77,7 +77,7 @@ public class CommentsApiTest extends TestWithCurrentUser {
           }
         };
 
-    when(commentQueryService.findById(anyString(), eq(user))).thenReturn(Optional.of(commentData));
+    when(commentQueryService.writtenComment(any(), eq(user))).thenReturn(commentData);
 
     given()
         .contentType("application/json")
@@ -4,6 +4,7 @@ import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 
 import io.restassured.module.mockmvc.RestAssuredMockMvc;
@@ -11,7 +12,6 @@ import io.spring.JacksonCustomizations;
 import io.spring.api.security.WebSecurityConfig;
 import io.spring.application.UserQueryService;
 import io.spring.application.user.UserService;
-import io.spring.core.user.User;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -22,6 +22,7 @@ import org.springframework.boot.autoconfigure.validation.ValidationAutoConfigura
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -103,9 +104,6 @@ public class CurrentUserApiTest extends TestWithCurrentUser {
           }
         };
 
-    when(userRepository.findByUsername(eq(newUsername))).thenReturn(Optional.empty());
-    when(userRepository.findByEmail(eq(newEmail))).thenReturn(Optional.empty());
-
     when(userQueryService.findById(eq(user.getId()))).thenReturn(Optional.of(userData));
 
     given()
@@ -126,9 +124,8 @@ public class CurrentUserApiTest extends TestWithCurrentUser {
 
     Map<String, Object> param = prepareUpdateParam(newEmail, newBio, newUsername);
 
-    when(userRepository.findByEmail(eq(newEmail)))
-        .thenReturn(Optional.of(new User(newEmail, "username", "123", "", "")));
-    when(userRepository.findByUsername(eq(newUsername))).thenReturn(Optional.empty());
+    doThrow(new DuplicateKeyException("users_email_key")).when(userRepository).save(any());
+    when(userRepository.existsByEmail(eq(newEmail), eq(user.getId()))).thenReturn(true);
 
     when(userQueryService.findById(eq(user.getId()))).thenReturn(Optional.of(userData));
 
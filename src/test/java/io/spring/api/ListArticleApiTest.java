@@ -3,17 +3,28 @@ package io.spring.api;
 import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
 import static io.spring.TestHelper.articleDataFixture;
 import static java.util.Arrays.asList;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.restassured.module.mockmvc.RestAssuredMockMvc;
 import io.spring.JacksonCustomizations;
 import io.spring.api.security.WebSecurityConfig;
+import io.spring.application.ArticleCursor;
+import io.spring.application.ArticleFetchPlan;
 import io.spring.application.ArticleQueryService;
+import io.spring.application.CursorPageParameter;
+import io.spring.application.CursorPager.Direction;
 import io.spring.application.Page;
 import io.spring.application.article.ArticleCommandService;
 import io.spring.application.data.ArticleDataList;
 import io.spring.core.article.ArticleRepository;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -46,11 +57,50 @@ public class ListArticleApiTest extends TestWithCurrentUser {
         new ArticleDataList(
             asList(articleDataFixture("1", user), articleDataFixture("2", user)), 2);
     when(articleQueryService.findRecentArticles(
-            eq(null), eq(null), eq(null), eq(new Page(0, 20)), eq(null)))
+            eq(null),
+            eq(null),
+            eq(null),
+            eq(new Page(0, 20)),
+            eq(null),
+            eq(ArticleFetchPlan.SUMMARY)))
         .thenReturn(articleDataList);
     RestAssuredMockMvc.when().get("/articles").prettyPeek().then().statusCode(200);
   }
 
+  @Test
+  public void should_resolve_user_lazily_for_article_list_with_token() throws Exception {
+    ArticleDataList articleDataList =
+        new ArticleDataList(asList(articleDataFixture("1", user)), 1);
+    when(articleQueryService.findRecentArticles(
+            eq(null),
+            eq(null),
+            eq(null),
+            eq(new Page(0, 20)),
+            eq(user),
+            eq(ArticleFetchPlan.SUMMARY)))
+        .thenReturn(articleDataList);
+
+    given()
+        .header("Authorization", "Token " + token)
+        .when()
+        .get("/articles")
+        .then()
+        .statusCode(200)
+        .body("articlesCount", equalTo(1));
+
+    verify(userRepository, times(1)).findById(user.getId());
+  }
+
+  @Test
+  public void should_get_feeds_401_with_invalid_token() throws Exception {
+    given()
+        .header("Authorization", "Token invalid")
+        .when()
+        .get("/articles/feed")
+        .then()
+        .statusCode(401);
+  }
+
   @Test
   public void should_get_feeds_401_without_login() throws Exception {
     RestAssuredMockMvc.when().get("/articles/feed").prettyPeek().then().statusCode(401);
@@ -61,7 +111,8 @@ public class ListArticleApiTest extends TestWithCurrentUser {
     ArticleDataList articleDataList =
         new ArticleDataList(
             asList(articleDataFixture("1", user), articleDataFixture("2", user)), 2);
-    when(articleQueryService.findUserFeed(eq(user), eq(new Page(0, 20))))
+    when(articleQueryService.findUserFeed(
+            eq(user), eq(new Page(0, 20)), eq(ArticleFetchPlan.SUMMARY)))
         .thenReturn(articleDataList);
 
     given()
@@ -72,4 +123,75 @@ public class ListArticleApiTest extends TestWithCurrentUser {
         .then()
         .statusCode(200);
   }
+
+  @Test
+  public void should_get_article_list_by_cursor() throws Exception {
+    ArticleCursor after = new ArticleCursor(new DateTime(1000L, DateTimeZone.UTC), "a1");
+    ArticleDataList articleDataList =
+        new ArticleDataList(asList(articleDataFixture("1", user)), 2, "900", "1100");
+    when(articleQueryService.findRecentArticles(
+            eq(null),
+            eq(null),
+            eq(null),
+            eq(new CursorPageParameter<>(after, 20, Direction.NEXT)),
+            eq(null),
+            eq(ArticleFetchPlan.SUMMARY)))
+        .thenReturn(articleDataList);
+
+    RestAssuredMockMvc.given()
+        .queryParam("after", "1000_a1")
+        .when()
+        .get("/articles")
+        .then()
+        .statusCode(200)
+        .body("articlesCount", equalTo(2))
+        .body("nextCursor", equalTo("900"))
+        .body("prevCursor", equalTo("1100"));
+  }
+
+  @Test
+  public void should_reject_invalid_cursor() throws Exception {
+    RestAssuredMockMvc.given()
+        .queryParam("before", "yesterday")
+        .when()
+        .get("/articles")
+        .then()
+        .statusCode(422)
+        .body("errors.before[0]", equalTo("is not a valid cursor"));
+  }
+
+  @Test
+  public void should_reject_offset_beyond_max_depth() throws Exception {
+    RestAssuredMockMvc.given()
+        .queryParam("offset", "1001")
+        .when()
+        .get("/articles")
+        .then()
+        .statusCode(422);
+
+    verify(articleQueryService, never())
+        .findRecentArticles(any(), any(), any(), any(Page.class), any(), any());
+  }
+
+  @Test
+  public void should_get_feeds_by_cursor() throws Exception {
+    ArticleCursor before = new ArticleCursor(new DateTime(1000L, DateTimeZone.UTC), "a1");
+    ArticleDataList articleDataList =
+        new ArticleDataList(asList(articleDataFixture("1", user)), 1, "1000", null);
+    when(articleQueryService.findUserFeed(
+            eq(user),
+            eq(new CursorPageParameter<>(before, 10, Direction.PREV)),
+            eq(ArticleFetchPlan.SUMMARY)))
+        .thenReturn(articleDataList);
+
+    given()
+        .header("Authorization", "Token " + token)
+        .queryParam("before", "1000_a1")
+        .queryParam("limit", "10")
+        .when()
+        .get("/articles/feed")
+        .then()
+        .statusCode(200)
+        .body("nextCursor", equalTo("1000"));
+  }
 }
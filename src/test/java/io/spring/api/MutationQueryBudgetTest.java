@@ -0,0 +1,180 @@
+package io.spring.api;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.spring.core.article.Article;
+import io.spring.core.article.ArticleRepository;
+import io.spring.core.favorite.ArticleFavorite;
+import io.spring.core.favorite.ArticleFavoriteRepository;
+import io.spring.core.service.JwtService;
+import io.spring.core.user.FollowRelation;
+import io.spring.core.user.User;
+import io.spring.core.user.UserRepository;
+import io.spring.infrastructure.DatabaseCleanupTestExecutionListener;
+import io.spring.infrastructure.MaxQueries;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import org.springframework.test.context.support.DirtiesContextTestExecutionListener;
+import org.springframework.test.context.transaction.TransactionalTestExecutionListener;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * Statement budgets of the REST mutation endpoints, counted as JDBC statements run on the
+ * request thread. Responses are built from what the write already has in hand, so a budget only
+ * grows when the write itself needs another statement.
+ *
+ * <ul>
+ *   <li>POST /users: 2, i.e. user insert and user data
+ *   <li>PUT /user: 3, i.e. insert attempt, update and user data
+ *   <li>POST /articles: 4, i.e. article upsert, tag upsert, tag links and favorites count
+ *   <li>PUT /articles/{slug}: 3, i.e. article load, article upsert and favorites count
+ *   <li>POST /articles/{slug}/favorite: 4, i.e. article data, favorite insert, count delta and
+ *       favorites count
+ *   <li>DELETE /articles/{slug}/favorite: 4, i.e. article data, favorite delete, count delta and
+ *       favorites count
+ *   <li>POST /articles/{slug}/comments: 2, i.e. article load and comment insert
+ *   <li>POST /profiles/{username}/follow: 2, i.e. user load and follow insert
+ *   <li>DELETE /profiles/{username}/follow: 2, i.e. user load and follow delete
+ * </ul>
+ *
+ * The article cache is off so that the budgets hold for a cold read.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestExecutionListeners({
+  DependencyInjectionTestExecutionListener.class,
+  DirtiesContextTestExecutionListener.class,
+  TransactionalTestExecutionListener.class,
+  DatabaseCleanupTestExecutionListener.class
+})
+@TestPropertySource(properties = "articles.cache.maxBytes=0")
+public class MutationQueryBudgetTest {
+  @Autowired private MockMvc mvc;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private ArticleRepository articleRepository;
+
+  @Autowired private ArticleFavoriteRepository articleFavoriteRepository;
+
+  @Autowired private JwtService jwtService;
+
+  private User author;
+  private User reader;
+  private User fan;
+  private Article article;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    author = new User("author@example.com", "author", "123", "", "");
+    reader = new User("reader@example.com", "reader", "123", "", "");
+    fan = new User("fan@example.com", "fan", "123", "", "");
+    userRepository.save(author);
+    userRepository.save(reader);
+    userRepository.save(fan);
+    article =
+        new Article("title", "desc", "body", Arrays.asList("java", "spring"), author.getId());
+    articleRepository.save(article);
+    // the fan already favorites the article and follows its author, for the undo requests
+    articleFavoriteRepository.save(new ArticleFavorite(article.getId(), fan.getId()));
+    userRepository.saveRelation(new FollowRelation(fan.getId(), author.getId()));
+    // resolve the principals once so the budgets do not include the token lookup
+    for (User user : Arrays.asList(author, reader, fan)) {
+      mvc.perform(as(user, get("/user"))).andExpect(status().isOk());
+    }
+  }
+
+  @Test
+  @MaxQueries(2)
+  public void should_register_within_budget() throws Exception {
+    perform(
+        post("/users")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(
+                "{\"user\": {\"email\": \"new@example.com\", \"username\": \"new\","
+                    + " \"password\": \"123\"}}"));
+  }
+
+  @Test
+  @MaxQueries(3)
+  public void should_update_user_within_budget() throws Exception {
+    perform(as(reader, put("/user")).content("{\"user\": {\"bio\": \"new bio\"}}"));
+  }
+
+  @Test
+  @MaxQueries(4)
+  public void should_create_article_within_budget() throws Exception {
+    perform(
+        as(author, post("/articles"))
+            .content(
+                "{\"article\": {\"title\": \"new title\", \"description\": \"desc\","
+                    + " \"body\": \"body\", \"tagList\": [\"java\", \"kotlin\"]}}"));
+  }
+
+  @Test
+  @MaxQueries(3)
+  public void should_update_article_within_budget() throws Exception {
+    perform(
+        as(author, put("/articles/{slug}", article.getSlug()))
+            .content("{\"article\": {\"body\": \"new body\"}}"));
+  }
+
+  @Test
+  @MaxQueries(4)
+  public void should_favorite_article_within_budget() throws Exception {
+    perform(as(reader, post("/articles/{slug}/favorite", article.getSlug())));
+  }
+
+  @Test
+  @MaxQueries(4)
+  public void should_unfavorite_article_within_budget() throws Exception {
+    perform(as(fan, delete("/articles/{slug}/favorite", article.getSlug())));
+  }
+
+  @Test
+  @MaxQueries(2)
+  public void should_create_comment_within_budget() throws Exception {
+    perform(
+        as(reader, post("/articles/{slug}/comments", article.getSlug()))
+            .content("{\"comment\": {\"body\": \"comment\"}}"));
+  }
+
+  @Test
+  @MaxQueries(2)
+  public void should_follow_within_budget() throws Exception {
+    perform(as(reader, post("/profiles/{username}/follow", author.getUsername())));
+  }
+
+  @Test
+  @MaxQueries(2)
+  public void should_unfollow_within_budget() throws Exception {
+    perform(as(fan, delete("/profiles/{username}/follow", author.getUsername())));
+  }
+
+  private void perform(MockHttpServletRequestBuilder request) throws Exception {
+    mvc.perform(request).andExpect(status().is2xxSuccessful());
+  }
+
+  private MockHttpServletRequestBuilder as(User user, MockHttpServletRequestBuilder request) {
+    return request
+        .header("Authorization", "Token " + jwtService.toToken(user))
+        .contentType(MediaType.APPLICATION_JSON);
+  }
+}
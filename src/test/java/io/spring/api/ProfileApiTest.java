@@ -63,25 +63,22 @@ public class ProfileApiTest extends TestWithCurrentUser {
 
   @Test
   public void should_follow_user_success() throws Exception {
-    when(profileQueryService.findByUsername(eq(profileData.getUsername()), eq(user)))
-        .thenReturn(Optional.of(profileData));
     given()
         .header("Authorization", "Token " + token)
         .when()
         .post("/profiles/{username}/follow", anotherUser.getUsername())
         .prettyPeek()
         .then()
-        .statusCode(200);
+        .statusCode(200)
+        .body("profile.username", equalTo(anotherUser.getUsername()))
+        .body("profile.following", equalTo(true));
     verify(userRepository).saveRelation(new FollowRelation(user.getId(), anotherUser.getId()));
   }
 
   @Test
   public void should_unfollow_user_success() throws Exception {
     FollowRelation followRelation = new FollowRelation(user.getId(), anotherUser.getId());
-    when(userRepository.findRelation(eq(user.getId()), eq(anotherUser.getId())))
-        .thenReturn(Optional.of(followRelation));
-    when(profileQueryService.findByUsername(eq(profileData.getUsername()), eq(user)))
-        .thenReturn(Optional.of(profileData));
+    when(userRepository.removeRelation(eq(followRelation))).thenReturn(true);
 
     given()
         .header("Authorization", "Token " + token)
@@ -89,7 +86,8 @@ public class ProfileApiTest extends TestWithCurrentUser {
         .delete("/profiles/{username}/follow", anotherUser.getUsername())
         .prettyPeek()
         .then()
-        .statusCode(200);
+        .statusCode(200)
+        .body("profile.following", equalTo(false));
 
     verify(userRepository).removeRelation(eq(followRelation));
   }
@@ -0,0 +1,152 @@
+package io.spring.api;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.spring.core.article.Article;
+import io.spring.core.article.ArticleRepository;
+import io.spring.core.favorite.ArticleFavorite;
+import io.spring.core.favorite.ArticleFavoriteRepository;
+import io.spring.core.service.JwtService;
+import io.spring.core.user.FollowRelation;
+import io.spring.core.user.User;
+import io.spring.core.user.UserRepository;
+import io.spring.infrastructure.DatabaseCleanupTestExecutionListener;
+import io.spring.infrastructure.MaxQueries;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import org.springframework.test.context.support.DirtiesContextTestExecutionListener;
+import org.springframework.test.context.transaction.TransactionalTestExecutionListener;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * Statement budgets of the list and profile reads, REST and GraphQL, over {@value #AUTHORS}
+ * authors with {@value #ARTICLES_PER_AUTHOR} articles each. Authors, tags, favorites and follows
+ * are read once per page, so a budget does not depend on how many rows the page has; one that
+ * does is an N+1 and fails here.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestExecutionListeners({
+  DependencyInjectionTestExecutionListener.class,
+  DirtiesContextTestExecutionListener.class,
+  TransactionalTestExecutionListener.class,
+  DatabaseCleanupTestExecutionListener.class
+})
+@TestPropertySource(properties = "articles.cache.maxBytes=0")
+public class ReadQueryBudgetTest {
+  private static final int AUTHORS = 5;
+  private static final int ARTICLES_PER_AUTHOR = 2;
+
+  @Autowired private MockMvc mvc;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private ArticleRepository articleRepository;
+
+  @Autowired private ArticleFavoriteRepository articleFavoriteRepository;
+
+  @Autowired private JwtService jwtService;
+
+  private User reader;
+  private List<Article> articles;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    reader = new User("reader@example.com", "reader", "123", "", "");
+    userRepository.save(reader);
+    articles = new ArrayList<>();
+    for (int i = 0; i < AUTHORS; i++) {
+      User author = new User("author" + i + "@example.com", "author" + i, "123", "", "");
+      userRepository.save(author);
+      userRepository.saveRelation(new FollowRelation(reader.getId(), author.getId()));
+      for (int j = 0; j < ARTICLES_PER_AUTHOR; j++) {
+        Article article =
+            new Article(
+                "title " + i + " " + j, "desc", "body", Arrays.asList("java"), author.getId());
+        articleRepository.save(article);
+        articleFavoriteRepository.save(new ArticleFavorite(article.getId(), reader.getId()));
+        articles.add(article);
+      }
+    }
+    // resolve the principal once so the budgets do not include the token lookup
+    mvc.perform(as(get("/user"))).andExpect(status().isOk());
+  }
+
+  @Test
+  @MaxQueries(6)
+  public void should_list_articles_within_budget() throws Exception {
+    mvc.perform(as(get("/articles")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.articles.length()").value(AUTHORS * ARTICLES_PER_AUTHOR));
+  }
+
+  @Test
+  @MaxQueries(4)
+  public void should_read_feed_within_budget() throws Exception {
+    mvc.perform(as(get("/articles/feed")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.articles.length()").value(AUTHORS * ARTICLES_PER_AUTHOR));
+  }
+
+  @Test
+  @MaxQueries(3)
+  public void should_read_article_within_budget() throws Exception {
+    mvc.perform(as(get("/articles/{slug}", articles.get(0).getSlug())))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  @MaxQueries(1)
+  public void should_read_profile_within_budget() throws Exception {
+    mvc.perform(as(get("/profiles/{username}", "author0"))).andExpect(status().isOk());
+  }
+
+  @Test
+  @MaxQueries(4)
+  public void should_list_articles_with_authors_over_graphql_within_budget() throws Exception {
+    graphql("articles(first: 20)");
+  }
+
+  @Test
+  @MaxQueries(4)
+  public void should_read_feed_with_authors_over_graphql_within_budget() throws Exception {
+    graphql("feed(first: 20)");
+  }
+
+  private void graphql(String connection) throws Exception {
+    mvc.perform(
+            as(post("/graphql"))
+                .content(
+                    "{\"query\": \"{ "
+                        + connection
+                        + " { edges { node { slug favorited tagList"
+                        + " author { username following } } } } }\"}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.errors").doesNotExist())
+        .andExpect(jsonPath("$.data.*.edges.length()").value(AUTHORS * ARTICLES_PER_AUTHOR));
+  }
+
+  private MockHttpServletRequestBuilder as(MockHttpServletRequestBuilder request) {
+    return request
+        .header("Authorization", "Token " + jwtService.toToken(reader))
+        .contentType(MediaType.APPLICATION_JSON);
+  }
+}
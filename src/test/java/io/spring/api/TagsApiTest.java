@@ -2,6 +2,9 @@ package io.spring.api;
 
 import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.restassured.module.mockmvc.RestAssuredMockMvc;
@@ -14,8 +17,11 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcBuilderCustomizer;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -26,6 +32,16 @@ public class TagsApiTest extends TestWithCurrentUser {
 
   @MockBean private TagsQueryService tagsQueryService;
 
+  @TestConfiguration
+  static class MockMvcConfig {
+    // MockMvc ignores spring.mvc.publish-request-handled-events, mirror it here
+    @Bean
+    MockMvcBuilderCustomizer disableRequestHandledEvents() {
+      return builder ->
+          builder.addDispatcherServletCustomizer(servlet -> servlet.setPublishEvents(false));
+    }
+  }
+
   @Override
   @BeforeEach
   public void setUp() throws Exception {
@@ -49,6 +65,22 @@ public class TagsApiTest extends TestWithCurrentUser {
         .body("tags[3]", equalTo("api"));
   }
 
+  @Test
+  void should_not_resolve_user_for_tags_with_token() throws Exception {
+    when(tagsQueryService.allTags()).thenReturn(Arrays.asList("java"));
+
+    given()
+        .header("Authorization", "Token " + token)
+        .when()
+        .get("/tags")
+        .then()
+        .statusCode(200)
+        .body("tags[0]", equalTo("java"));
+
+    verify(jwtService, never()).getSubFromToken(any());
+    verify(userRepository, never()).findById(any());
+  }
+
   @Test
   void should_return_empty_tags_when_no_tags_exist() throws Exception {
     List<String> emptyTags = Collections.emptyList();
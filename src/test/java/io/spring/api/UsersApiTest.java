@@ -10,8 +10,10 @@ import static org.mockito.Mockito.when;
 import io.restassured.module.mockmvc.RestAssuredMockMvc;
 import io.spring.JacksonCustomizations;
 import io.spring.api.security.WebSecurityConfig;
+import io.spring.application.DuplicateChecks;
 import io.spring.application.UserQueryService;
 import io.spring.application.data.UserData;
+import io.spring.application.user.RegisterParam;
 import io.spring.application.user.UserService;
 import io.spring.core.service.JwtService;
 import io.spring.core.user.User;
@@ -20,6 +22,8 @@ import io.spring.infrastructure.mybatis.readservice.UserReadService;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -50,6 +54,8 @@ public class UsersApiTest {
 
   @Autowired private PasswordEncoder passwordEncoder;
 
+  @Autowired private Validator validator;
+
   private String defaultAvatar;
 
   @BeforeEach
@@ -70,9 +76,6 @@ public class UsersApiTest {
 
     when(userService.createUser(any())).thenReturn(user);
 
-    when(userRepository.findByUsername(eq(username))).thenReturn(Optional.empty());
-    when(userRepository.findByEmail(eq(email))).thenReturn(Optional.empty());
-
     Map<String, Object> param = prepareRegisterParameter(email, username);
 
     given()
@@ -133,9 +136,8 @@ public class UsersApiTest {
     String email = "john@jacob.com";
     String username = "johnjacob";
 
-    when(userRepository.findByUsername(eq(username)))
-        .thenReturn(Optional.of(new User(email, username, "123", "bio", "")));
-    when(userRepository.findByEmail(any())).thenReturn(Optional.empty());
+    when(userRepository.existsByUsername(eq(username), any())).thenReturn(true);
+    rejectAsDuplicate(email, username);
 
     Map<String, Object> param = prepareRegisterParameter(email, username);
 
@@ -155,10 +157,8 @@ public class UsersApiTest {
     String email = "john@jacob.com";
     String username = "johnjacob2";
 
-    when(userRepository.findByEmail(eq(email)))
-        .thenReturn(Optional.of(new User(email, username, "123", "bio", "")));
-
-    when(userRepository.findByUsername(eq(username))).thenReturn(Optional.empty());
+    when(userRepository.existsByEmail(eq(email), any())).thenReturn(true);
+    rejectAsDuplicate(email, username);
 
     Map<String, Object> param = prepareRegisterParameter(email, username);
 
@@ -172,6 +172,14 @@ public class UsersApiTest {
         .body("errors.email[0]", equalTo("duplicated email"));
   }
 
+  // the unique keys reject the insert, then the service names the fields through the checks
+  private void rejectAsDuplicate(String email, String username) {
+    ConstraintViolationException duplicated =
+        new ConstraintViolationException(
+            validator.validate(new RegisterParam(email, username, "123"), DuplicateChecks.class));
+    when(userService.createUser(any())).thenThrow(duplicated);
+  }
+
   private HashMap<String, Object> prepareRegisterParameter(
       final String email, final String username) {
     return new HashMap<String, Object>() {
@@ -0,0 +1,59 @@
+package io.spring.api.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.spring.core.service.JwtService;
+import io.spring.core.user.User;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class LazyJwtAuthenticationTest {
+
+  @Mock private JwtService jwtService;
+
+  @Mock private UserPrincipalCache userPrincipalCache;
+
+  @Test
+  public void should_not_touch_token_until_principal_requested() {
+    LazyJwtAuthentication authentication =
+        new LazyJwtAuthentication("token", jwtService, userPrincipalCache);
+
+    assertThat(authentication.isAuthenticated()).isTrue();
+    assertThat(authentication.isResolved()).isFalse();
+    verifyNoInteractions(jwtService, userPrincipalCache);
+  }
+
+  @Test
+  public void should_resolve_principal_once() {
+    User user = new User("john@jacob.com", "johnjacob", "123", "", "");
+    when(jwtService.getSubFromToken("token")).thenReturn(Optional.of(user.getId()));
+    when(userPrincipalCache.findById(user.getId())).thenReturn(Optional.of(user));
+    LazyJwtAuthentication authentication =
+        new LazyJwtAuthentication("token", jwtService, userPrincipalCache);
+
+    assertThat(authentication.getPrincipal()).isEqualTo(user);
+    assertThat(authentication.getPrincipal()).isEqualTo(user);
+    assertThat(authentication.isResolved()).isTrue();
+    verify(jwtService, times(1)).getSubFromToken("token");
+    verify(userPrincipalCache, times(1)).findById(user.getId());
+  }
+
+  @Test
+  public void should_resolve_invalid_token_to_null_principal() {
+    when(jwtService.getSubFromToken("invalid")).thenReturn(Optional.empty());
+    LazyJwtAuthentication authentication =
+        new LazyJwtAuthentication("invalid", jwtService, userPrincipalCache);
+
+    assertThat(authentication.getPrincipal()).isNull();
+    assertThat(authentication.getCredentials()).isNull();
+    verifyNoInteractions(userPrincipalCache);
+  }
+}
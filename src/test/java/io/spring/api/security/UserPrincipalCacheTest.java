@@ -0,0 +1,76 @@
+package io.spring.api.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.spring.core.user.User;
+import io.spring.core.user.UserRepository;
+import io.spring.core.user.UserUpdatedEvent;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class UserPrincipalCacheTest {
+
+  @Mock private UserRepository userRepository;
+
+  private UserPrincipalCache userPrincipalCache;
+  private User user;
+
+  @BeforeEach
+  public void setUp() {
+    userPrincipalCache = new UserPrincipalCache(userRepository, 100, Duration.ofMinutes(5));
+    user = new User("john@jacob.com", "johnjacob", "hash", "bio", "image");
+  }
+
+  @Test
+  public void should_load_user_once_and_strip_password() {
+    when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+    User first = userPrincipalCache.findById(user.getId()).get();
+    User second = userPrincipalCache.findById(user.getId()).get();
+
+    assertThat(first).isEqualTo(user);
+    assertThat(first.getPassword()).isNull();
+    assertThat(first.getUsername()).isEqualTo("johnjacob");
+    assertThat(second).isNotSameAs(first);
+    verify(userRepository, times(1)).findById(user.getId());
+  }
+
+  @Test
+  public void should_not_share_modifications_between_lookups() {
+    when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+    userPrincipalCache.findById(user.getId()).get().update("", "", "", "changed", "");
+
+    assertThat(userPrincipalCache.findById(user.getId()).get().getBio()).isEqualTo("bio");
+  }
+
+  @Test
+  public void should_reload_user_after_update_event() {
+    when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+    userPrincipalCache.findById(user.getId());
+
+    user.update("", "", "", "new bio", "");
+    userPrincipalCache.onUserUpdated(new UserUpdatedEvent(user.getId()));
+
+    assertThat(userPrincipalCache.findById(user.getId()).get().getBio()).isEqualTo("new bio");
+    verify(userRepository, times(2)).findById(user.getId());
+  }
+
+  @Test
+  public void should_not_cache_missing_user() {
+    when(userRepository.findById("missing")).thenReturn(Optional.empty());
+
+    assertThat(userPrincipalCache.findById("missing")).isEmpty();
+    assertThat(userPrincipalCache.findById("missing")).isEmpty();
+    verify(userRepository, times(2)).findById("missing");
+  }
+}
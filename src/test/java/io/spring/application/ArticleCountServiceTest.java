@@ -0,0 +1,113 @@
+package io.spring.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.spring.application.data.ArticleCount;
+import io.spring.core.article.ArticleChangedEvent;
+import io.spring.core.favorite.ArticleFavoriteChangedEvent;
+import io.spring.infrastructure.mybatis.readservice.ArticleReadService;
+import io.spring.infrastructure.tag.TagDictionary;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ArticleCountServiceTest {
+
+  @Mock private ArticleReadService articleReadService;
+
+  @Mock private TagDictionary tagDictionary;
+
+  private ArticleCountService articleCountService;
+
+  @BeforeEach
+  public void setUp() {
+    articleCountService = new ArticleCountService(articleReadService, tagDictionary, 100, 60, 1000);
+  }
+
+  @Test
+  public void should_cache_exact_count_per_filter() {
+    when(articleReadService.countArticle("java", null, null, null)).thenReturn(3);
+
+    assertThat(articleCountService.countArticles("java", null, null))
+        .isEqualTo(ArticleCount.exact(3));
+    assertThat(articleCountService.countArticles("java", null, null))
+        .isEqualTo(ArticleCount.exact(3));
+
+    verify(articleReadService, times(1)).countArticle("java", null, null, null);
+  }
+
+  @Test
+  public void should_estimate_unfiltered_count_of_large_table() {
+    when(articleReadService.estimateArticleCount()).thenReturn(250000L);
+
+    ArticleCount count = articleCountService.countArticles(null, null, null);
+
+    assertThat(count.getCount()).isEqualTo(250000);
+    assertThat(count.isExact()).isFalse();
+    verify(articleReadService, never()).countArticle(null, null, null, null);
+  }
+
+  @Test
+  public void should_count_small_table_exactly() {
+    when(articleReadService.estimateArticleCount()).thenReturn(12L);
+    when(articleReadService.countArticle(null, null, null, null)).thenReturn(10);
+
+    assertThat(articleCountService.countArticles(null, null, null))
+        .isEqualTo(ArticleCount.exact(10));
+  }
+
+  @Test
+  public void should_recount_after_article_changed() {
+    when(articleReadService.countArticle("java", null, null, null)).thenReturn(3, 4);
+    articleCountService.countArticles("java", null, null);
+
+    articleCountService.onArticleChanged(new ArticleChangedEvent("article"));
+
+    assertThat(articleCountService.countArticles("java", null, null).getCount()).isEqualTo(4);
+  }
+
+  @Test
+  public void should_only_recount_favorited_filters_after_favorite_changed() {
+    when(articleReadService.countArticle("java", null, null, null)).thenReturn(3);
+    when(articleReadService.countArticle(null, null, null, "jake")).thenReturn(1, 2);
+    articleCountService.countArticles("java", null, null);
+    articleCountService.countArticles(null, null, "jake");
+
+    articleCountService.onArticleFavoriteChanged(
+        new ArticleFavoriteChangedEvent("article", "user"));
+
+    assertThat(articleCountService.countArticles(null, null, "jake").getCount()).isEqualTo(2);
+    articleCountService.countArticles("java", null, null);
+    verify(articleReadService, times(1)).countArticle("java", null, null, null);
+  }
+
+  @Test
+  public void should_share_feed_count_regardless_of_author_order() {
+    when(articleReadService.countFeedSize(Arrays.asList("a", "b"))).thenReturn(5);
+
+    articleCountService.countFeed(Arrays.asList("a", "b"));
+
+    assertThat(articleCountService.countFeed(Arrays.asList("b", "a")))
+        .isEqualTo(ArticleCount.exact(5));
+    verify(articleReadService, times(1)).countFeedSize(Arrays.asList("a", "b"));
+  }
+
+  @Test
+  public void should_not_cache_when_disabled() {
+    articleCountService = new ArticleCountService(articleReadService, tagDictionary, 0, 60, 1000);
+    when(articleReadService.countArticle("java", null, null, null)).thenReturn(3);
+
+    articleCountService.countArticles("java", null, null);
+    articleCountService.countArticles("java", null, null);
+
+    verify(articleReadService, times(2)).countArticle("java", null, null, null);
+  }
+}
@@ -0,0 +1,183 @@
+package io.spring.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spring.application.data.ArticleData;
+import io.spring.application.data.ProfileData;
+import io.spring.core.article.ArticleChangedEvent;
+import io.spring.core.user.UserUpdatedEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.joda.time.DateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ArticleDataCacheTest {
+  private final Map<String, ArticleData> rows = new HashMap<>();
+  private final List<String> loads = new ArrayList<>();
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ArticleDataCache cache;
+
+  @BeforeEach
+  public void setUp() {
+    cache = new ArticleDataCache(1 << 20, 60, meterRegistry);
+    rows.put("a1", article("a1", "slug-1", "body", "u1"));
+    rows.put("a2", article("a2", "slug-2", "body", "u2"));
+  }
+
+  @Test
+  public void should_load_once_and_hand_out_copies() {
+    ArticleData first = cache.findById("a1", byId());
+    first.setFavorited(true);
+    first.getProfileData().setFollowing(true);
+    first.getTagList().add("mutated");
+
+    ArticleData second = cache.findById("a1", byId());
+
+    assertThat(loads).containsExactly("a1");
+    assertThat(second.isFavorited()).isFalse();
+    assertThat(second.getProfileData().isFollowing()).isFalse();
+    assertThat(second.getTagList()).containsExactly("java");
+    assertThat(gets("hit")).isEqualTo(1);
+    assertThat(gets("miss")).isEqualTo(1);
+  }
+
+  @Test
+  public void should_share_entries_between_id_and_slug() {
+    cache.findBySlug("slug-1", bySlug());
+    cache.findById("a1", byId());
+    cache.findBySlug("slug-1", bySlug());
+
+    assertThat(loads).containsExactly("slug-1");
+  }
+
+  @Test
+  public void should_reload_after_article_changes() {
+    cache.findBySlug("slug-1", bySlug());
+    rows.put("a1", article("a1", "slug-new", "new body", "u1"));
+    cache.onArticleChanged(new ArticleChangedEvent("a1"));
+
+    assertThat(cache.findById("a1", byId()).getBody()).isEqualTo("new body");
+    assertThat(cache.findBySlug("slug-1", bySlug())).isNull();
+    assertThat(cache.findBySlug("slug-new", bySlug()).getId()).isEqualTo("a1");
+  }
+
+  @Test
+  public void should_not_keep_a_slug_load_that_raced_an_update() {
+    Function<String, ArticleData> racingLoad =
+        slug -> {
+          ArticleData old = bySlug().apply(slug);
+          rows.put("a1", article("a1", "slug-1", "new body", "u1"));
+          cache.onArticleChanged(new ArticleChangedEvent("a1"));
+          return old;
+        };
+
+    assertThat(cache.findBySlug("slug-1", racingLoad).getBody()).isEqualTo("body");
+    assertThat(cache.findBySlug("slug-1", bySlug()).getBody()).isEqualTo("new body");
+    assertThat(cache.findById("a1", byId()).getBody()).isEqualTo("new body");
+  }
+
+  @Test
+  public void should_not_keep_an_id_load_that_raced_an_author_update() {
+    Function<String, ArticleData> racingLoad =
+        id -> {
+          ArticleData old = byId().apply(id);
+          rows.put("a1", article("a1", "slug-1", "body", "u1", "new bio"));
+          cache.onUserUpdated(new UserUpdatedEvent("u1"));
+          return old;
+        };
+
+    assertThat(cache.findById("a1", racingLoad).getProfileData().getBio()).isEmpty();
+    assertThat(cache.findById("a1", byId()).getProfileData().getBio()).isEqualTo("new bio");
+  }
+
+  @Test
+  public void should_drop_articles_of_updated_author() {
+    cache.findById("a1", byId());
+    cache.findById("a2", byId());
+    cache.onUserUpdated(new UserUpdatedEvent("u1"));
+    cache.findById("a1", byId());
+    cache.findById("a2", byId());
+
+    assertThat(loads).containsExactly("a1", "a2", "a1");
+  }
+
+  @Test
+  public void should_evict_by_body_size() {
+    MeterRegistry smallRegistry = new SimpleMeterRegistry();
+    cache = new ArticleDataCache(4096, 60, smallRegistry, Runnable::run);
+    char[] body = new char[3000];
+    Arrays.fill(body, 'x');
+    rows.put("big", article("big", "big", new String(body), "u1"));
+
+    cache.findById("big", byId());
+    cache.findById("a1", byId());
+    cache.findById("a2", byId());
+    cache.findById("a1", byId());
+    cache.findById("a2", byId());
+
+    assertThat(smallRegistry.get("cache.evictions").functionCounter().count()).isGreaterThan(0);
+  }
+
+  @Test
+  public void should_pass_through_when_disabled() {
+    MeterRegistry disabledRegistry = new SimpleMeterRegistry();
+    cache = new ArticleDataCache(0, 0, disabledRegistry);
+    cache.findById("a1", byId());
+    cache.findById("a1", byId());
+
+    assertThat(loads).containsExactly("a1", "a1");
+    assertThat(disabledRegistry.getMeters()).isEmpty();
+  }
+
+  private double gets(String result) {
+    return meterRegistry
+        .get("cache.gets")
+        .tags("cache", "articles", "result", result)
+        .functionCounter()
+        .count();
+  }
+
+  private Function<String, ArticleData> byId() {
+    return id -> {
+      loads.add(id);
+      return rows.get(id);
+    };
+  }
+
+  private Function<String, ArticleData> bySlug() {
+    return slug -> {
+      loads.add(slug);
+      return rows.values().stream()
+          .filter(articleData -> articleData.getSlug().equals(slug))
+          .findFirst()
+          .orElse(null);
+    };
+  }
+
+  private static ArticleData article(String id, String slug, String body, String authorId) {
+    return article(id, slug, body, authorId, "");
+  }
+
+  private static ArticleData article(
+      String id, String slug, String body, String authorId, String bio) {
+    return new ArticleData(
+        id,
+        slug,
+        "title",
+        "desc",
+        body,
+        false,
+        0,
+        new DateTime(),
+        new DateTime(),
+        new ArrayList<>(Arrays.asList("java")),
+        new ProfileData(authorId, "user", bio, "", false));
+  }
+}
@@ -6,16 +6,22 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spring.application.data.ArticleCount;
 import io.spring.application.data.ArticleData;
 import io.spring.application.data.ArticleDataList;
 import io.spring.application.data.ProfileData;
 import io.spring.core.user.User;
+import io.spring.infrastructure.favorite.FavoriteFilter;
 import io.spring.infrastructure.mybatis.readservice.ArticleReadService;
 import io.spring.infrastructure.mybatis.readservice.ArticleFavoritesReadService;
 import io.spring.infrastructure.mybatis.readservice.UserRelationshipQueryService;
+import io.spring.infrastructure.tag.TagDictionary;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -25,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,15 +46,30 @@ public class ArticleQueryServiceEnhancedTest {
   @Mock
   private UserRelationshipQueryService userRelationshipQueryService;
 
+  @Mock
+  private ArticleCountService articleCountService;
+
+  // a zero false positive rate disables the filter, so every favorite check reaches the mocks
+  @Spy
+  private FavoriteFilter favoriteFilter =
+      new FavoriteFilter(null, null, new SimpleMeterRegistry(), 0, 5000);
+
+  @Mock
+  private TagDictionary tagDictionary;
+
+  // a zero size disables the cache, so every read reaches the mocks
+  @Spy
+  private ArticleDataCache articleDataCache = new ArticleDataCache(0, 0, new SimpleMeterRegistry());
+
   @InjectMocks
   private ArticleQueryService articleQueryService;
 
   @Test
   public void findRecentArticles_should_handle_null_parameters() {
-    when(articleReadService.queryArticles(isNull(), isNull(), isNull(), any(Page.class)))
+    when(articleReadService.queryArticles(isNull(), isNull(), isNull(), isNull(), any(Page.class)))
         .thenReturn(Collections.emptyList());
-    when(articleReadService.countArticle(isNull(), isNull(), isNull()))
-        .thenReturn(0);
+    when(articleCountService.countArticles(isNull(), isNull(), isNull()))
+        .thenReturn(ArticleCount.exact(0));
 
     ArticleDataList result = articleQueryService.findRecentArticles(
         null, null, null, new Page(0, 20), null);
@@ -55,16 +77,16 @@ public class ArticleQueryServiceEnhancedTest {
     assertThat(result).isNotNull();
     assertThat(result.getArticleDatas()).isEmpty();
     assertThat(result.getCount()).isEqualTo(0);
-    verify(articleReadService).queryArticles(isNull(), isNull(), isNull(), any(Page.class));
-    verify(articleReadService).countArticle(isNull(), isNull(), isNull());
+    verify(articleReadService).queryArticles(isNull(), isNull(), isNull(), isNull(), any(Page.class));
+    verify(articleCountService).countArticles(isNull(), isNull(), isNull());
   }
 
   @Test
   public void findRecentArticles_should_handle_empty_string_parameters() {
-    when(articleReadService.queryArticles(eq(""), eq(""), eq(""), any(Page.class)))
+    when(articleReadService.queryArticles(eq(""), isNull(), eq(""), eq(""), any(Page.class)))
         .thenReturn(Collections.emptyList());
-    when(articleReadService.countArticle(eq(""), eq(""), eq("")))
-        .thenReturn(0);
+    when(articleCountService.countArticles(eq(""), eq(""), eq("")))
+        .thenReturn(ArticleCount.exact(0));
 
     ArticleDataList result = articleQueryService.findRecentArticles(
         "", "", "", new Page(0, 20), null);
@@ -76,10 +98,10 @@ public class ArticleQueryServiceEnhancedTest {
 
   @Test
   public void findRecentArticles_should_handle_whitespace_parameters() {
-    when(articleReadService.queryArticles(eq("   "), eq("   "), eq("   "), any(Page.class)))
+    when(articleReadService.queryArticles(eq("   "), isNull(), eq("   "), eq("   "), any(Page.class)))
         .thenReturn(Collections.emptyList());
-    when(articleReadService.countArticle(eq("   "), eq("   "), eq("   ")))
-        .thenReturn(0);
+    when(articleCountService.countArticles(eq("   "), eq("   "), eq("   ")))
+        .thenReturn(ArticleCount.exact(0));
 
     ArticleDataList result = articleQueryService.findRecentArticles(
         "   ", "   ", "   ", new Page(0, 20), null);
@@ -95,10 +117,10 @@ public class ArticleQueryServiceEnhancedTest {
     String specialAuthor = "user_name-123";
     String specialFavoriter = "favoriter@domain.com";
 
-    when(articleReadService.queryArticles(eq(specialTag), eq(specialAuthor), eq(specialFavoriter), any(Page.class)))
+    when(articleReadService.queryArticles(eq(specialTag), isNull(), eq(specialAuthor), eq(specialFavoriter), any(Page.class)))
         .thenReturn(Collections.emptyList());
-    when(articleReadService.countArticle(eq(specialTag), eq(specialAuthor), eq(specialFavoriter)))
-        .thenReturn(0);
+    when(articleCountService.countArticles(eq(specialTag), eq(specialAuthor), eq(specialFavoriter)))
+        .thenReturn(ArticleCount.exact(0));
 
     ArticleDataList result = articleQueryService.findRecentArticles(
         specialTag, specialAuthor, specialFavoriter, new Page(0, 20), null);
@@ -114,10 +136,10 @@ public class ArticleQueryServiceEnhancedTest {
     String unicodeAuthor = "用户名";
     String unicodeFavoriter = "收藏者";
 
-    when(articleReadService.queryArticles(eq(unicodeTag), eq(unicodeAuthor), eq(unicodeFavoriter), any(Page.class)))
+    when(articleReadService.queryArticles(eq(unicodeTag), isNull(), eq(unicodeAuthor), eq(unicodeFavoriter), any(Page.class)))
         .thenReturn(Collections.emptyList());
-    when(articleReadService.countArticle(eq(unicodeTag), eq(unicodeAuthor), eq(unicodeFavoriter)))
-        .thenReturn(0);
+    when(articleCountService.countArticles(eq(unicodeTag), eq(unicodeAuthor), eq(unicodeFavoriter)))
+        .thenReturn(ArticleCount.exact(0));
 
     ArticleDataList result = articleQueryService.findRecentArticles(
         unicodeTag, unicodeAuthor, unicodeFavoriter, new Page(0, 20), null);
@@ -131,10 +153,10 @@ public class ArticleQueryServiceEnhancedTest {
   public void findRecentArticles_should_handle_large_page_size() {
     Page largePage = new Page(0, 1000);
     
-    when(articleReadService.queryArticles(isNull(), isNull(), isNull(), eq(largePage)))
+    when(articleReadService.queryArticles(isNull(), isNull(), isNull(), isNull(), eq(largePage)))
         .thenReturn(Collections.emptyList());
-    when(articleReadService.countArticle(isNull(), isNull(), isNull()))
-        .thenReturn(0);
+    when(articleCountService.countArticles(isNull(), isNull(), isNull()))
+        .thenReturn(ArticleCount.exact(0));
 
     ArticleDataList result = articleQueryService.findRecentArticles(null, null, null, largePage, null);
 
@@ -147,10 +169,10 @@ public class ArticleQueryServiceEnhancedTest {
   public void findRecentArticles_should_handle_zero_page_size() {
     Page zeroPage = new Page(0, 0);
     
-    when(articleReadService.queryArticles(isNull(), isNull(), isNull(), eq(zeroPage)))
+    when(articleReadService.queryArticles(isNull(), isNull(), isNull(), isNull(), eq(zeroPage)))
         .thenReturn(Collections.emptyList());
-    when(articleReadService.countArticle(isNull(), isNull(), isNull()))
-        .thenReturn(0);
+    when(articleCountService.countArticles(isNull(), isNull(), isNull()))
+        .thenReturn(ArticleCount.exact(0));
 
     ArticleDataList result = articleQueryService.findRecentArticles(null, null, null, zeroPage, null);
 
@@ -161,9 +183,9 @@ public class ArticleQueryServiceEnhancedTest {
 
   @Test
   public void findRecentArticlesWithCursor_should_handle_null_user() {
-    CursorPageParameter<DateTime> pageParam = new CursorPageParameter<>(null, 20, CursorPager.Direction.NEXT);
+    CursorPageParameter<ArticleCursor> pageParam = new CursorPageParameter<>(null, 20, CursorPager.Direction.NEXT);
     
-    when(articleReadService.findArticlesWithCursor(isNull(), isNull(), isNull(), eq(pageParam)))
+    when(articleReadService.findArticlesWithCursor(isNull(), isNull(), isNull(), isNull(), eq(pageParam)))
         .thenReturn(Collections.emptyList());
 
     CursorPager<ArticleData> result = articleQueryService.findRecentArticlesWithCursor(
@@ -171,15 +193,15 @@ public class ArticleQueryServiceEnhancedTest {
 
     assertThat(result).isNotNull();
     assertThat(result.getData()).isEmpty();
-    verify(articleReadService).findArticlesWithCursor(isNull(), isNull(), isNull(), eq(pageParam));
+    verify(articleReadService).findArticlesWithCursor(isNull(), isNull(), isNull(), isNull(), eq(pageParam));
   }
 
   @Test
   public void findRecentArticlesWithCursor_should_handle_authenticated_user() {
-    CursorPageParameter<DateTime> pageParam = new CursorPageParameter<>(null, 20, CursorPager.Direction.NEXT);
+    CursorPageParameter<ArticleCursor> pageParam = new CursorPageParameter<>(null, 20, CursorPager.Direction.NEXT);
     User mockUser = new User("test@example.com", "testuser", "password", "bio", "image");
     
-    when(articleReadService.findArticlesWithCursor(isNull(), isNull(), isNull(), eq(pageParam)))
+    when(articleReadService.findArticlesWithCursor(isNull(), isNull(), isNull(), isNull(), eq(pageParam)))
         .thenReturn(Collections.emptyList());
 
     CursorPager<ArticleData> result = articleQueryService.findRecentArticlesWithCursor(
@@ -187,12 +209,29 @@ public class ArticleQueryServiceEnhancedTest {
 
     assertThat(result).isNotNull();
     assertThat(result.getData()).isEmpty();
-    verify(articleReadService).findArticlesWithCursor(isNull(), isNull(), isNull(), eq(pageParam));
+    verify(articleReadService).findArticlesWithCursor(isNull(), isNull(), isNull(), isNull(), eq(pageParam));
+  }
+
+  @Test
+  public void findUserFeed_should_end_paging_when_a_stale_count_overshoots_the_rows() {
+    User reader = new User("reader@test.com", "reader", "123", "", "");
+    when(userRelationshipQueryService.followedUsers(reader.getId()))
+        .thenReturn(Collections.singletonList("author"));
+    when(articleReadService.findArticlesOfAuthors(
+            eq(Collections.singletonList("author")), any(Page.class), eq(ArticleFetchPlan.FULL)))
+        .thenReturn(Collections.emptyList());
+    when(articleCountService.countFeed(Collections.singletonList("author")))
+        .thenReturn(ArticleCount.exact(5));
+
+    ArticleDataList result = articleQueryService.findUserFeed(reader, new Page(0, 20));
+
+    assertThat(result.getArticleDatas()).isEmpty();
+    assertThat(result.getNextCursor()).isNull();
   }
 
   @Test
   public void findUserFeedWithCursor_should_throw_exception_when_user_is_null() {
-    CursorPageParameter<DateTime> pageParam = new CursorPageParameter<>(null, 20, CursorPager.Direction.NEXT);
+    CursorPageParameter<ArticleCursor> pageParam = new CursorPageParameter<>(null, 20, CursorPager.Direction.NEXT);
     
     assertThrows(NullPointerException.class, () -> 
         articleQueryService.findUserFeedWithCursor(null, pageParam));
@@ -201,18 +240,17 @@ public class ArticleQueryServiceEnhancedTest {
   @Test
   public void findUserFeedWithCursor_should_handle_authenticated_user() {
     User mockUser = createMockUser();
-    CursorPageParameter<DateTime> pageParam = new CursorPageParameter<>(null, 20, CursorPager.Direction.NEXT);
+    CursorPageParameter<ArticleCursor> pageParam = new CursorPageParameter<>(null, 20, CursorPager.Direction.NEXT);
     
-    when(userRelationshipQueryService.followedUsers(eq("user-id")))
-        .thenReturn(Arrays.asList("followed-user-1"));
-    when(articleReadService.findArticlesOfAuthorsWithCursor(any(List.class), eq(pageParam)))
+    when(articleReadService.findTimelineWithCursor(eq("user-id"), eq(pageParam)))
         .thenReturn(Collections.emptyList());
 
     CursorPager<ArticleData> result = articleQueryService.findUserFeedWithCursor(mockUser, pageParam);
 
     assertThat(result).isNotNull();
     assertThat(result.getData()).isEmpty();
-    verify(userRelationshipQueryService).followedUsers(eq("user-id"));
+    verify(articleReadService).findTimelineWithCursor(eq("user-id"), eq(pageParam));
+    verify(userRelationshipQueryService, never()).followedUsers(any());
   }
 
   @Test
@@ -343,6 +381,46 @@ public class ArticleQueryServiceEnhancedTest {
     assertThat(result.get()).isEqualTo(mockArticleData);
   }
 
+  @Test
+  public void findRecentArticlesWithCursor_should_skip_enrichment_not_in_plan() {
+    User user = new User("a@test.com", "a", "123", "", "");
+    ArticleFetchPlan plan = new ArticleFetchPlan(false, false, false, false, false);
+    List<String> articleIds = new java.util.ArrayList<>(Arrays.asList("article-id"));
+    when(articleReadService.findArticlesWithCursor(isNull(), isNull(), isNull(), isNull(), any()))
+        .thenReturn(articleIds);
+    when(articleReadService.findArticles(articleIds, plan))
+        .thenReturn(Arrays.asList(createMockArticleData()));
+
+    CursorPager<ArticleData> result =
+        articleQueryService.findRecentArticlesWithCursor(
+            null,
+            null,
+            null,
+            new CursorPageParameter<>(null, 20, CursorPager.Direction.NEXT),
+            user,
+            plan);
+
+    assertThat(result.getData()).hasSize(1);
+    verifyNoInteractions(articleFavoritesReadService, userRelationshipQueryService);
+  }
+
+  @Test
+  public void findBySlug_should_only_run_enrichment_in_plan() {
+    User user = new User("a@test.com", "a", "123", "", "");
+    ArticleData articleData = createMockArticleData();
+    when(articleReadService.findBySlug("test-slug")).thenReturn(articleData);
+    when(articleFavoritesReadService.articleFavoriteCount("article-id")).thenReturn(3);
+
+    Optional<ArticleData> result =
+        articleQueryService.findBySlug(
+            "test-slug", user, new ArticleFetchPlan(true, false, false, true, true));
+
+    assertThat(result).isPresent();
+    assertThat(result.get().getFavoritesCount()).isEqualTo(3);
+    verify(articleFavoritesReadService, never()).isUserFavorite(any(), any());
+    verifyNoInteractions(userRelationshipQueryService);
+  }
+
   private CursorPager<ArticleData> createMockCursorPager() {
     CursorPager<ArticleData> pager = mock(CursorPager.class);
     when(pager.getData()).thenReturn(Collections.emptyList());
@@ -5,7 +5,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 
 import io.spring.application.data.ProfileData;
@@ -131,4 +136,45 @@ public class ProfileQueryServiceTest {
 
     verify(userReadService).findByUsername(username);
   }
+
+  @Test
+  public void should_find_profiles_by_usernames_in_batch() {
+    UserData anotherUserData =
+        new UserData("another-id", "another@example.com", "anotheruser", "", "");
+    when(userReadService.findByUsernames(any()))
+        .thenReturn(Arrays.asList(targetUserData, anotherUserData));
+    when(userRelationshipQueryService.followingAuthors(eq(testUser.getId()), any()))
+        .thenReturn(new HashSet<>(Collections.singletonList("target-id")));
+
+    Map<String, ProfileData> result =
+        profileQueryService.findByUsernames(
+            Arrays.asList("targetuser", "anotheruser"), testUser);
+
+    assertThat(result).hasSize(2);
+    assertThat(result.get("targetuser").isFollowing()).isTrue();
+    assertThat(result.get("anotheruser").isFollowing()).isFalse();
+    verify(userRelationshipQueryService)
+        .followingAuthors(testUser.getId(), Arrays.asList("target-id", "another-id"));
+  }
+
+  @Test
+  public void should_not_query_following_for_anonymous_batch() {
+    when(userReadService.findByUsernames(any()))
+        .thenReturn(Collections.singletonList(targetUserData));
+
+    Map<String, ProfileData> result =
+        profileQueryService.findByUsernames(Collections.singletonList("targetuser"), null);
+
+    assertThat(result.get("targetuser").isFollowing()).isFalse();
+    verifyNoInteractions(userRelationshipQueryService);
+  }
+
+  @Test
+  public void should_skip_queries_for_empty_username_batch() {
+    Map<String, ProfileData> result =
+        profileQueryService.findByUsernames(Collections.emptyList(), testUser);
+
+    assertThat(result).isEmpty();
+    verifyNoInteractions(userReadService, userRelationshipQueryService);
+  }
 }
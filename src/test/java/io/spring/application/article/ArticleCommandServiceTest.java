@@ -1,20 +1,30 @@
 package io.spring.application.article;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import io.spring.application.DuplicateChecks;
 import io.spring.core.article.Article;
 import io.spring.core.article.ArticleRepository;
 import io.spring.core.user.User;
 import java.util.Arrays;
 import java.util.Collections;
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 
 @ExtendWith(MockitoExtension.class)
 public class ArticleCommandServiceTest {
@@ -22,6 +32,9 @@ public class ArticleCommandServiceTest {
   @Mock
   private ArticleRepository articleRepository;
 
+  @Mock
+  private Validator validator;
+
   @InjectMocks
   private ArticleCommandService articleCommandService;
 
@@ -200,4 +213,15 @@ public class ArticleCommandServiceTest {
     assertThat(testArticle.getUserId()).isEqualTo(originalUserId);
     verify(articleRepository).save(testArticle);
   }
+
+  @Test
+  public void should_report_duplicated_title_once_the_slug_key_rejects_the_article() {
+    ConstraintViolation<NewArticleParam> violation = mock(ConstraintViolation.class);
+    doThrow(new DuplicateKeyException("articles_slug_key")).when(articleRepository).save(any());
+    when(validator.validate(eq(newArticleParam), eq(DuplicateChecks.class)))
+        .thenReturn(Collections.singleton(violation));
+
+    assertThatThrownBy(() -> articleCommandService.createArticle(newArticleParam, testUser))
+        .isInstanceOf(ConstraintViolationException.class);
+  }
 }
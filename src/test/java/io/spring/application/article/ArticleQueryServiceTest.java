@@ -1,39 +1,66 @@
 package io.spring.application.article;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spring.application.ArticleCountService;
+import io.spring.application.ArticleCursor;
+import io.spring.application.ArticleDataCache;
+import io.spring.application.ArticleFetchPlan;
 import io.spring.application.ArticleQueryService;
 import io.spring.application.CursorPageParameter;
 import io.spring.application.CursorPager;
 import io.spring.application.CursorPager.Direction;
-import io.spring.application.DateTimeCursor;
 import io.spring.application.Page;
 import io.spring.application.data.ArticleData;
 import io.spring.application.data.ArticleDataList;
 import io.spring.core.article.Article;
+import io.spring.core.article.ArticleCreatedEvent;
 import io.spring.core.article.ArticleRepository;
 import io.spring.core.favorite.ArticleFavorite;
 import io.spring.core.favorite.ArticleFavoriteRepository;
+import io.spring.core.user.FollowChangedEvent;
 import io.spring.core.user.FollowRelation;
 import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
 import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.favorite.FavoriteFilter;
 import io.spring.infrastructure.repository.MyBatisArticleFavoriteRepository;
 import io.spring.infrastructure.repository.MyBatisArticleRepository;
 import io.spring.infrastructure.repository.MyBatisUserRepository;
+import io.spring.infrastructure.tag.TagDictionary;
+import io.spring.infrastructure.timeline.TimelineFanout;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import org.joda.time.DateTime;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.AopTestUtils;
 
 @Import({
   ArticleQueryService.class,
+  ArticleCountService.class,
+  ArticleDataCache.class,
   MyBatisUserRepository.class,
   MyBatisArticleRepository.class,
-  MyBatisArticleFavoriteRepository.class
+  MyBatisArticleFavoriteRepository.class,
+  FavoriteFilter.class,
+  TagDictionary.class,
+  TimelineFanout.class,
+  SimpleMeterRegistry.class
 })
+@TestPropertySource(
+    properties = {
+      "articles.count.cacheSize=0",
+      "articles.cache.maxBytes=0",
+      "feed.fanout.maxFollowers=1",
+      // favorites here never commit, so the filter would never hear of them
+      "favorites.filter.falsePositiveRate=0"
+    })
 public class ArticleQueryServiceTest extends DbTestBase {
   @Autowired private ArticleQueryService queryService;
 
@@ -43,6 +70,10 @@ public class ArticleQueryServiceTest extends DbTestBase {
 
   @Autowired private ArticleFavoriteRepository articleFavoriteRepository;
 
+  @Autowired private TimelineFanout timelineFanout;
+
+  @Autowired private TagDictionary tagDictionary;
+
   private User user;
   private Article article;
 
@@ -54,6 +85,8 @@ public class ArticleQueryServiceTest extends DbTestBase {
         new Article(
             "test", "desc", "body", Arrays.asList("java", "spring"), user.getId(), new DateTime());
     articleRepository.save(article);
+    // tables are truncated between tests, so drop tag ids left over from earlier ones
+    tagDictionary.reload();
   }
 
   @Test
@@ -69,6 +102,24 @@ public class ArticleQueryServiceTest extends DbTestBase {
     Assertions.assertTrue(fetched.getTagList().contains("java"));
   }
 
+  @Test
+  public void should_list_tags_in_name_order() {
+    Article tagged =
+        new Article(
+            "tagged", "desc", "body", Arrays.asList("spring", "web", "Java"), user.getId());
+    articleRepository.save(tagged);
+
+    Assertions.assertEquals(
+        Arrays.asList("Java", "spring", "web"),
+        queryService.findById(tagged.getId(), user).get().getTagList());
+    Assertions.assertEquals(
+        Arrays.asList("Java", "spring", "web"),
+        queryService.findBySlug(tagged.getSlug(), null).get().getTagList());
+    Assertions.assertEquals(
+        Arrays.asList("Java", "spring", "web"),
+        queryService.writtenArticle(tagged, user).getTagList());
+  }
+
   @Test
   public void should_get_article_with_right_favorite_and_favorite_count() {
     User anotherUser = new User("other@test.com", "other", "123", "", "");
@@ -83,6 +134,20 @@ public class ArticleQueryServiceTest extends DbTestBase {
     Assertions.assertTrue(articleData.isFavorited());
   }
 
+  @Test
+  public void should_leave_body_out_of_summary_lists() {
+    ArticleDataList summaries =
+        queryService.findRecentArticles(
+            null, null, null, new Page(), user, ArticleFetchPlan.SUMMARY);
+    ArticleData summary = summaries.getArticleDatas().get(0);
+    Assertions.assertNull(summary.getBody());
+    Assertions.assertEquals("desc", summary.getDescription());
+    Assertions.assertEquals(2, summary.getTagList().size());
+
+    ArticleDataList feed = queryService.findUserFeed(user, new Page(), ArticleFetchPlan.SUMMARY);
+    Assertions.assertTrue(feed.getArticleDatas().isEmpty());
+  }
+
   @Test
   public void should_get_default_article_list() {
     Article anotherArticle =
@@ -130,8 +195,8 @@ public class ArticleQueryServiceTest extends DbTestBase {
             null,
             null,
             null,
-            new CursorPageParameter<DateTime>(
-                DateTimeCursor.parse(recentArticles.getEndCursor().toString()), 20, Direction.NEXT),
+            new CursorPageParameter<>(
+                ArticleCursor.parse(recentArticles.getEndCursor().toString()), 20, Direction.NEXT),
             user);
     Assertions.assertEquals(nodata.getData().size(), 0);
     Assertions.assertEquals(nodata.getStartCursor(), null);
@@ -142,6 +207,93 @@ public class ArticleQueryServiceTest extends DbTestBase {
     Assertions.assertEquals(prevArticles.getData().size(), 2);
   }
 
+  @Test
+  public void should_page_article_list_with_cursors() {
+    Article anotherArticle =
+        new Article(
+            "new article",
+            "desc",
+            "body",
+            Arrays.asList("test"),
+            user.getId(),
+            new DateTime().minusHours(1));
+    articleRepository.save(anotherArticle);
+
+    ArticleDataList firstPage =
+        queryService.findRecentArticles(null, null, null, new Page(0, 1), user);
+    Assertions.assertEquals(firstPage.getCount(), 2);
+    Assertions.assertEquals(firstPage.getArticleDatas().get(0).getId(), article.getId());
+    Assertions.assertNotNull(firstPage.getNextCursor());
+
+    ArticleDataList secondPage =
+        queryService.findRecentArticles(
+            null,
+            null,
+            null,
+            new CursorPageParameter<>(
+                ArticleCursor.parse(firstPage.getNextCursor()), 1, Direction.NEXT),
+            user);
+    Assertions.assertEquals(secondPage.getCount(), 2);
+    Assertions.assertEquals(secondPage.getArticleDatas().size(), 1);
+    Assertions.assertEquals(secondPage.getArticleDatas().get(0).getId(), anotherArticle.getId());
+    Assertions.assertNull(secondPage.getNextCursor());
+    Assertions.assertNotNull(secondPage.getPrevCursor());
+
+    ArticleDataList backToFirst =
+        queryService.findRecentArticles(
+            null,
+            null,
+            null,
+            new CursorPageParameter<>(
+                ArticleCursor.parse(secondPage.getPrevCursor()), 1, Direction.PREV),
+            user);
+    Assertions.assertEquals(backToFirst.getArticleDatas().get(0).getId(), article.getId());
+    Assertions.assertNull(backToFirst.getPrevCursor());
+  }
+
+  @Test
+  public void should_not_skip_articles_created_in_the_same_millisecond() {
+    DateTime createdAt = article.getCreatedAt().minusHours(1);
+    for (int i = 0; i < 3; i++) {
+      articleRepository.save(
+          new Article("tie " + i, "desc", "body", Arrays.asList("test"), user.getId(), createdAt));
+    }
+
+    Set<String> seen = new HashSet<>();
+    String cursor = null;
+    do {
+      ArticleDataList page =
+          queryService.findRecentArticles(
+              null,
+              null,
+              null,
+              new CursorPageParameter<>(ArticleCursor.parse(cursor), 1, Direction.NEXT),
+              user);
+      Assertions.assertEquals(page.getArticleDatas().size(), 1);
+      seen.add(page.getArticleDatas().get(0).getId());
+      cursor = page.getNextCursor();
+    } while (cursor != null);
+    Assertions.assertEquals(seen.size(), 4);
+  }
+
+  @Test
+  public void should_skip_body_and_tags_not_in_fetch_plan() {
+    CursorPager<ArticleData> articles =
+        queryService.findRecentArticlesWithCursor(
+            null,
+            null,
+            null,
+            new CursorPageParameter<>(null, 20, Direction.NEXT),
+            user,
+            new ArticleFetchPlan(true, false, false, false, false));
+    Assertions.assertEquals(articles.getData().size(), 1);
+    ArticleData fetched = articles.getData().get(0);
+    Assertions.assertNull(fetched.getBody());
+    Assertions.assertTrue(fetched.getTagList() == null || fetched.getTagList().isEmpty());
+    Assertions.assertEquals(fetched.getTitle(), article.getTitle());
+    Assertions.assertEquals(fetched.getProfileData().getUsername(), user.getUsername());
+  }
+
   @Test
   public void should_query_article_by_author() {
     User anotherUser = new User("other@email.com", "other", "123", "", "");
@@ -227,4 +379,108 @@ public class ArticleQueryServiceTest extends DbTestBase {
     ArticleData articleData = anotherUserFeed.getArticleDatas().get(0);
     Assertions.assertTrue(articleData.getProfileData().isFollowing());
   }
+
+  @Test
+  public void should_read_cursor_feed_from_timeline() {
+    User follower = new User("other@email.com", "other", "123", "", "");
+    userRepository.save(follower);
+    follow(follower, user);
+
+    CursorPager<ArticleData> feed =
+        queryService.findUserFeedWithCursor(
+            follower, new CursorPageParameter<>(null, 20, Direction.NEXT));
+    Assertions.assertEquals(feed.getData().size(), 1);
+    Assertions.assertEquals(feed.getData().get(0).getId(), article.getId());
+    Assertions.assertTrue(feed.getData().get(0).getProfileData().isFollowing());
+
+    userRepository.removeRelation(new FollowRelation(follower.getId(), user.getId()));
+    Assertions.assertTrue(
+        queryService
+            .findUserFeedWithCursor(follower, new CursorPageParameter<>(null, 20, Direction.NEXT))
+            .getData()
+            .isEmpty());
+  }
+
+  @Test
+  public void should_keep_timeline_when_an_unfollow_is_handled_after_a_later_follow() {
+    User follower = new User("other@email.com", "other", "123", "", "");
+    userRepository.save(follower);
+    FollowRelation relation = new FollowRelation(follower.getId(), user.getId());
+    follow(follower, user);
+    userRepository.removeRelation(relation);
+    userRepository.saveRelation(relation);
+
+    // the second follow's backfill runs before the unfollow's delete
+    fanout().onFollowChanged(new FollowChangedEvent(follower.getId(), user.getId(), true));
+    fanout().onFollowChanged(new FollowChangedEvent(follower.getId(), user.getId(), false));
+
+    CursorPager<ArticleData> feed =
+        queryService.findUserFeedWithCursor(
+            follower, new CursorPageParameter<>(null, 20, Direction.NEXT));
+    Assertions.assertEquals(feed.getData().size(), 1);
+    Assertions.assertEquals(feed.getData().get(0).getId(), article.getId());
+  }
+
+  @Test
+  public void should_repair_timeline_entries_a_failed_fan_out_left_out() {
+    User follower = new User("other@email.com", "other", "123", "", "");
+    userRepository.save(follower);
+    // no handler runs, as when the fan-out throws
+    userRepository.saveRelation(new FollowRelation(follower.getId(), user.getId()));
+    Assertions.assertTrue(
+        queryService
+            .findUserFeedWithCursor(follower, new CursorPageParameter<>(null, 20, Direction.NEXT))
+            .getData()
+            .isEmpty());
+
+    fanout().repair();
+
+    CursorPager<ArticleData> feed =
+        queryService.findUserFeedWithCursor(
+            follower, new CursorPageParameter<>(null, 20, Direction.NEXT));
+    Assertions.assertEquals(feed.getData().size(), 1);
+    Assertions.assertEquals(feed.getData().get(0).getId(), article.getId());
+  }
+
+  @Test
+  public void should_pull_articles_of_authors_with_many_followers() {
+    User follower = new User("other@email.com", "other", "123", "", "");
+    User anotherFollower = new User("another@email.com", "another", "123", "", "");
+    userRepository.save(follower);
+    userRepository.save(anotherFollower);
+    follow(follower, user);
+    follow(anotherFollower, user);
+
+    Article popular =
+        new Article("popular", "desc", "body", Arrays.asList("java"), user.getId(), new DateTime());
+    articleRepository.save(popular);
+    fanout().onArticleCreated(
+        new ArticleCreatedEvent(popular.getId(), user.getId(), popular.getCreatedAt()));
+
+    CursorPager<ArticleData> feed =
+        queryService.findUserFeedWithCursor(
+            follower, new CursorPageParameter<>(null, 20, Direction.NEXT));
+    Assertions.assertEquals(feed.getData().size(), 2);
+    Assertions.assertEquals(feed.getData().get(0).getId(), popular.getId());
+
+    CursorPager<ArticleData> older =
+        queryService.findUserFeedWithCursor(
+            follower,
+            new CursorPageParameter<>(
+                ArticleCursor.parse(feed.getData().get(0).getCursor().toString()),
+                20,
+                Direction.NEXT));
+    Assertions.assertEquals(older.getData().size(), 1);
+    Assertions.assertEquals(older.getData().get(0).getId(), article.getId());
+  }
+
+  private void follow(User follower, User target) {
+    userRepository.saveRelation(new FollowRelation(follower.getId(), target.getId()));
+    fanout().onFollowChanged(new FollowChangedEvent(follower.getId(), target.getId(), true));
+  }
+
+  // the handlers are @Async; call them on the test thread so they see the test transaction
+  private TimelineFanout fanout() {
+    return AopTestUtils.getUltimateTargetObject(timelineFanout);
+  }
 }
@@ -2,12 +2,9 @@ package io.spring.application.article;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import io.spring.application.ArticleQueryService;
-import io.spring.application.data.ArticleData;
-import java.util.Optional;
 import javax.validation.ConstraintValidatorContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,7 +38,7 @@ public class DuplicatedArticleValidatorTest {
 
   @Test
   public void should_be_valid_when_article_does_not_exist() {
-    when(articleQueryService.findBySlug(any(String.class), eq(null))).thenReturn(Optional.empty());
+    when(articleQueryService.existsBySlug(any(String.class))).thenReturn(false);
 
     boolean result = validator.isValid("New Article Title", context);
 
@@ -50,8 +47,7 @@ public class DuplicatedArticleValidatorTest {
 
   @Test
   public void should_be_invalid_when_article_already_exists() {
-    ArticleData existingArticle = new ArticleData("id", "slug", "title", "desc", "body", false, 0, null, null, null, null);
-    when(articleQueryService.findBySlug(any(String.class), eq(null))).thenReturn(Optional.of(existingArticle));
+    when(articleQueryService.existsBySlug(any(String.class))).thenReturn(true);
 
     boolean result = validator.isValid("Existing Article Title", context);
 
@@ -70,7 +66,7 @@ public class DuplicatedArticleValidatorTest {
 
   @Test
   public void should_handle_empty_title() {
-    when(articleQueryService.findBySlug(any(String.class), eq(null))).thenReturn(Optional.empty());
+    when(articleQueryService.existsBySlug(any(String.class))).thenReturn(false);
 
     boolean result = validator.isValid("", context);
 
@@ -79,7 +75,7 @@ public class DuplicatedArticleValidatorTest {
 
   @Test
   public void should_handle_whitespace_title() {
-    when(articleQueryService.findBySlug(any(String.class), eq(null))).thenReturn(Optional.empty());
+    when(articleQueryService.existsBySlug(any(String.class))).thenReturn(false);
 
     boolean result = validator.isValid("   ", context);
 
@@ -88,7 +84,7 @@ public class DuplicatedArticleValidatorTest {
 
   @Test
   public void should_handle_special_characters_in_title() {
-    when(articleQueryService.findBySlug(any(String.class), eq(null))).thenReturn(Optional.empty());
+    when(articleQueryService.existsBySlug(any(String.class))).thenReturn(false);
 
     boolean result = validator.isValid("Article with Special Chars!@#$%^&*()", context);
 
@@ -97,7 +93,7 @@ public class DuplicatedArticleValidatorTest {
 
   @Test
   public void should_handle_unicode_characters_in_title() {
-    when(articleQueryService.findBySlug(any(String.class), eq(null))).thenReturn(Optional.empty());
+    when(articleQueryService.existsBySlug(any(String.class))).thenReturn(false);
 
     boolean result = validator.isValid("文章标题 with unicode characters", context);
 
@@ -107,7 +103,7 @@ public class DuplicatedArticleValidatorTest {
   @Test
   public void should_handle_long_title() {
     String longTitle = "Very Long Article Title ".repeat(20);
-    when(articleQueryService.findBySlug(any(String.class), eq(null))).thenReturn(Optional.empty());
+    when(articleQueryService.existsBySlug(any(String.class))).thenReturn(false);
 
     boolean result = validator.isValid(longTitle, context);
 
@@ -116,7 +112,7 @@ public class DuplicatedArticleValidatorTest {
 
   @Test
   public void should_handle_title_with_numbers() {
-    when(articleQueryService.findBySlug(any(String.class), eq(null))).thenReturn(Optional.empty());
+    when(articleQueryService.existsBySlug(any(String.class))).thenReturn(false);
 
     boolean result = validator.isValid("Article Title 123 with Numbers 456", context);
 
@@ -125,7 +121,7 @@ public class DuplicatedArticleValidatorTest {
 
   @Test
   public void should_handle_title_with_mixed_case() {
-    when(articleQueryService.findBySlug(any(String.class), eq(null))).thenReturn(Optional.empty());
+    when(articleQueryService.existsBySlug(any(String.class))).thenReturn(false);
 
     boolean result = validator.isValid("MiXeD CaSe ArTiClE TiTlE", context);
 
@@ -134,8 +130,7 @@ public class DuplicatedArticleValidatorTest {
 
   @Test
   public void should_be_invalid_when_similar_title_exists() {
-    ArticleData existingArticle = new ArticleData("id", "slug", "title", "desc", "body", false, 0, null, null, null, null);
-    when(articleQueryService.findBySlug(any(String.class), eq(null))).thenReturn(Optional.of(existingArticle));
+    when(articleQueryService.existsBySlug(any(String.class))).thenReturn(true);
 
     boolean result = validator.isValid("Similar Article Title", context);
 
@@ -144,7 +139,7 @@ public class DuplicatedArticleValidatorTest {
 
   @Test
   public void should_handle_title_with_punctuation() {
-    when(articleQueryService.findBySlug(any(String.class), eq(null))).thenReturn(Optional.empty());
+    when(articleQueryService.existsBySlug(any(String.class))).thenReturn(false);
 
     boolean result = validator.isValid("Article Title: A Comprehensive Guide!", context);
 
@@ -153,7 +148,7 @@ public class DuplicatedArticleValidatorTest {
 
   @Test
   public void should_handle_title_with_quotes() {
-    when(articleQueryService.findBySlug(any(String.class), eq(null))).thenReturn(Optional.empty());
+    when(articleQueryService.existsBySlug(any(String.class))).thenReturn(false);
 
     boolean result = validator.isValid("\"Quoted Article Title\" and 'Single Quotes'", context);
 
@@ -49,6 +49,17 @@ public class CommentQueryServiceTest extends DbTestBase {
     userRepository.save(user);
   }
 
+  @Test
+  public void should_build_written_comment_without_following_the_author() {
+    userRepository.saveRelation(new FollowRelation(user.getId(), user.getId()));
+    Comment comment = new Comment("content", user.getId(), "123");
+
+    CommentData commentData = commentQueryService.writtenComment(comment, user);
+
+    Assertions.assertEquals(user.getUsername(), commentData.getProfileData().getUsername());
+    Assertions.assertFalse(commentData.getProfileData().isFollowing());
+  }
+
   @Test
   public void should_read_comment_success() {
     Comment comment = new Comment("content", user.getId(), "123");
@@ -3,7 +3,7 @@ package io.spring.application.data;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.spring.application.DateTimeCursor;
+import io.spring.application.ArticleCursor;
 import java.util.Arrays;
 import java.util.List;
 import org.joda.time.DateTime;
@@ -100,23 +100,24 @@ public class ArticleDataTest {
   }
 
   @Test
-  public void should_return_cursor_based_on_updated_at() {
-    DateTime updatedAt = new DateTime();
+  public void should_return_cursor_based_on_created_at() {
+    DateTime createdAt = new DateTime();
     ArticleData articleData = new ArticleData();
-    articleData.setUpdatedAt(updatedAt);
+    articleData.setCreatedAt(createdAt);
+    articleData.setUpdatedAt(createdAt.plusHours(1));
 
-    DateTimeCursor cursor = articleData.getCursor();
+    ArticleCursor cursor = articleData.getCursor();
 
     assertThat(cursor).isNotNull();
-    assertThat(cursor.getData()).isEqualTo(updatedAt);
+    assertThat(cursor.getData()).isEqualTo(createdAt);
   }
 
   @Test
-  public void should_handle_null_updated_at_in_cursor() {
+  public void should_handle_null_created_at_in_cursor() {
     ArticleData articleData = new ArticleData();
-    articleData.setUpdatedAt(null);
+    articleData.setCreatedAt(null);
 
-    DateTimeCursor cursor = articleData.getCursor();
+    ArticleCursor cursor = articleData.getCursor();
 
     assertThat(cursor).isNotNull();
     assertThat(cursor.getData()).isNull();
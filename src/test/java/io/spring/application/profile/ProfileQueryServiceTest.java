@@ -2,10 +2,13 @@ package io.spring.application.profile;
 
 import io.spring.application.ProfileQueryService;
 import io.spring.application.data.ProfileData;
+import io.spring.core.user.FollowRelation;
 import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
 import io.spring.infrastructure.DbTestBase;
 import io.spring.infrastructure.repository.MyBatisUserRepository;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -27,4 +30,21 @@ public class ProfileQueryServiceTest extends DbTestBase {
         profileQueryService.findByUsername(profileUser.getUsername(), currentUser);
     Assertions.assertTrue(optional.isPresent());
   }
+
+  @Test
+  public void should_fetch_profiles_by_usernames_success() {
+    User currentUser = new User("a@test.com", "a", "123", "", "");
+    User followed = new User("p@test.com", "p", "123", "", "");
+    User other = new User("q@test.com", "q", "123", "", "");
+    userRepository.save(currentUser);
+    userRepository.save(followed);
+    userRepository.save(other);
+    userRepository.saveRelation(new FollowRelation(currentUser.getId(), followed.getId()));
+
+    Map<String, ProfileData> profiles =
+        profileQueryService.findByUsernames(Arrays.asList("p", "q", "missing"), currentUser);
+    Assertions.assertEquals(2, profiles.size());
+    Assertions.assertTrue(profiles.get("p").isFollowing());
+    Assertions.assertFalse(profiles.get("q").isFollowing());
+  }
 }
@@ -5,21 +5,25 @@ import io.spring.core.article.Article;
 import io.spring.core.article.ArticleRepository;
 import io.spring.infrastructure.DbTestBase;
 import io.spring.infrastructure.repository.MyBatisArticleRepository;
+import io.spring.infrastructure.tag.TagDictionary;
 import java.util.Arrays;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 
-@Import({TagsQueryService.class, MyBatisArticleRepository.class})
+@Import({TagsQueryService.class, TagDictionary.class, MyBatisArticleRepository.class})
 public class TagsQueryServiceTest extends DbTestBase {
   @Autowired private TagsQueryService tagsQueryService;
 
   @Autowired private ArticleRepository articleRepository;
 
+  @Autowired private TagDictionary tagDictionary;
+
   @Test
   public void should_get_all_tags() {
     articleRepository.save(new Article("test", "test", "test", Arrays.asList("java"), "123"));
+    tagDictionary.reload();
     Assertions.assertTrue(tagsQueryService.allTags().contains("java"));
   }
 }
@@ -2,11 +2,10 @@ package io.spring.application.user;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 
-import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
-import java.util.Optional;
 import javax.validation.ConstraintValidatorContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,7 +39,7 @@ public class DuplicatedEmailValidatorTest {
 
   @Test
   public void should_be_valid_when_email_does_not_exist() {
-    when(userRepository.findByEmail(any(String.class))).thenReturn(Optional.empty());
+    when(userRepository.existsByEmail(any(String.class), isNull())).thenReturn(false);
 
     boolean result = validator.isValid("new@example.com", context);
 
@@ -49,8 +48,7 @@ public class DuplicatedEmailValidatorTest {
 
   @Test
   public void should_be_invalid_when_email_already_exists() {
-    User existingUser = new User("existing@example.com", "existinguser", "password", "bio", "image");
-    when(userRepository.findByEmail("existing@example.com")).thenReturn(Optional.of(existingUser));
+    when(userRepository.existsByEmail("existing@example.com", null)).thenReturn(true);
 
     boolean result = validator.isValid("existing@example.com", context);
 
@@ -80,7 +78,7 @@ public class DuplicatedEmailValidatorTest {
 
   @Test
   public void should_handle_case_sensitive_emails() {
-    when(userRepository.findByEmail("Test@Example.com")).thenReturn(Optional.empty());
+    when(userRepository.existsByEmail("Test@Example.com", null)).thenReturn(false);
 
     boolean result = validator.isValid("Test@Example.com", context);
 
@@ -89,7 +87,7 @@ public class DuplicatedEmailValidatorTest {
 
   @Test
   public void should_handle_special_characters_in_email() {
-    when(userRepository.findByEmail("user+tag@example.com")).thenReturn(Optional.empty());
+    when(userRepository.existsByEmail("user+tag@example.com", null)).thenReturn(false);
 
     boolean result = validator.isValid("user+tag@example.com", context);
 
@@ -99,7 +97,7 @@ public class DuplicatedEmailValidatorTest {
   @Test
   public void should_handle_long_email_addresses() {
     String longEmail = "very.long.email.address.with.many.dots@very-long-domain-name.example.com";
-    when(userRepository.findByEmail(longEmail)).thenReturn(Optional.empty());
+    when(userRepository.existsByEmail(longEmail, null)).thenReturn(false);
 
     boolean result = validator.isValid(longEmail, context);
 
@@ -109,7 +107,7 @@ public class DuplicatedEmailValidatorTest {
   @Test
   public void should_handle_unicode_in_email() {
     String unicodeEmail = "测试@example.com";
-    when(userRepository.findByEmail(unicodeEmail)).thenReturn(Optional.empty());
+    when(userRepository.existsByEmail(unicodeEmail, null)).thenReturn(false);
 
     boolean result = validator.isValid(unicodeEmail, context);
 
@@ -118,8 +116,7 @@ public class DuplicatedEmailValidatorTest {
 
   @Test
   public void should_be_invalid_when_duplicate_email_found() {
-    User existingUser = new User("duplicate@test.com", "user1", "password", "bio", "image");
-    when(userRepository.findByEmail("duplicate@test.com")).thenReturn(Optional.of(existingUser));
+    when(userRepository.existsByEmail("duplicate@test.com", null)).thenReturn(true);
 
     boolean result = validator.isValid("duplicate@test.com", context);
 
@@ -128,7 +125,7 @@ public class DuplicatedEmailValidatorTest {
 
   @Test
   public void should_handle_malformed_email_addresses() {
-    when(userRepository.findByEmail("not-an-email")).thenReturn(Optional.empty());
+    when(userRepository.existsByEmail("not-an-email", null)).thenReturn(false);
 
     boolean result = validator.isValid("not-an-email", context);
 
@@ -137,7 +134,7 @@ public class DuplicatedEmailValidatorTest {
 
   @Test
   public void should_handle_email_with_numbers() {
-    when(userRepository.findByEmail("user123@example456.com")).thenReturn(Optional.empty());
+    when(userRepository.existsByEmail("user123@example456.com", null)).thenReturn(false);
 
     boolean result = validator.isValid("user123@example456.com", context);
 
@@ -2,11 +2,10 @@ package io.spring.application.user;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 
-import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
-import java.util.Optional;
 import javax.validation.ConstraintValidatorContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,7 +39,7 @@ public class DuplicatedUsernameValidatorTest {
 
   @Test
   public void should_be_valid_when_username_does_not_exist() {
-    when(userRepository.findByUsername(any(String.class))).thenReturn(Optional.empty());
+    when(userRepository.existsByUsername(any(String.class), isNull())).thenReturn(false);
 
     boolean result = validator.isValid("newuser", context);
 
@@ -49,8 +48,7 @@ public class DuplicatedUsernameValidatorTest {
 
   @Test
   public void should_be_invalid_when_username_already_exists() {
-    User existingUser = new User("user@example.com", "existinguser", "password", "bio", "image");
-    when(userRepository.findByUsername("existinguser")).thenReturn(Optional.of(existingUser));
+    when(userRepository.existsByUsername("existinguser", null)).thenReturn(true);
 
     boolean result = validator.isValid("existinguser", context);
 
@@ -80,7 +78,7 @@ public class DuplicatedUsernameValidatorTest {
 
   @Test
   public void should_handle_case_sensitive_usernames() {
-    when(userRepository.findByUsername("TestUser")).thenReturn(Optional.empty());
+    when(userRepository.existsByUsername("TestUser", null)).thenReturn(false);
 
     boolean result = validator.isValid("TestUser", context);
 
@@ -89,7 +87,7 @@ public class DuplicatedUsernameValidatorTest {
 
   @Test
   public void should_handle_usernames_with_numbers() {
-    when(userRepository.findByUsername("user123")).thenReturn(Optional.empty());
+    when(userRepository.existsByUsername("user123", null)).thenReturn(false);
 
     boolean result = validator.isValid("user123", context);
 
@@ -98,7 +96,7 @@ public class DuplicatedUsernameValidatorTest {
 
   @Test
   public void should_handle_usernames_with_underscores() {
-    when(userRepository.findByUsername("user_name")).thenReturn(Optional.empty());
+    when(userRepository.existsByUsername("user_name", null)).thenReturn(false);
 
     boolean result = validator.isValid("user_name", context);
 
@@ -107,7 +105,7 @@ public class DuplicatedUsernameValidatorTest {
 
   @Test
   public void should_handle_usernames_with_hyphens() {
-    when(userRepository.findByUsername("user-name")).thenReturn(Optional.empty());
+    when(userRepository.existsByUsername("user-name", null)).thenReturn(false);
 
     boolean result = validator.isValid("user-name", context);
 
@@ -117,7 +115,7 @@ public class DuplicatedUsernameValidatorTest {
   @Test
   public void should_handle_long_usernames() {
     String longUsername = "very_long_username_with_many_characters_123456789";
-    when(userRepository.findByUsername(longUsername)).thenReturn(Optional.empty());
+    when(userRepository.existsByUsername(longUsername, null)).thenReturn(false);
 
     boolean result = validator.isValid(longUsername, context);
 
@@ -126,7 +124,7 @@ public class DuplicatedUsernameValidatorTest {
 
   @Test
   public void should_handle_short_usernames() {
-    when(userRepository.findByUsername("a")).thenReturn(Optional.empty());
+    when(userRepository.existsByUsername("a", null)).thenReturn(false);
 
     boolean result = validator.isValid("a", context);
 
@@ -136,7 +134,7 @@ public class DuplicatedUsernameValidatorTest {
   @Test
   public void should_handle_unicode_usernames() {
     String unicodeUsername = "用户名";
-    when(userRepository.findByUsername(unicodeUsername)).thenReturn(Optional.empty());
+    when(userRepository.existsByUsername(unicodeUsername, null)).thenReturn(false);
 
     boolean result = validator.isValid(unicodeUsername, context);
 
@@ -145,8 +143,7 @@ public class DuplicatedUsernameValidatorTest {
 
   @Test
   public void should_be_invalid_when_duplicate_username_found() {
-    User existingUser = new User("test@example.com", "duplicateuser", "password", "bio", "image");
-    when(userRepository.findByUsername("duplicateuser")).thenReturn(Optional.of(existingUser));
+    when(userRepository.existsByUsername("duplicateuser", null)).thenReturn(true);
 
     boolean result = validator.isValid("duplicateuser", context);
 
@@ -155,7 +152,7 @@ public class DuplicatedUsernameValidatorTest {
 
   @Test
   public void should_handle_usernames_with_special_characters() {
-    when(userRepository.findByUsername("user@domain")).thenReturn(Optional.empty());
+    when(userRepository.existsByUsername("user@domain", null)).thenReturn(false);
 
     boolean result = validator.isValid("user@domain", context);
 
@@ -164,7 +161,7 @@ public class DuplicatedUsernameValidatorTest {
 
   @Test
   public void should_handle_usernames_with_dots() {
-    when(userRepository.findByUsername("user.name")).thenReturn(Optional.empty());
+    when(userRepository.existsByUsername("user.name", null)).thenReturn(false);
 
     boolean result = validator.isValid("user.name", context);
 
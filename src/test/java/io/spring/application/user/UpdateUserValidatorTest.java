@@ -5,7 +5,6 @@ import static org.mockito.Mockito.when;
 
 import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
-import java.util.Optional;
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.ConstraintValidatorContext.ConstraintViolationBuilder;
 import javax.validation.ConstraintValidatorContext.ConstraintViolationBuilder.NodeBuilderCustomizableContext;
@@ -53,8 +52,8 @@ public class UpdateUserValidatorTest {
 
   @Test
   public void should_be_valid_when_email_and_username_are_available() {
-    when(userRepository.findByEmail("new@example.com")).thenReturn(Optional.empty());
-    when(userRepository.findByUsername("newuser")).thenReturn(Optional.empty());
+    when(userRepository.existsByEmail("new@example.com", targetUser.getId())).thenReturn(false);
+    when(userRepository.existsByUsername("newuser", targetUser.getId())).thenReturn(false);
 
     boolean result = validator.isValid(updateCommand, context);
 
@@ -63,8 +62,8 @@ public class UpdateUserValidatorTest {
 
   @Test
   public void should_be_valid_when_email_belongs_to_same_user() {
-    when(userRepository.findByEmail("new@example.com")).thenReturn(Optional.of(targetUser));
-    when(userRepository.findByUsername("newuser")).thenReturn(Optional.empty());
+    when(userRepository.existsByEmail("new@example.com", targetUser.getId())).thenReturn(false);
+    when(userRepository.existsByUsername("newuser", targetUser.getId())).thenReturn(false);
 
     boolean result = validator.isValid(updateCommand, context);
 
@@ -73,8 +72,8 @@ public class UpdateUserValidatorTest {
 
   @Test
   public void should_be_valid_when_username_belongs_to_same_user() {
-    when(userRepository.findByEmail("new@example.com")).thenReturn(Optional.empty());
-    when(userRepository.findByUsername("newuser")).thenReturn(Optional.of(targetUser));
+    when(userRepository.existsByEmail("new@example.com", targetUser.getId())).thenReturn(false);
+    when(userRepository.existsByUsername("newuser", targetUser.getId())).thenReturn(false);
 
     boolean result = validator.isValid(updateCommand, context);
 
@@ -83,8 +82,8 @@ public class UpdateUserValidatorTest {
 
   @Test
   public void should_be_valid_when_both_email_and_username_belong_to_same_user() {
-    when(userRepository.findByEmail("new@example.com")).thenReturn(Optional.of(targetUser));
-    when(userRepository.findByUsername("newuser")).thenReturn(Optional.of(targetUser));
+    when(userRepository.existsByEmail("new@example.com", targetUser.getId())).thenReturn(false);
+    when(userRepository.existsByUsername("newuser", targetUser.getId())).thenReturn(false);
 
     boolean result = validator.isValid(updateCommand, context);
 
@@ -93,9 +92,8 @@ public class UpdateUserValidatorTest {
 
   @Test
   public void should_be_invalid_when_email_belongs_to_different_user() {
-    User differentUser = new User("different@example.com", "differentuser", "password", "bio", "image.jpg");
-    when(userRepository.findByEmail("new@example.com")).thenReturn(Optional.of(differentUser));
-    when(userRepository.findByUsername("newuser")).thenReturn(Optional.empty());
+    when(userRepository.existsByEmail("new@example.com", targetUser.getId())).thenReturn(true);
+    when(userRepository.existsByUsername("newuser", targetUser.getId())).thenReturn(false);
     
     when(context.buildConstraintViolationWithTemplate("email already exist")).thenReturn(violationBuilder);
     when(violationBuilder.addPropertyNode("email")).thenReturn(nodeBuilder);
@@ -108,9 +106,8 @@ public class UpdateUserValidatorTest {
 
   @Test
   public void should_be_invalid_when_username_belongs_to_different_user() {
-    User differentUser = new User("different@example.com", "differentuser", "password", "bio", "image.jpg");
-    when(userRepository.findByEmail("new@example.com")).thenReturn(Optional.empty());
-    when(userRepository.findByUsername("newuser")).thenReturn(Optional.of(differentUser));
+    when(userRepository.existsByEmail("new@example.com", targetUser.getId())).thenReturn(false);
+    when(userRepository.existsByUsername("newuser", targetUser.getId())).thenReturn(true);
     
     when(context.buildConstraintViolationWithTemplate("username already exist")).thenReturn(violationBuilder);
     when(violationBuilder.addPropertyNode("username")).thenReturn(nodeBuilder);
@@ -123,11 +120,8 @@ public class UpdateUserValidatorTest {
 
   @Test
   public void should_be_invalid_when_both_email_and_username_belong_to_different_users() {
-    User differentUser1 = new User("different1@example.com", "differentuser1", "password", "bio", "image.jpg");
-    User differentUser2 = new User("different2@example.com", "differentuser2", "password", "bio", "image.jpg");
-    
-    when(userRepository.findByEmail("new@example.com")).thenReturn(Optional.of(differentUser1));
-    when(userRepository.findByUsername("newuser")).thenReturn(Optional.of(differentUser2));
+    when(userRepository.existsByEmail("new@example.com", targetUser.getId())).thenReturn(true);
+    when(userRepository.existsByUsername("newuser", targetUser.getId())).thenReturn(true);
     
     when(context.buildConstraintViolationWithTemplate("email already exist")).thenReturn(violationBuilder);
     when(context.buildConstraintViolationWithTemplate("username already exist")).thenReturn(violationBuilder);
@@ -145,8 +139,7 @@ public class UpdateUserValidatorTest {
     UpdateUserParam nullEmailParam = new UpdateUserParam(null, "password", "newuser", "bio", "image");
     UpdateUserCommand nullEmailCommand = new UpdateUserCommand(targetUser, nullEmailParam);
     
-    when(userRepository.findByEmail(null)).thenReturn(Optional.empty());
-    when(userRepository.findByUsername("newuser")).thenReturn(Optional.empty());
+    when(userRepository.existsByUsername("newuser", targetUser.getId())).thenReturn(false);
 
     boolean result = validator.isValid(nullEmailCommand, context);
 
@@ -158,8 +151,7 @@ public class UpdateUserValidatorTest {
     UpdateUserParam nullUsernameParam = new UpdateUserParam("new@example.com", "password", null, "bio", "image");
     UpdateUserCommand nullUsernameCommand = new UpdateUserCommand(targetUser, nullUsernameParam);
     
-    when(userRepository.findByEmail("new@example.com")).thenReturn(Optional.empty());
-    when(userRepository.findByUsername(null)).thenReturn(Optional.empty());
+    when(userRepository.existsByEmail("new@example.com", targetUser.getId())).thenReturn(false);
 
     boolean result = validator.isValid(nullUsernameCommand, context);
 
@@ -171,8 +163,7 @@ public class UpdateUserValidatorTest {
     UpdateUserParam emptyEmailParam = new UpdateUserParam("", "password", "newuser", "bio", "image");
     UpdateUserCommand emptyEmailCommand = new UpdateUserCommand(targetUser, emptyEmailParam);
     
-    when(userRepository.findByEmail("")).thenReturn(Optional.empty());
-    when(userRepository.findByUsername("newuser")).thenReturn(Optional.empty());
+    when(userRepository.existsByUsername("newuser", targetUser.getId())).thenReturn(false);
 
     boolean result = validator.isValid(emptyEmailCommand, context);
 
@@ -184,8 +175,7 @@ public class UpdateUserValidatorTest {
     UpdateUserParam emptyUsernameParam = new UpdateUserParam("new@example.com", "password", "", "bio", "image");
     UpdateUserCommand emptyUsernameCommand = new UpdateUserCommand(targetUser, emptyUsernameParam);
     
-    when(userRepository.findByEmail("new@example.com")).thenReturn(Optional.empty());
-    when(userRepository.findByUsername("")).thenReturn(Optional.empty());
+    when(userRepository.existsByEmail("new@example.com", targetUser.getId())).thenReturn(false);
 
     boolean result = validator.isValid(emptyUsernameCommand, context);
 
@@ -194,9 +184,8 @@ public class UpdateUserValidatorTest {
 
   @Test
   public void should_disable_default_constraint_violation_when_invalid() {
-    User differentUser = new User("different@example.com", "differentuser", "password", "bio", "image.jpg");
-    when(userRepository.findByEmail("new@example.com")).thenReturn(Optional.of(differentUser));
-    when(userRepository.findByUsername("newuser")).thenReturn(Optional.empty());
+    when(userRepository.existsByEmail("new@example.com", targetUser.getId())).thenReturn(true);
+    when(userRepository.existsByUsername("newuser", targetUser.getId())).thenReturn(false);
     
     when(context.buildConstraintViolationWithTemplate("email already exist")).thenReturn(violationBuilder);
     when(violationBuilder.addPropertyNode("email")).thenReturn(nodeBuilder);
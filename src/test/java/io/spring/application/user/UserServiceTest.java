@@ -4,11 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.spring.application.DuplicateChecks;
 import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
+import java.util.Collections;
 import java.util.Optional;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
@@ -19,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,7 +48,8 @@ public class UserServiceTest {
 
   @BeforeEach
   public void setUp() {
-    userService = new UserService(userRepository, "default-image.jpg", passwordEncoder);
+    userService =
+        new UserService(userRepository, "default-image.jpg", passwordEncoder, validator);
     
     validRegisterParam = new RegisterParam("test@example.com", "testuser", "password123");
     testUser = new User("test@example.com", "testuser", "encoded-password", "bio", "image.jpg");
@@ -202,4 +209,30 @@ public class UserServiceTest {
 
     verify(userRepository).save(testUser);
   }
+
+  @Test
+  public void should_name_duplicated_fields_once_the_save_hits_a_unique_key() {
+    ConstraintViolation<RegisterParam> violation = mock(ConstraintViolation.class);
+    when(passwordEncoder.encode(anyString())).thenReturn("encoded-password");
+    doThrow(new DuplicateKeyException("users_email_key")).when(userRepository).save(any());
+    when(validator.validate(eq(validRegisterParam), eq(DuplicateChecks.class)))
+        .thenReturn(Collections.singleton(violation));
+
+    assertThatThrownBy(() -> userService.createUser(validRegisterParam))
+        .isInstanceOf(ConstraintViolationException.class)
+        .satisfies(
+            e ->
+                assertThat(((ConstraintViolationException) e).getConstraintViolations())
+                    .containsExactly(violation));
+  }
+
+  @Test
+  public void should_rethrow_duplicate_key_that_no_check_explains() {
+    doThrow(new DuplicateKeyException("users_pkey")).when(userRepository).save(any());
+    when(validator.validate(eq(validUpdateCommand), eq(DuplicateChecks.class)))
+        .thenReturn(Collections.emptySet());
+
+    assertThatThrownBy(() -> userService.updateUser(validUpdateCommand))
+        .isInstanceOf(DuplicateKeyException.class);
+  }
 }
@@ -146,4 +146,19 @@ public class UserTest {
     assertThat(user1.getId()).isNotNull();
     assertThat(user2.getId()).isNotNull();
   }
+
+  @Test
+  public void should_copy_user_without_password() {
+    User user = new User("test@example.com", "testuser", "password", "bio", "image.jpg");
+
+    User copy = user.withoutPassword();
+
+    assertThat(copy).isNotSameAs(user);
+    assertThat(copy).isEqualTo(user);
+    assertThat(copy.getPassword()).isNull();
+    assertThat(copy.getEmail()).isEqualTo("test@example.com");
+    assertThat(copy.getUsername()).isEqualTo("testuser");
+    assertThat(copy.getBio()).isEqualTo("bio");
+    assertThat(copy.getImage()).isEqualTo("image.jpg");
+  }
 }
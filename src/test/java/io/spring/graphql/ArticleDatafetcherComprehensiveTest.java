@@ -60,7 +60,7 @@ public class ArticleDatafetcherComprehensiveTest {
     when(mockResult.hasNext()).thenReturn(false);
 
     when(articleQueryService.findRecentArticlesWithCursor(
-        eq(null), eq(null), eq("testuser"), any(CursorPageParameter.class), any(User.class)))
+        eq(null), eq(null), eq("testuser"), any(CursorPageParameter.class), any(User.class), any()))
         .thenReturn(mockResult);
 
     try (MockedStatic<SecurityUtil> securityUtil = mockStatic(SecurityUtil.class)) {
@@ -88,7 +88,7 @@ public class ArticleDatafetcherComprehensiveTest {
     when(mockResult.hasNext()).thenReturn(false);
 
     when(articleQueryService.findRecentArticlesWithCursor(
-        eq(null), eq(null), eq("testuser"), any(CursorPageParameter.class), any(User.class)))
+        eq(null), eq(null), eq("testuser"), any(CursorPageParameter.class), any(User.class), any()))
         .thenReturn(mockResult);
 
     try (MockedStatic<SecurityUtil> securityUtil = mockStatic(SecurityUtil.class)) {
@@ -116,7 +116,7 @@ public class ArticleDatafetcherComprehensiveTest {
     when(mockResult.hasNext()).thenReturn(false);
 
     when(articleQueryService.findRecentArticlesWithCursor(
-        eq(null), eq(null), eq("testuser"), any(CursorPageParameter.class), any(User.class)))
+        eq(null), eq(null), eq("testuser"), any(CursorPageParameter.class), any(User.class), any()))
         .thenReturn(mockResult);
 
     try (MockedStatic<SecurityUtil> securityUtil = mockStatic(SecurityUtil.class)) {
@@ -143,7 +143,7 @@ public class ArticleDatafetcherComprehensiveTest {
     when(mockResult.hasNext()).thenReturn(false);
 
     when(articleQueryService.findUserFeedWithCursor(
-        any(User.class), any(CursorPageParameter.class)))
+        any(User.class), any(CursorPageParameter.class), any()))
         .thenReturn(mockResult);
 
     try (MockedStatic<SecurityUtil> securityUtil = mockStatic(SecurityUtil.class)) {
@@ -169,7 +169,7 @@ public class ArticleDatafetcherComprehensiveTest {
     when(mockResult.hasNext()).thenReturn(false);
 
     when(articleQueryService.findUserFeedWithCursor(
-        any(User.class), any(CursorPageParameter.class)))
+        any(User.class), any(CursorPageParameter.class), any()))
         .thenReturn(mockResult);
 
     try (MockedStatic<SecurityUtil> securityUtil = mockStatic(SecurityUtil.class)) {
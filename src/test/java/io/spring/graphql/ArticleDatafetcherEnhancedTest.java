@@ -10,6 +10,7 @@ import com.netflix.graphql.dgs.DgsDataFetchingEnvironment;
 import graphql.execution.DataFetcherResult;
 import graphql.schema.DataFetchingEnvironment;
 import io.spring.api.exception.ResourceNotFoundException;
+import io.spring.application.ArticleFetchPlan;
 import io.spring.application.ArticleQueryService;
 import io.spring.application.CursorPager;
 import io.spring.application.data.ArticleData;
@@ -64,7 +65,7 @@ public class ArticleDatafetcherEnhancedTest {
     
     try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
       mockedSecurityUtil.when(SecurityUtil::getCurrentUser).thenReturn(Optional.empty());
-      when(articleQueryService.findUserFeedWithCursor(any(), any()))
+      when(articleQueryService.findUserFeedWithCursor(any(), any(), any()))
           .thenReturn(mockPager);
 
       DataFetcherResult<ArticlesConnection> result = articleDatafetcher.getFeed(
@@ -97,7 +98,7 @@ public class ArticleDatafetcherEnhancedTest {
     
     try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
       mockedSecurityUtil.when(SecurityUtil::getCurrentUser).thenReturn(Optional.empty());
-      when(articleQueryService.findRecentArticlesWithCursor(any(), any(), eq("testuser"), any(), any()))
+      when(articleQueryService.findRecentArticlesWithCursor(any(), any(), eq("testuser"), any(), any(), any()))
           .thenReturn(mockPager);
 
       DataFetcherResult<ArticlesConnection> result = articleDatafetcher.userFavorites(
@@ -115,7 +116,7 @@ public class ArticleDatafetcherEnhancedTest {
     
     try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
       mockedSecurityUtil.when(SecurityUtil::getCurrentUser).thenReturn(Optional.empty());
-      when(articleQueryService.findRecentArticlesWithCursor(eq("java"), eq("author"), eq("favoriter"), any(), any()))
+      when(articleQueryService.findRecentArticlesWithCursor(eq("java"), eq("author"), eq("favoriter"), any(), any(), any()))
           .thenReturn(mockPager);
 
       DataFetcherResult<ArticlesConnection> result = articleDatafetcher.getArticles(
@@ -130,10 +131,10 @@ public class ArticleDatafetcherEnhancedTest {
   public void findArticleBySlug_should_throw_resource_not_found_when_article_not_exists() {
     try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
       mockedSecurityUtil.when(SecurityUtil::getCurrentUser).thenReturn(Optional.empty());
-      when(articleQueryService.findBySlug("nonexistent-slug", null)).thenReturn(Optional.empty());
+      when(articleQueryService.findBySlug("nonexistent-slug", null, ArticleFetchPlan.FULL)).thenReturn(Optional.empty());
 
       assertThrows(ResourceNotFoundException.class, () ->
-        articleDatafetcher.findArticleBySlug("nonexistent-slug"));
+        articleDatafetcher.findArticleBySlug("nonexistent-slug", null));
     }
   }
 
@@ -144,9 +145,9 @@ public class ArticleDatafetcherEnhancedTest {
     
     try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
       mockedSecurityUtil.when(SecurityUtil::getCurrentUser).thenReturn(Optional.of(mockUser));
-      when(articleQueryService.findBySlug("test-slug", mockUser)).thenReturn(Optional.of(mockArticleData));
+      when(articleQueryService.findBySlug("test-slug", mockUser, ArticleFetchPlan.FULL)).thenReturn(Optional.of(mockArticleData));
 
-      DataFetcherResult<Article> result = articleDatafetcher.findArticleBySlug("test-slug");
+      DataFetcherResult<Article> result = articleDatafetcher.findArticleBySlug("test-slug", null);
 
       assertThat(result).isNotNull();
       assertThat(result.getData()).isNotNull();
@@ -181,7 +182,7 @@ public class ArticleDatafetcherEnhancedTest {
     
     when(dfe.getLocalContext()).thenReturn(coreArticle);
     when(coreArticle.getId()).thenReturn("article-id");
-    when(articleQueryService.findById("article-id", mockUser)).thenReturn(Optional.of(mockArticleData));
+    when(articleQueryService.findById("article-id", mockUser, ArticleFetchPlan.FULL)).thenReturn(Optional.of(mockArticleData));
 
     try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
       mockedSecurityUtil.when(SecurityUtil::getCurrentUser).thenReturn(Optional.of(mockUser));
@@ -203,7 +204,7 @@ public class ArticleDatafetcherEnhancedTest {
     
     when(dfe.getLocalContext()).thenReturn(coreArticle);
     when(coreArticle.getId()).thenReturn("article-id");
-    when(articleQueryService.findById("article-id", null)).thenReturn(Optional.of(mockArticleData));
+    when(articleQueryService.findById("article-id", null, ArticleFetchPlan.FULL)).thenReturn(Optional.of(mockArticleData));
 
     try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
       mockedSecurityUtil.when(SecurityUtil::getCurrentUser).thenReturn(Optional.empty());
@@ -223,7 +224,7 @@ public class ArticleDatafetcherEnhancedTest {
     
     when(dfe.getLocalContext()).thenReturn(coreArticle);
     when(coreArticle.getId()).thenReturn("non-existent-id");
-    when(articleQueryService.findById("non-existent-id", null)).thenReturn(Optional.empty());
+    when(articleQueryService.findById("non-existent-id", null, ArticleFetchPlan.FULL)).thenReturn(Optional.empty());
 
     try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
       mockedSecurityUtil.when(SecurityUtil::getCurrentUser).thenReturn(Optional.empty());
@@ -241,7 +242,7 @@ public class ArticleDatafetcherEnhancedTest {
     User mockUser = createMockUser();
     
     when(dfe.getLocalContext()).thenReturn(mockCommentData);
-    when(articleQueryService.findById("article-id", mockUser)).thenReturn(Optional.of(mockArticleData));
+    when(articleQueryService.findById("article-id", mockUser, ArticleFetchPlan.FULL)).thenReturn(Optional.of(mockArticleData));
 
     try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
       mockedSecurityUtil.when(SecurityUtil::getCurrentUser).thenReturn(Optional.of(mockUser));
@@ -262,7 +263,7 @@ public class ArticleDatafetcherEnhancedTest {
     ArticleData mockArticleData = createMockArticleData();
     
     when(dfe.getLocalContext()).thenReturn(mockCommentData);
-    when(articleQueryService.findById("article-id", null)).thenReturn(Optional.of(mockArticleData));
+    when(articleQueryService.findById("article-id", null, ArticleFetchPlan.FULL)).thenReturn(Optional.of(mockArticleData));
 
     try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
       mockedSecurityUtil.when(SecurityUtil::getCurrentUser).thenReturn(Optional.empty());
@@ -281,7 +282,7 @@ public class ArticleDatafetcherEnhancedTest {
     CommentData mockCommentData = createMockCommentDataWithArticleId("non-existent-article");
     
     when(dfe.getLocalContext()).thenReturn(mockCommentData);
-    when(articleQueryService.findById("non-existent-article", null)).thenReturn(Optional.empty());
+    when(articleQueryService.findById("non-existent-article", null, ArticleFetchPlan.FULL)).thenReturn(Optional.empty());
 
     try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
       mockedSecurityUtil.when(SecurityUtil::getCurrentUser).thenReturn(Optional.empty());
@@ -301,7 +302,7 @@ public class ArticleDatafetcherEnhancedTest {
     when(mockProfile.getUsername()).thenReturn("testuser");
     when(dfe.getSource()).thenReturn(mockProfile);
     when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(mockUser));
-    when(articleQueryService.findUserFeedWithCursor(eq(mockUser), any()))
+    when(articleQueryService.findUserFeedWithCursor(eq(mockUser), any(), any()))
         .thenReturn(mockPager);
 
     try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
@@ -324,7 +325,7 @@ public class ArticleDatafetcherEnhancedTest {
     
     when(mockProfile.getUsername()).thenReturn("testuser");
     when(dfe.getSource()).thenReturn(mockProfile);
-    when(articleQueryService.findRecentArticlesWithCursor(any(), eq("testuser"), any(), any(), any()))
+    when(articleQueryService.findRecentArticlesWithCursor(any(), eq("testuser"), any(), any(), any(), any()))
         .thenReturn(mockPager);
 
     try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
@@ -346,7 +347,7 @@ public class ArticleDatafetcherEnhancedTest {
     
     when(mockProfile.getUsername()).thenReturn("testuser");
     when(dfe.getSource()).thenReturn(mockProfile);
-    when(articleQueryService.findRecentArticlesWithCursor(any(), eq("testuser"), any(), any(), any()))
+    when(articleQueryService.findRecentArticlesWithCursor(any(), eq("testuser"), any(), any(), any(), any()))
         .thenReturn(null);
 
     try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
@@ -366,7 +367,7 @@ public class ArticleDatafetcherEnhancedTest {
     
     when(mockProfile.getUsername()).thenReturn("testuser");
     when(dfe.getSource()).thenReturn(mockProfile);
-    when(articleQueryService.findRecentArticlesWithCursor(any(), any(), eq("testuser"), any(), any()))
+    when(articleQueryService.findRecentArticlesWithCursor(any(), any(), eq("testuser"), any(), any(), any()))
         .thenReturn(mockPager);
 
     try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
@@ -387,7 +388,7 @@ public class ArticleDatafetcherEnhancedTest {
     
     try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
       mockedSecurityUtil.when(SecurityUtil::getCurrentUser).thenReturn(Optional.empty());
-      when(articleQueryService.findRecentArticlesWithCursor(any(), any(), any(), any(), any()))
+      when(articleQueryService.findRecentArticlesWithCursor(any(), any(), any(), any(), any(), any()))
           .thenReturn(mockPager);
 
       DataFetcherResult<ArticlesConnection> result = articleDatafetcher.getArticles(
@@ -406,7 +407,7 @@ public class ArticleDatafetcherEnhancedTest {
     
     try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
       mockedSecurityUtil.when(SecurityUtil::getCurrentUser).thenReturn(Optional.of(mockUser));
-      when(articleQueryService.findRecentArticlesWithCursor(eq("spring"), eq("john"), eq("jane"), any(), eq(mockUser)))
+      when(articleQueryService.findRecentArticlesWithCursor(eq("spring"), eq("john"), eq("jane"), any(), eq(mockUser), any()))
           .thenReturn(mockPager);
 
       DataFetcherResult<ArticlesConnection> result = articleDatafetcher.getArticles(
@@ -425,7 +426,7 @@ public class ArticleDatafetcherEnhancedTest {
     
     try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
       mockedSecurityUtil.when(SecurityUtil::getCurrentUser).thenReturn(Optional.of(mockUser));
-      when(articleQueryService.findUserFeedWithCursor(eq(mockUser), any()))
+      when(articleQueryService.findUserFeedWithCursor(eq(mockUser), any(), any()))
           .thenReturn(mockPager);
 
       DataFetcherResult<ArticlesConnection> result = articleDatafetcher.getFeed(
@@ -443,7 +444,7 @@ public class ArticleDatafetcherEnhancedTest {
     
     try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
       mockedSecurityUtil.when(SecurityUtil::getCurrentUser).thenReturn(Optional.empty());
-      when(articleQueryService.findUserFeedWithCursor(any(), any()))
+      when(articleQueryService.findUserFeedWithCursor(any(), any(), any()))
           .thenReturn(mockPager);
 
       DataFetcherResult<ArticlesConnection> result = articleDatafetcher.getFeed(
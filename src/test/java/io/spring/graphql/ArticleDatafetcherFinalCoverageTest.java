@@ -85,7 +85,7 @@ public class ArticleDatafetcherFinalCoverageTest {
       securityUtilMock.when(SecurityUtil::getCurrentUser).thenReturn(Optional.of(currentUser));
 
       CursorPager<ArticleData> mockPager = createMockPager();
-      when(articleQueryService.findUserFeedWithCursor(eq(currentUser), any(CursorPageParameter.class)))
+      when(articleQueryService.findUserFeedWithCursor(eq(currentUser), any(CursorPageParameter.class), any()))
           .thenReturn(mockPager);
 
       DataFetcherResult<ArticlesConnection> result = articleDatafetcher.getFeed(
@@ -106,7 +106,7 @@ public class ArticleDatafetcherFinalCoverageTest {
     when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(targetUser));
 
     CursorPager<ArticleData> mockPager = createMockPager();
-    when(articleQueryService.findUserFeedWithCursor(eq(targetUser), any(CursorPageParameter.class)))
+    when(articleQueryService.findUserFeedWithCursor(eq(targetUser), any(CursorPageParameter.class), any()))
         .thenReturn(mockPager);
 
     DataFetcherResult<ArticlesConnection> result = articleDatafetcher.userFeed(
@@ -128,7 +128,7 @@ public class ArticleDatafetcherFinalCoverageTest {
 
       CursorPager<ArticleData> mockPager = createMockPager();
       when(articleQueryService.findRecentArticlesWithCursor(
-              eq(null), eq(null), eq("testuser"), any(CursorPageParameter.class), eq(currentUser)))
+              eq(null), eq(null), eq("testuser"), any(CursorPageParameter.class), eq(currentUser), any()))
           .thenReturn(mockPager);
 
       DataFetcherResult<ArticlesConnection> result = articleDatafetcher.userFavorites(
@@ -151,7 +151,7 @@ public class ArticleDatafetcherFinalCoverageTest {
 
       CursorPager<ArticleData> mockPager = createMockPager();
       when(articleQueryService.findRecentArticlesWithCursor(
-              eq(null), eq("testuser"), eq(null), any(CursorPageParameter.class), eq(currentUser)))
+              eq(null), eq("testuser"), eq(null), any(CursorPageParameter.class), eq(currentUser), any()))
           .thenReturn(mockPager);
 
       DataFetcherResult<ArticlesConnection> result = articleDatafetcher.userArticles(
@@ -171,7 +171,7 @@ public class ArticleDatafetcherFinalCoverageTest {
 
       CursorPager<ArticleData> mockPager = createMockPager();
       when(articleQueryService.findRecentArticlesWithCursor(
-              eq("tag"), eq("author"), eq("favorited"), any(CursorPageParameter.class), eq(currentUser)))
+              eq("tag"), eq("author"), eq("favorited"), any(CursorPageParameter.class), eq(currentUser), any()))
           .thenReturn(mockPager);
 
       DataFetcherResult<ArticlesConnection> result = articleDatafetcher.getArticles(
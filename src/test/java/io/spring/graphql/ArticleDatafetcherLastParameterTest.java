@@ -49,7 +49,7 @@ public class ArticleDatafetcherLastParameterTest {
       securityUtilMock.when(SecurityUtil::getCurrentUser).thenReturn(Optional.of(currentUser));
 
       CursorPager<ArticleData> mockPager = createMockPager();
-      when(articleQueryService.findUserFeedWithCursor(eq(currentUser), any(CursorPageParameter.class)))
+      when(articleQueryService.findUserFeedWithCursor(eq(currentUser), any(CursorPageParameter.class), any()))
           .thenReturn(mockPager);
 
       DataFetcherResult<ArticlesConnection> result = articleDatafetcher.getFeed(
@@ -69,7 +69,7 @@ public class ArticleDatafetcherLastParameterTest {
     when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(targetUser));
 
     CursorPager<ArticleData> mockPager = createMockPager();
-    when(articleQueryService.findUserFeedWithCursor(eq(targetUser), any(CursorPageParameter.class)))
+    when(articleQueryService.findUserFeedWithCursor(eq(targetUser), any(CursorPageParameter.class), any()))
         .thenReturn(mockPager);
 
     DataFetcherResult<ArticlesConnection> result = articleDatafetcher.userFeed(
@@ -90,7 +90,7 @@ public class ArticleDatafetcherLastParameterTest {
 
       CursorPager<ArticleData> mockPager = createMockPager();
       when(articleQueryService.findRecentArticlesWithCursor(
-              eq(null), eq(null), eq("testuser"), any(CursorPageParameter.class), eq(currentUser)))
+              eq(null), eq(null), eq("testuser"), any(CursorPageParameter.class), eq(currentUser), any()))
           .thenReturn(mockPager);
 
       DataFetcherResult<ArticlesConnection> result = articleDatafetcher.userFavorites(
@@ -112,7 +112,7 @@ public class ArticleDatafetcherLastParameterTest {
 
       CursorPager<ArticleData> mockPager = createMockPager();
       when(articleQueryService.findRecentArticlesWithCursor(
-              eq(null), eq("testuser"), eq(null), any(CursorPageParameter.class), eq(currentUser)))
+              eq(null), eq("testuser"), eq(null), any(CursorPageParameter.class), eq(currentUser), any()))
           .thenReturn(mockPager);
 
       DataFetcherResult<ArticlesConnection> result = articleDatafetcher.userArticles(
@@ -131,7 +131,7 @@ public class ArticleDatafetcherLastParameterTest {
 
       CursorPager<ArticleData> mockPager = createMockPager();
       when(articleQueryService.findRecentArticlesWithCursor(
-              eq("tag"), eq("author"), eq("favorited"), any(CursorPageParameter.class), eq(currentUser)))
+              eq("tag"), eq("author"), eq("favorited"), any(CursorPageParameter.class), eq(currentUser), any()))
           .thenReturn(mockPager);
 
       DataFetcherResult<ArticlesConnection> result = articleDatafetcher.getArticles(
@@ -69,7 +69,7 @@ public class ArticleDatafetcherMissingMethodsTest {
     
     CursorPager<ArticleData> mockPager = new CursorPager<>(Arrays.asList(testArticleData), 
         io.spring.application.CursorPager.Direction.NEXT, false);
-    when(articleQueryService.findUserFeedWithCursor(eq(testUser), any(CursorPageParameter.class)))
+    when(articleQueryService.findUserFeedWithCursor(eq(testUser), any(CursorPageParameter.class), any()))
         .thenReturn(mockPager);
 
     DataFetcherResult<ArticlesConnection> result = articleDatafetcher.userFeed(10, "1234567890", null, null, dgsDataFetchingEnvironment);
@@ -87,7 +87,7 @@ public class ArticleDatafetcherMissingMethodsTest {
     
     CursorPager<ArticleData> mockPager = new CursorPager<>(Arrays.asList(testArticleData), 
         io.spring.application.CursorPager.Direction.PREV, false);
-    when(articleQueryService.findUserFeedWithCursor(eq(testUser), any(CursorPageParameter.class)))
+    when(articleQueryService.findUserFeedWithCursor(eq(testUser), any(CursorPageParameter.class), any()))
         .thenReturn(mockPager);
 
     DataFetcherResult<ArticlesConnection> result = articleDatafetcher.userFeed(null, null, 10, "1234567890", dgsDataFetchingEnvironment);
@@ -105,7 +105,7 @@ public class ArticleDatafetcherMissingMethodsTest {
       CursorPager<ArticleData> mockPager = new CursorPager<>(Arrays.asList(testArticleData), 
           io.spring.application.CursorPager.Direction.NEXT, false);
       when(articleQueryService.findRecentArticlesWithCursor(eq("java"), eq("testuser"), eq("favorited-user"), 
-          any(CursorPageParameter.class), eq(testUser)))
+          any(CursorPageParameter.class), eq(testUser), any()))
           .thenReturn(mockPager);
 
       DataFetcherResult<ArticlesConnection> result = articleDatafetcher.getArticles(
@@ -125,7 +125,7 @@ public class ArticleDatafetcherMissingMethodsTest {
       CursorPager<ArticleData> mockPager = new CursorPager<>(Arrays.asList(testArticleData), 
           io.spring.application.CursorPager.Direction.PREV, false);
       when(articleQueryService.findRecentArticlesWithCursor(isNull(), isNull(), isNull(), 
-          any(CursorPageParameter.class), eq(testUser)))
+          any(CursorPageParameter.class), eq(testUser), any()))
           .thenReturn(mockPager);
 
       DataFetcherResult<ArticlesConnection> result = articleDatafetcher.getArticles(
@@ -148,7 +148,7 @@ public class ArticleDatafetcherMissingMethodsTest {
       CursorPager<ArticleData> mockPager = new CursorPager<>(Arrays.asList(testArticleData), 
           io.spring.application.CursorPager.Direction.NEXT, false);
       when(articleQueryService.findRecentArticlesWithCursor(isNull(), isNull(), eq("testuser"), 
-          any(CursorPageParameter.class), eq(testUser)))
+          any(CursorPageParameter.class), eq(testUser), any()))
           .thenReturn(mockPager);
 
       DataFetcherResult<ArticlesConnection> result = articleDatafetcher.userFavorites(10, "1234567890", null, null, dgsDataFetchingEnvironment);
@@ -170,7 +170,7 @@ public class ArticleDatafetcherMissingMethodsTest {
       CursorPager<ArticleData> mockPager = new CursorPager<>(Arrays.asList(testArticleData), 
           io.spring.application.CursorPager.Direction.PREV, false);
       when(articleQueryService.findRecentArticlesWithCursor(isNull(), isNull(), eq("testuser"), 
-          any(CursorPageParameter.class), eq(testUser)))
+          any(CursorPageParameter.class), eq(testUser), any()))
           .thenReturn(mockPager);
 
       DataFetcherResult<ArticlesConnection> result = articleDatafetcher.userFavorites(null, null, 5, "1234567890", dgsDataFetchingEnvironment);
@@ -192,7 +192,7 @@ public class ArticleDatafetcherMissingMethodsTest {
       CursorPager<ArticleData> mockPager = new CursorPager<>(Arrays.asList(testArticleData), 
           io.spring.application.CursorPager.Direction.NEXT, false);
       when(articleQueryService.findRecentArticlesWithCursor(isNull(), eq("testuser"), isNull(), 
-          any(CursorPageParameter.class), eq(testUser)))
+          any(CursorPageParameter.class), eq(testUser), any()))
           .thenReturn(mockPager);
 
       DataFetcherResult<ArticlesConnection> result = articleDatafetcher.userArticles(10, "1234567890", null, null, dgsDataFetchingEnvironment);
@@ -214,7 +214,7 @@ public class ArticleDatafetcherMissingMethodsTest {
       CursorPager<ArticleData> mockPager = new CursorPager<>(Arrays.asList(testArticleData), 
           io.spring.application.CursorPager.Direction.PREV, false);
       when(articleQueryService.findRecentArticlesWithCursor(isNull(), eq("testuser"), isNull(), 
-          any(CursorPageParameter.class), eq(testUser)))
+          any(CursorPageParameter.class), eq(testUser), any()))
           .thenReturn(mockPager);
 
       DataFetcherResult<ArticlesConnection> result = articleDatafetcher.userArticles(null, null, 5, "1234567890", dgsDataFetchingEnvironment);
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.mockStatic;
 
 import com.netflix.graphql.dgs.DgsDataFetchingEnvironment;
 import graphql.execution.DataFetcherResult;
+import io.spring.application.ArticleCursor;
 import io.spring.application.ArticleQueryService;
 import io.spring.application.CursorPageParameter;
 import io.spring.application.CursorPager;
@@ -67,7 +68,7 @@ public class ArticleDatafetcherSimpleTest {
     when(mockResult.hasNext()).thenReturn(true);
 
     when(articleQueryService.findRecentArticlesWithCursor(
-        eq(null), eq("testuser"), eq(null), any(CursorPageParameter.class), any(User.class)))
+        eq(null), eq("testuser"), eq(null), any(CursorPageParameter.class), any(User.class), any()))
         .thenReturn(mockResult);
 
     try (MockedStatic<SecurityUtil> securityUtil = mockStatic(SecurityUtil.class)) {
@@ -97,7 +98,7 @@ public class ArticleDatafetcherSimpleTest {
     when(mockResult.hasNext()).thenReturn(false);
 
     when(articleQueryService.findRecentArticlesWithCursor(
-        eq("java"), eq("author"), eq("favorited"), any(CursorPageParameter.class), any(User.class)))
+        eq("java"), eq("author"), eq("favorited"), any(CursorPageParameter.class), any(User.class), any()))
         .thenReturn(mockResult);
 
     try (MockedStatic<SecurityUtil> securityUtil = mockStatic(SecurityUtil.class)) {
@@ -129,7 +130,7 @@ public class ArticleDatafetcherSimpleTest {
     when(mockResult.hasNext()).thenReturn(false);
 
     when(articleQueryService.findRecentArticlesWithCursor(
-        eq(null), eq(null), eq("testuser"), any(CursorPageParameter.class), any(User.class)))
+        eq(null), eq(null), eq("testuser"), any(CursorPageParameter.class), any(User.class), any()))
         .thenReturn(mockResult);
 
     try (MockedStatic<SecurityUtil> securityUtil = mockStatic(SecurityUtil.class)) {
@@ -158,7 +159,7 @@ public class ArticleDatafetcherSimpleTest {
     when(mockResult.hasPrevious()).thenReturn(false);
     when(mockResult.hasNext()).thenReturn(false);
 
-    when(articleQueryService.findUserFeedWithCursor(any(User.class), any(CursorPageParameter.class)))
+    when(articleQueryService.findUserFeedWithCursor(any(User.class), any(CursorPageParameter.class), any()))
         .thenReturn(mockResult);
 
     try (MockedStatic<SecurityUtil> securityUtil = mockStatic(SecurityUtil.class)) {
@@ -192,7 +193,7 @@ public class ArticleDatafetcherSimpleTest {
     when(mockResult.hasPrevious()).thenReturn(false);
     when(mockResult.hasNext()).thenReturn(false);
 
-    when(articleQueryService.findUserFeedWithCursor(eq(targetUser), any(CursorPageParameter.class)))
+    when(articleQueryService.findUserFeedWithCursor(eq(targetUser), any(CursorPageParameter.class), any()))
         .thenReturn(mockResult);
 
     DataFetcherResult<ArticlesConnection> result = articleDatafetcher.userFeed(10, null, null, null, dfe);
@@ -218,7 +219,7 @@ public class ArticleDatafetcherSimpleTest {
     when(mockResult.hasNext()).thenReturn(false);
 
     when(articleQueryService.findRecentArticlesWithCursor(
-        eq(null), eq("testuser"), eq(null), any(CursorPageParameter.class), any(User.class)))
+        eq(null), eq("testuser"), eq(null), any(CursorPageParameter.class), any(User.class), any()))
         .thenReturn(mockResult);
 
     try (MockedStatic<SecurityUtil> securityUtil = mockStatic(SecurityUtil.class)) {
@@ -243,7 +244,7 @@ public class ArticleDatafetcherSimpleTest {
     when(articleData.getTagList()).thenReturn(Arrays.asList("test"));
     when(articleData.getCreatedAt()).thenReturn(DateTime.now());
     when(articleData.getUpdatedAt()).thenReturn(DateTime.now());
-    when(articleData.getCursor()).thenReturn(new DateTimeCursor(DateTime.now()));
+    when(articleData.getCursor()).thenReturn(new ArticleCursor(DateTime.now(), "a1"));
     return articleData;
   }
 }
@@ -80,7 +80,7 @@ public class ArticleDatafetcherTest {
     when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
     
     CursorPager<ArticleData> pager = new CursorPager<>(Arrays.asList(testArticleData), Direction.NEXT, false);
-    when(articleQueryService.findUserFeedWithCursor(eq(testUser), any(CursorPageParameter.class)))
+    when(articleQueryService.findUserFeedWithCursor(eq(testUser), any(CursorPageParameter.class), any()))
         .thenReturn(pager);
 
     DataFetcherResult<ArticlesConnection> result = articleDatafetcher.userFeed(first, after, last, before, dfe);
@@ -88,7 +88,7 @@ public class ArticleDatafetcherTest {
     assertThat(result).isNotNull();
     assertThat(result.getData()).isNotNull();
     assertThat(result.getData().getEdges()).hasSize(1);
-    verify(articleQueryService).findUserFeedWithCursor(eq(testUser), any(CursorPageParameter.class));
+    verify(articleQueryService).findUserFeedWithCursor(eq(testUser), any(CursorPageParameter.class), any());
   }
 
   @Test
@@ -118,7 +118,7 @@ public class ArticleDatafetcherTest {
     when(dfe.getSource()).thenReturn(testProfile);
     
     CursorPager<ArticleData> pager = new CursorPager<>(Arrays.asList(testArticleData), Direction.NEXT, false);
-    when(articleQueryService.findRecentArticlesWithCursor(eq(null), eq(null), eq("testuser"), any(CursorPageParameter.class), any()))
+    when(articleQueryService.findRecentArticlesWithCursor(eq(null), eq(null), eq("testuser"), any(CursorPageParameter.class), any(), any()))
         .thenReturn(pager);
 
     try (MockedStatic<SecurityUtil> securityUtil = mockStatic(SecurityUtil.class)) {
@@ -128,7 +128,7 @@ public class ArticleDatafetcherTest {
 
       assertThat(result).isNotNull();
       assertThat(result.getData().getEdges()).hasSize(1);
-      verify(articleQueryService).findRecentArticlesWithCursor(eq(null), eq(null), eq("testuser"), any(CursorPageParameter.class), eq(testUser));
+      verify(articleQueryService).findRecentArticlesWithCursor(eq(null), eq(null), eq("testuser"), any(CursorPageParameter.class), eq(testUser), any());
     }
   }
 
@@ -142,7 +142,7 @@ public class ArticleDatafetcherTest {
     when(dfe.getSource()).thenReturn(testProfile);
     
     CursorPager<ArticleData> pager = new CursorPager<>(Arrays.asList(testArticleData), Direction.NEXT, false);
-    when(articleQueryService.findRecentArticlesWithCursor(eq(null), eq("testuser"), eq(null), any(CursorPageParameter.class), any()))
+    when(articleQueryService.findRecentArticlesWithCursor(eq(null), eq("testuser"), eq(null), any(CursorPageParameter.class), any(), any()))
         .thenReturn(pager);
 
     try (MockedStatic<SecurityUtil> securityUtil = mockStatic(SecurityUtil.class)) {
@@ -152,7 +152,7 @@ public class ArticleDatafetcherTest {
 
       assertThat(result).isNotNull();
       assertThat(result.getData().getEdges()).hasSize(1);
-      verify(articleQueryService).findRecentArticlesWithCursor(eq(null), eq("testuser"), eq(null), any(CursorPageParameter.class), eq(testUser));
+      verify(articleQueryService).findRecentArticlesWithCursor(eq(null), eq("testuser"), eq(null), any(CursorPageParameter.class), eq(testUser), any());
     }
   }
 
@@ -167,7 +167,7 @@ public class ArticleDatafetcherTest {
     String withTag = "java";
 
     CursorPager<ArticleData> pager = new CursorPager<>(Arrays.asList(testArticleData), Direction.NEXT, false);
-    when(articleQueryService.findRecentArticlesWithCursor(eq(withTag), eq(authoredBy), eq(favoritedBy), any(CursorPageParameter.class), any()))
+    when(articleQueryService.findRecentArticlesWithCursor(eq(withTag), eq(authoredBy), eq(favoritedBy), any(CursorPageParameter.class), any(), any()))
         .thenReturn(pager);
 
     try (MockedStatic<SecurityUtil> securityUtil = mockStatic(SecurityUtil.class)) {
@@ -177,7 +177,7 @@ public class ArticleDatafetcherTest {
 
       assertThat(result).isNotNull();
       assertThat(result.getData().getEdges()).hasSize(1);
-      verify(articleQueryService).findRecentArticlesWithCursor(eq(withTag), eq(authoredBy), eq(favoritedBy), any(CursorPageParameter.class), eq(testUser));
+      verify(articleQueryService).findRecentArticlesWithCursor(eq(withTag), eq(authoredBy), eq(favoritedBy), any(CursorPageParameter.class), eq(testUser), any());
     }
   }
 
@@ -199,16 +199,16 @@ public class ArticleDatafetcherTest {
   public void should_find_article_by_slug_successfully() {
     String slug = "test-slug";
 
-    when(articleQueryService.findBySlug(eq(slug), any())).thenReturn(Optional.of(testArticleData));
+    when(articleQueryService.findBySlug(eq(slug), any(), any())).thenReturn(Optional.of(testArticleData));
 
     try (MockedStatic<SecurityUtil> securityUtil = mockStatic(SecurityUtil.class)) {
       securityUtil.when(SecurityUtil::getCurrentUser).thenReturn(Optional.of(testUser));
 
-      DataFetcherResult<Article> result = articleDatafetcher.findArticleBySlug(slug);
+      DataFetcherResult<Article> result = articleDatafetcher.findArticleBySlug(slug, dfe);
 
       assertThat(result).isNotNull();
       assertThat(result.getData()).isNotNull();
-      verify(articleQueryService).findBySlug(eq(slug), eq(testUser));
+      verify(articleQueryService).findBySlug(eq(slug), eq(testUser), any());
     }
   }
 
@@ -216,18 +216,18 @@ public class ArticleDatafetcherTest {
   public void should_throw_exception_when_article_not_found_by_slug() {
     String slug = "non-existent-slug";
 
-    when(articleQueryService.findBySlug(eq(slug), any())).thenReturn(Optional.empty());
+    when(articleQueryService.findBySlug(eq(slug), any(), any())).thenReturn(Optional.empty());
 
     try (MockedStatic<SecurityUtil> securityUtil = mockStatic(SecurityUtil.class)) {
       securityUtil.when(SecurityUtil::getCurrentUser).thenReturn(Optional.of(testUser));
 
       try {
-        articleDatafetcher.findArticleBySlug(slug);
+        articleDatafetcher.findArticleBySlug(slug, dfe);
       } catch (ResourceNotFoundException e) {
         assertThat(e).isInstanceOf(ResourceNotFoundException.class);
       }
 
-      verify(articleQueryService).findBySlug(eq(slug), eq(testUser));
+      verify(articleQueryService).findBySlug(eq(slug), eq(testUser), any());
     }
   }
 }
@@ -3,15 +3,19 @@ package io.spring.application;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.spring.application.data.ArticleData;
 import io.spring.application.data.ArticleFavoriteCount;
 import io.spring.application.data.ProfileData;
 import io.spring.core.user.User;
+import io.spring.infrastructure.favorite.FavoriteFilter;
 import io.spring.infrastructure.mybatis.readservice.ArticleFavoritesReadService;
 import io.spring.infrastructure.mybatis.readservice.ArticleReadService;
 import io.spring.infrastructure.mybatis.readservice.UserRelationshipQueryService;
+import io.spring.infrastructure.tag.TagDictionary;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -31,6 +35,13 @@ public class ArticleQueryServiceMissingCoverageTest {
   @Mock private ArticleReadService articleReadService;
   @Mock private UserRelationshipQueryService userRelationshipQueryService;
   @Mock private ArticleFavoritesReadService articleFavoritesReadService;
+  @Mock private ArticleCountService articleCountService;
+  // a zero false positive rate disables the filter, so every favorite check reaches the mocks
+  private final FavoriteFilter favoriteFilter =
+      new FavoriteFilter(null, null, new SimpleMeterRegistry(), 0, 5000);
+  @Mock private TagDictionary tagDictionary;
+  // a zero size disables the cache, so every read reaches the mocks
+  private final ArticleDataCache articleDataCache = new ArticleDataCache(0, 0, new SimpleMeterRegistry());
 
   private ArticleQueryService articleQueryService;
   private User testUser;
@@ -39,7 +50,13 @@ public class ArticleQueryServiceMissingCoverageTest {
   @BeforeEach
   void setUp() {
     articleQueryService = new ArticleQueryService(
-        articleReadService, userRelationshipQueryService, articleFavoritesReadService);
+        articleReadService,
+        userRelationshipQueryService,
+        articleFavoritesReadService,
+        articleCountService,
+        favoriteFilter,
+        tagDictionary,
+        articleDataCache);
     testUser = new User("test@example.com", "testuser", "123", "", "");
     
     ProfileData profileData = new ProfileData("profile-id", "testuser", "bio", "image.jpg", false);
@@ -64,9 +81,9 @@ public class ArticleQueryServiceMissingCoverageTest {
         new DateTimeCursor(cursorTime), 10, CursorPager.Direction.NEXT);
     
     List<ArticleData> articles = new ArrayList<>(Arrays.asList(testArticleData));
-    when(userRelationshipQueryService.followedUsers(testUser.getId()))
-        .thenReturn(Arrays.asList("author1", "author2"));
-    when(articleReadService.findArticlesOfAuthorsWithCursor(any(List.class), any(CursorPageParameter.class)))
+    when(articleReadService.findTimelineWithCursor(eq(testUser.getId()), any(CursorPageParameter.class)))
+        .thenReturn(articleIds(articles));
+    when(articleReadService.findArticles(any(List.class), eq(ArticleFetchPlan.FULL)))
         .thenReturn(articles);
     when(articleFavoritesReadService.articlesFavoriteCount(any(List.class)))
         .thenReturn(Arrays.asList(new ArticleFavoriteCount("article-id", 5)));
@@ -88,9 +105,9 @@ public class ArticleQueryServiceMissingCoverageTest {
         new DateTimeCursor(cursorTime), 10, CursorPager.Direction.PREV);
     
     List<ArticleData> articles = new ArrayList<>(Arrays.asList(testArticleData));
-    when(userRelationshipQueryService.followedUsers(testUser.getId()))
-        .thenReturn(Arrays.asList("author1", "author2"));
-    when(articleReadService.findArticlesOfAuthorsWithCursor(any(List.class), any(CursorPageParameter.class)))
+    when(articleReadService.findTimelineWithCursor(eq(testUser.getId()), any(CursorPageParameter.class)))
+        .thenReturn(articleIds(articles));
+    when(articleReadService.findArticles(any(List.class), eq(ArticleFetchPlan.FULL)))
         .thenReturn(articles);
     when(articleFavoritesReadService.articlesFavoriteCount(any(List.class)))
         .thenReturn(Arrays.asList(new ArticleFavoriteCount("article-id", 5)));
@@ -106,11 +123,11 @@ public class ArticleQueryServiceMissingCoverageTest {
   }
 
   @Test
-  void findUserFeedWithCursor_should_handle_empty_followed_users() {
+  void findUserFeedWithCursor_should_handle_empty_timeline() {
     CursorPageParameter pageParam = new CursorPageParameter(null, 10, CursorPager.Direction.NEXT);
     
-    when(userRelationshipQueryService.followedUsers(testUser.getId()))
-        .thenReturn(Collections.emptyList());
+    when(articleReadService.findTimelineWithCursor(eq(testUser.getId()), any(CursorPageParameter.class)))
+        .thenReturn(new ArrayList<>());
 
     CursorPager<ArticleData> result = articleQueryService.findUserFeedWithCursor(testUser, pageParam);
 
@@ -127,9 +144,9 @@ public class ArticleQueryServiceMissingCoverageTest {
     
     List<String> articleIds = Arrays.asList("article-1", "article-2");
     List<ArticleData> articles = Arrays.asList(testArticleData);
-    when(articleReadService.findArticlesWithCursor(eq("java"), eq("author"), eq("favorited"), any(CursorPageParameter.class)))
+    when(articleReadService.findArticlesWithCursor(eq("java"), isNull(), eq("author"), eq("favorited"), any(CursorPageParameter.class)))
         .thenReturn(articleIds);
-    when(articleReadService.findArticles(articleIds))
+    when(articleReadService.findArticles(articleIds, ArticleFetchPlan.FULL))
         .thenReturn(articles);
     when(articleFavoritesReadService.articlesFavoriteCount(any(List.class)))
         .thenReturn(Arrays.asList(new ArticleFavoriteCount("article-id", 5)));
@@ -153,9 +170,9 @@ public class ArticleQueryServiceMissingCoverageTest {
     
     List<String> articleIds = Arrays.asList("article-1", "article-2");
     List<ArticleData> articles = Arrays.asList(testArticleData);
-    when(articleReadService.findArticlesWithCursor(eq("spring"), eq("testuser"), eq(null), any(CursorPageParameter.class)))
+    when(articleReadService.findArticlesWithCursor(eq("spring"), isNull(), eq("testuser"), eq(null), any(CursorPageParameter.class)))
         .thenReturn(articleIds);
-    when(articleReadService.findArticles(articleIds))
+    when(articleReadService.findArticles(articleIds, ArticleFetchPlan.FULL))
         .thenReturn(articles);
     when(articleFavoritesReadService.articlesFavoriteCount(any(List.class)))
         .thenReturn(Arrays.asList(new ArticleFavoriteCount("article-id", 5)));
@@ -175,7 +192,7 @@ public class ArticleQueryServiceMissingCoverageTest {
   void findRecentArticlesWithCursor_should_handle_empty_results() {
     CursorPageParameter pageParam = new CursorPageParameter(null, 10, CursorPager.Direction.NEXT);
     
-    when(articleReadService.findArticlesWithCursor(any(), any(), any(), any(CursorPageParameter.class)))
+    when(articleReadService.findArticlesWithCursor(any(), any(), any(), any(), any(CursorPageParameter.class)))
         .thenReturn(Collections.emptyList());
 
     CursorPager<ArticleData> result = articleQueryService.findRecentArticlesWithCursor(
@@ -194,9 +211,9 @@ public class ArticleQueryServiceMissingCoverageTest {
     
     List<String> articleIds = new ArrayList<>(Arrays.asList("article-1", "article-2", "article-3"));
     List<ArticleData> articles = Arrays.asList(testArticleData, testArticleData);
-    when(articleReadService.findArticlesWithCursor(any(), any(), any(), any(CursorPageParameter.class)))
+    when(articleReadService.findArticlesWithCursor(any(), any(), any(), any(), any(CursorPageParameter.class)))
         .thenReturn(articleIds);
-    when(articleReadService.findArticles(any(List.class)))
+    when(articleReadService.findArticles(any(List.class), eq(ArticleFetchPlan.FULL)))
         .thenReturn(articles);
     when(articleFavoritesReadService.articlesFavoriteCount(any(List.class)))
         .thenReturn(Arrays.asList(new ArticleFavoriteCount("article-id", 5)));
@@ -219,9 +236,9 @@ public class ArticleQueryServiceMissingCoverageTest {
         new DateTimeCursor(cursorTime), 2, CursorPager.Direction.NEXT);
     
     List<ArticleData> articles = new ArrayList<>(Arrays.asList(testArticleData, testArticleData, testArticleData));
-    when(userRelationshipQueryService.followedUsers(testUser.getId()))
-        .thenReturn(Arrays.asList("author1", "author2"));
-    when(articleReadService.findArticlesOfAuthorsWithCursor(any(List.class), any(CursorPageParameter.class)))
+    when(articleReadService.findTimelineWithCursor(eq(testUser.getId()), any(CursorPageParameter.class)))
+        .thenReturn(articleIds(articles));
+    when(articleReadService.findArticles(any(List.class), eq(ArticleFetchPlan.FULL)))
         .thenReturn(articles);
     when(articleFavoritesReadService.articlesFavoriteCount(any(List.class)))
         .thenReturn(Arrays.asList(new ArticleFavoriteCount("article-id", 5)));
@@ -235,4 +252,8 @@ public class ArticleQueryServiceMissingCoverageTest {
     assertThat(result).isNotNull();
     assertThat(result.hasNext()).isTrue();
   }
+
+  private static List<String> articleIds(List<ArticleData> articles) {
+    return new ArrayList<>(Collections.nCopies(articles.size(), "article-id"));
+  }
 }
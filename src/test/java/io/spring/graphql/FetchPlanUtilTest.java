@@ -0,0 +1,49 @@
+package io.spring.graphql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import io.spring.application.ArticleFetchPlan;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class FetchPlanUtilTest {
+
+  @Mock private DataFetchingEnvironment dataFetchingEnvironment;
+
+  @Mock private DataFetchingFieldSelectionSet selectionSet;
+
+  @Test
+  public void should_use_full_plan_without_selection_set() {
+    assertThat(FetchPlanUtil.forConnection(null)).isEqualTo(ArticleFetchPlan.FULL);
+    assertThat(FetchPlanUtil.forArticle(dataFetchingEnvironment)).isEqualTo(ArticleFetchPlan.FULL);
+  }
+
+  @Test
+  public void should_only_plan_selected_connection_fields() {
+    when(dataFetchingEnvironment.getSelectionSet()).thenReturn(selectionSet);
+    when(selectionSet.contains(anyString())).thenReturn(false);
+    when(selectionSet.contains("edges/node/favoritesCount")).thenReturn(true);
+    when(selectionSet.contains("edges/node/body")).thenReturn(true);
+
+    ArticleFetchPlan plan = FetchPlanUtil.forConnection(dataFetchingEnvironment);
+
+    assertThat(plan).isEqualTo(new ArticleFetchPlan(true, false, false, false, true));
+  }
+
+  @Test
+  public void should_plan_single_article_fields_without_following() {
+    when(dataFetchingEnvironment.getSelectionSet()).thenReturn(selectionSet);
+    when(selectionSet.contains(anyString())).thenReturn(true);
+
+    ArticleFetchPlan plan = FetchPlanUtil.forArticle(dataFetchingEnvironment);
+
+    assertThat(plan).isEqualTo(new ArticleFetchPlan(true, true, false, true, true));
+  }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -14,6 +15,7 @@ import io.spring.application.data.ArticleData;
 import io.spring.application.data.CommentData;
 import io.spring.application.data.ProfileData;
 import io.spring.core.user.User;
+import io.spring.graphql.dataloader.ProfileDataLoader;
 import io.spring.graphql.types.Article;
 import io.spring.graphql.types.Comment;
 import io.spring.graphql.types.Profile;
@@ -22,6 +24,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.dataloader.DataLoader;
 import org.joda.time.DateTime;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -44,6 +48,9 @@ public class ProfileDatafetcherTest {
   @Mock
   private DataFetchingEnvironment dataFetchingEnvironment;
 
+  @Mock
+  private DataLoader<String, ProfileData> profileDataLoader;
+
   private User testUser;
   private ProfileData testProfileData;
 
@@ -83,12 +90,14 @@ public class ProfileDatafetcherTest {
 
     when(dataFetchingEnvironment.getLocalContext()).thenReturn(articleMap);
     when(dataFetchingEnvironment.getSource()).thenReturn(article);
-    when(profileQueryService.findByUsername(eq("author"), any())).thenReturn(Optional.of(authorProfileData));
+    doReturn(profileDataLoader).when(dataFetchingEnvironment).getDataLoader(ProfileDataLoader.NAME);
+    when(profileDataLoader.load(eq("author"), eq(null)))
+        .thenReturn(CompletableFuture.completedFuture(authorProfileData));
 
     try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
       mockedSecurityUtil.when(SecurityUtil::getCurrentUser).thenReturn(Optional.empty());
 
-      Profile result = profileDatafetcher.getAuthor(dataFetchingEnvironment);
+      Profile result = profileDatafetcher.getAuthor(dataFetchingEnvironment).join();
 
       assertThat(result).isNotNull();
       assertThat(result.getUsername()).isEqualTo("author");
@@ -109,12 +118,14 @@ public class ProfileDatafetcherTest {
 
     when(dataFetchingEnvironment.getLocalContext()).thenReturn(commentMap);
     when(dataFetchingEnvironment.getSource()).thenReturn(comment);
-    when(profileQueryService.findByUsername(eq("commenter"), any())).thenReturn(Optional.of(commentAuthorProfileData));
+    doReturn(profileDataLoader).when(dataFetchingEnvironment).getDataLoader(ProfileDataLoader.NAME);
+    when(profileDataLoader.load(eq("commenter"), eq(testUser)))
+        .thenReturn(CompletableFuture.completedFuture(commentAuthorProfileData));
 
     try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
       mockedSecurityUtil.when(SecurityUtil::getCurrentUser).thenReturn(Optional.of(testUser));
 
-      Profile result = profileDatafetcher.getCommentAuthor(dataFetchingEnvironment);
+      Profile result = profileDatafetcher.getCommentAuthor(dataFetchingEnvironment).join();
 
       assertThat(result).isNotNull();
       assertThat(result.getUsername()).isEqualTo("commenter");
@@ -124,6 +135,29 @@ public class ProfileDatafetcherTest {
     }
   }
 
+  @Test
+  public void should_fail_article_author_when_profile_missing() {
+    Article article = Article.newBuilder().slug("test-article").build();
+    ProfileData authorProfileData = new ProfileData("author123", "author", "Author bio", "author.jpg", false);
+    ArticleData articleData = new ArticleData("article123", "test-article", "Test Article", "Description", "Body",
+        false, 0, DateTime.now(), DateTime.now(), Arrays.asList("tag1"), authorProfileData);
+
+    Map<String, ArticleData> articleMap = new HashMap<>();
+    articleMap.put("test-article", articleData);
+
+    when(dataFetchingEnvironment.getLocalContext()).thenReturn(articleMap);
+    when(dataFetchingEnvironment.getSource()).thenReturn(article);
+    doReturn(profileDataLoader).when(dataFetchingEnvironment).getDataLoader(ProfileDataLoader.NAME);
+    when(profileDataLoader.load(eq("author"), eq(null))).thenReturn(CompletableFuture.completedFuture(null));
+
+    try (MockedStatic<SecurityUtil> mockedSecurityUtil = Mockito.mockStatic(SecurityUtil.class)) {
+      mockedSecurityUtil.when(SecurityUtil::getCurrentUser).thenReturn(Optional.empty());
+
+      assertThatThrownBy(() -> profileDatafetcher.getAuthor(dataFetchingEnvironment).join())
+          .hasCauseInstanceOf(ResourceNotFoundException.class);
+    }
+  }
+
   @Test
   public void should_query_profile_by_username() {
     when(dataFetchingEnvironment.getArgument("username")).thenReturn("targetuser");
@@ -113,8 +113,7 @@ public class RelationMutationTest {
     FollowRelation followRelation = new FollowRelation(currentUser.getId(), targetUser.getId());
 
     when(userRepository.findByUsername(username)).thenReturn(Optional.of(targetUser));
-    when(userRepository.findRelation(currentUser.getId(), targetUser.getId()))
-        .thenReturn(Optional.of(followRelation));
+    when(userRepository.removeRelation(followRelation)).thenReturn(true);
     when(profileQueryService.findByUsername(username, currentUser)).thenReturn(Optional.of(profileData));
 
     try (MockedStatic<SecurityUtil> securityUtil = mockStatic(SecurityUtil.class)) {
@@ -171,8 +170,8 @@ public class RelationMutationTest {
     String username = "targetuser";
 
     when(userRepository.findByUsername(username)).thenReturn(Optional.of(targetUser));
-    when(userRepository.findRelation(currentUser.getId(), targetUser.getId()))
-        .thenReturn(Optional.empty());
+    when(userRepository.removeRelation(new FollowRelation(currentUser.getId(), targetUser.getId())))
+        .thenReturn(false);
 
     try (MockedStatic<SecurityUtil> securityUtil = mockStatic(SecurityUtil.class)) {
       securityUtil.when(SecurityUtil::getCurrentUser).thenReturn(Optional.of(currentUser));
@@ -183,7 +182,7 @@ public class RelationMutationTest {
         assertThat(e).isInstanceOf(ResourceNotFoundException.class);
       }
 
-      verify(userRepository, never()).removeRelation(any(FollowRelation.class));
+      verify(profileQueryService, never()).findByUsername(any(), any());
     }
   }
 
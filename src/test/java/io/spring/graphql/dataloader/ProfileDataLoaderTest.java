@@ -0,0 +1,66 @@
+package io.spring.graphql.dataloader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.spring.application.ProfileQueryService;
+import io.spring.application.data.ProfileData;
+import io.spring.core.user.User;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.dataloader.BatchLoaderEnvironment;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ProfileDataLoaderTest {
+
+  @Mock private ProfileQueryService profileQueryService;
+
+  @InjectMocks private ProfileDataLoader profileDataLoader;
+
+  @Test
+  public void should_load_all_profiles_in_one_call_with_current_user() {
+    User currentUser = new User("a@test.com", "a", "123", "", "");
+    Set<String> usernames = new HashSet<>(Arrays.asList("u1", "u2"));
+    Map<String, ProfileData> profiles = new HashMap<>();
+    profiles.put("u1", new ProfileData("id1", "u1", "", "", true));
+    profiles.put("u2", new ProfileData("id2", "u2", "", "", false));
+    when(profileQueryService.findByUsernames(eq(usernames), eq(currentUser))).thenReturn(profiles);
+
+    BatchLoaderEnvironment environment =
+        BatchLoaderEnvironment.newBatchLoaderEnvironment()
+            .keyContexts(Arrays.asList("u1", "u2"), Arrays.asList(currentUser, currentUser))
+            .build();
+
+    Map<String, ProfileData> result =
+        profileDataLoader.load(usernames, environment).toCompletableFuture().join();
+
+    assertThat(result).isEqualTo(profiles);
+    verify(profileQueryService).findByUsernames(usernames, currentUser);
+  }
+
+  @Test
+  public void should_load_profiles_for_anonymous_user() {
+    Set<String> usernames = Collections.singleton("u1");
+    when(profileQueryService.findByUsernames(eq(usernames), eq(null)))
+        .thenReturn(Collections.emptyMap());
+
+    Map<String, ProfileData> result =
+        profileDataLoader
+            .load(usernames, BatchLoaderEnvironment.newBatchLoaderEnvironment().build())
+            .toCompletableFuture()
+            .join();
+
+    assertThat(result).isEmpty();
+  }
+}
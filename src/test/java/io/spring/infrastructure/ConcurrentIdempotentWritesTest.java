@@ -0,0 +1,157 @@
+package io.spring.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.spring.core.article.Article;
+import io.spring.core.article.ArticleRepository;
+import io.spring.core.favorite.ArticleFavorite;
+import io.spring.core.favorite.ArticleFavoriteRepository;
+import io.spring.core.user.FollowRelation;
+import io.spring.core.user.User;
+import io.spring.core.user.UserRepository;
+import io.spring.infrastructure.mybatis.StatementTally;
+import io.spring.infrastructure.mybatis.StatementTally.Tally;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import org.springframework.test.context.support.DirtiesContextTestExecutionListener;
+import org.springframework.test.context.transaction.TransactionalTestExecutionListener;
+
+/**
+ * Many threads write the same favorite or follow at once, as double clicks and retries do. Each
+ * write is a single idempotent statement, so exactly one row is stored and every attempt costs
+ * one statement, plus the count delta of the favorite that was actually stored.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestExecutionListeners({
+  DependencyInjectionTestExecutionListener.class,
+  DirtiesContextTestExecutionListener.class,
+  TransactionalTestExecutionListener.class,
+  DatabaseCleanupTestExecutionListener.class
+})
+public class ConcurrentIdempotentWritesTest {
+  private static final int THREADS = 16;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private ArticleRepository articleRepository;
+
+  @Autowired private ArticleFavoriteRepository articleFavoriteRepository;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private User user;
+  private User author;
+  private Article article;
+  private Tally tally;
+
+  @BeforeEach
+  public void setUp() {
+    user = new User("user@example.com", "user", "123", "", "");
+    author = new User("author@example.com", "author", "123", "", "");
+    userRepository.save(user);
+    userRepository.save(author);
+    article = new Article("title", "desc", "body", Collections.emptyList(), author.getId());
+    articleRepository.save(article);
+    tally = new Tally();
+  }
+
+  @Test
+  public void should_store_one_favorite_when_favorited_concurrently() throws Exception {
+    hammer(
+        () -> {
+          articleFavoriteRepository.save(new ArticleFavorite(article.getId(), user.getId()));
+          return true;
+        });
+
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "select count(*) from article_favorites where article_id = ? and user_id = ?",
+                Integer.class,
+                article.getId(),
+                user.getId()))
+        .isEqualTo(1);
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "select A.favorites_count + coalesce((select sum(D.delta)"
+                    + " from article_favorite_deltas D where D.article_id = A.id), 0)"
+                    + " from articles A where A.id = ?",
+                Integer.class,
+                article.getId()))
+        .isEqualTo(1);
+    assertThat(tally.getStatements()).isEqualTo(THREADS + 1);
+  }
+
+  @Test
+  public void should_store_one_follow_when_followed_concurrently() throws Exception {
+    hammer(
+        () -> {
+          userRepository.saveRelation(new FollowRelation(user.getId(), author.getId()));
+          return true;
+        });
+
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "select count(*) from follows where user_id = ? and follow_id = ?",
+                Integer.class,
+                user.getId(),
+                author.getId()))
+        .isEqualTo(1);
+    assertThat(tally.getStatements()).isEqualTo(THREADS);
+  }
+
+  @Test
+  public void should_remove_follow_once_when_unfollowed_concurrently() throws Exception {
+    userRepository.saveRelation(new FollowRelation(user.getId(), author.getId()));
+
+    FollowRelation relation = new FollowRelation(user.getId(), author.getId());
+    List<Boolean> removed = hammer(() -> userRepository.removeRelation(relation));
+
+    assertThat(removed).containsOnlyOnce(true);
+    assertThat(userRepository.findRelation(user.getId(), author.getId())).isEmpty();
+    assertThat(tally.getStatements()).isEqualTo(THREADS);
+  }
+
+  private List<Boolean> hammer(Callable<Boolean> write) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CyclicBarrier start = new CyclicBarrier(THREADS);
+    try {
+      List<Future<Boolean>> futures = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        futures.add(
+            executor.submit(
+                () ->
+                    StatementTally.counting(
+                        tally,
+                        () -> {
+                          start.await();
+                          return write.call();
+                        })));
+      }
+      List<Boolean> results = new ArrayList<>();
+      for (Future<Boolean> future : futures) {
+        results.add(future.get(30, TimeUnit.SECONDS));
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package io.spring.infrastructure;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Fails the test when its body runs more JDBC statements on the test thread than the given
+ * number. Setup in {@code @BeforeEach} methods is not counted. Only counts in a context that has
+ * the {@link io.spring.infrastructure.mybatis.StatementTally} plugin, i.e. not in sliced web
+ * tests whose services are mocks.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(MaxQueriesExtension.class)
+public @interface MaxQueries {
+  int value();
+}
@@ -0,0 +1,31 @@
+package io.spring.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.spring.infrastructure.mybatis.StatementTally;
+import io.spring.infrastructure.mybatis.StatementTally.Tally;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+
+/** Tallies the statements of a {@link MaxQueries} test body and checks them against its budget. */
+public class MaxQueriesExtension
+    implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+  private static final Namespace NAMESPACE = Namespace.create(MaxQueriesExtension.class);
+
+  @Override
+  public void beforeTestExecution(ExtensionContext context) {
+    context.getStore(NAMESPACE).put(context.getUniqueId(), StatementTally.begin());
+  }
+
+  @Override
+  public void afterTestExecution(ExtensionContext context) {
+    StatementTally.end();
+    Tally tally = context.getStore(NAMESPACE).remove(context.getUniqueId(), Tally.class);
+    int budget = context.getRequiredTestMethod().getAnnotation(MaxQueries.class).value();
+    assertThat(tally.getStatements())
+        .as("statements run by %s", context.getDisplayName())
+        .isLessThanOrEqualTo(budget);
+  }
+}
@@ -0,0 +1,65 @@
+package io.spring.infrastructure.article;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.spring.core.article.Article;
+import io.spring.core.article.Tag;
+import io.spring.infrastructure.mybatis.mapper.ArticleMapper;
+import io.spring.infrastructure.repository.MyBatisArticleRepository;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+public class MyBatisArticleRepositoryTagsTest {
+  @Mock private ArticleMapper articleMapper;
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  private MyBatisArticleRepository repository;
+
+  private Article article;
+
+  @BeforeEach
+  public void setUp() {
+    repository = new MyBatisArticleRepository(articleMapper, eventPublisher);
+    article = new Article("title", "desc", "body", Collections.singletonList("java"), "user");
+    when(articleMapper.upsert(article)).thenReturn(true);
+    // the snapshot never sees the row a concurrent insert committed
+    when(articleMapper.upsertTags(anyList())).thenReturn(Collections.emptyList());
+  }
+
+  @Test
+  public void should_look_up_tags_the_upsert_keeps_missing() {
+    List<Tag> found = Collections.singletonList(new Tag("java"));
+    when(articleMapper.findTags(Collections.singletonList("java"))).thenReturn(found);
+
+    repository.save(article);
+
+    verify(articleMapper, times(2)).upsertTags(anyList());
+    verify(articleMapper).insertArticleTags(eq(article.getId()), eq(found));
+  }
+
+  @Test
+  public void should_fail_instead_of_retrying_forever() {
+    when(articleMapper.findTags(anyList())).thenReturn(Collections.emptyList());
+
+    assertThatThrownBy(() -> repository.save(article))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("java");
+    verify(articleMapper, times(2)).upsertTags(anyList());
+    verify(articleMapper, never()).insertArticleTags(any(), anyList());
+  }
+}
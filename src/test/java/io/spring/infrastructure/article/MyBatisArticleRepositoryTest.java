@@ -1,6 +1,8 @@
 package io.spring.infrastructure.article;
 
 import io.spring.core.article.Article;
+import io.spring.core.article.ArticleChangedEvent;
+import io.spring.core.article.ArticleCreatedEvent;
 import io.spring.core.article.ArticleRepository;
 import io.spring.core.article.Tag;
 import io.spring.core.user.User;
@@ -10,16 +12,22 @@ import io.spring.infrastructure.repository.MyBatisArticleRepository;
 import io.spring.infrastructure.repository.MyBatisUserRepository;
 import java.util.Arrays;
 import java.util.Optional;
+import org.joda.time.DateTime;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 
 @Import({MyBatisArticleRepository.class, MyBatisUserRepository.class})
+@RecordApplicationEvents
 public class MyBatisArticleRepositoryTest extends DbTestBase {
   @Autowired private ArticleRepository articleRepository;
 
+  @Autowired private ApplicationEvents applicationEvents;
+
   @Autowired private UserRepository userRepository;
 
   private Article article;
@@ -56,6 +64,26 @@ public class MyBatisArticleRepositoryTest extends DbTestBase {
     Assertions.assertNotEquals(fetched.getBody(), "");
   }
 
+  @Test
+  public void should_store_updated_at_on_update() {
+    Article old =
+        new Article(
+            "test",
+            "desc",
+            "body",
+            Arrays.asList("java"),
+            article.getUserId(),
+            new DateTime().minusDays(1));
+    articleRepository.save(old);
+
+    old.update("", "", "new body");
+    articleRepository.save(old);
+
+    Article fetched = articleRepository.findById(old.getId()).get();
+    Assertions.assertEquals(old.getUpdatedAt().getMillis(), fetched.getUpdatedAt().getMillis());
+    Assertions.assertTrue(fetched.getUpdatedAt().isAfter(fetched.getCreatedAt()));
+  }
+
   @Test
   public void should_delete_article() {
     articleRepository.save(article);
@@ -63,4 +91,51 @@ public class MyBatisArticleRepositoryTest extends DbTestBase {
     articleRepository.remove(article);
     Assertions.assertFalse(articleRepository.findById(article.getId()).isPresent());
   }
+
+  @Test
+  public void should_publish_changed_event_on_every_write() {
+    articleRepository.save(article);
+    article.update("new title", "", "");
+    articleRepository.save(article);
+    articleRepository.remove(article);
+
+    Assertions.assertEquals(
+        3,
+        applicationEvents.stream(ArticleChangedEvent.class)
+            .filter(event -> event.getArticleId().equals(article.getId()))
+            .count());
+  }
+
+  @Test
+  public void should_tell_updates_from_new_articles_in_one_upsert() {
+    articleRepository.save(article);
+    article.update("", "", "new body");
+    articleRepository.save(article);
+
+    Assertions.assertEquals(1, applicationEvents.stream(ArticleCreatedEvent.class).count());
+    Article fetched = articleRepository.findById(article.getId()).get();
+    Assertions.assertEquals("new body", fetched.getBody());
+    Assertions.assertEquals(2, fetched.getTags().size());
+  }
+
+  @Test
+  public void should_reuse_stored_tags_for_new_articles() {
+    articleRepository.save(article);
+    Article another =
+        new Article(
+            "another", "desc", "body", Arrays.asList("java", "kotlin"), article.getUserId());
+    articleRepository.save(another);
+
+    Article fetched = articleRepository.findById(another.getId()).get();
+    Assertions.assertEquals(2, fetched.getTags().size());
+    Tag java =
+        fetched.getTags().stream().filter(tag -> tag.getName().equals("java")).findFirst().get();
+    Assertions.assertEquals(
+        java.getId(),
+        articleRepository.findById(article.getId()).get().getTags().stream()
+            .filter(tag -> tag.getName().equals("java"))
+            .findFirst()
+            .get()
+            .getId());
+  }
 }
@@ -0,0 +1,100 @@
+package io.spring.infrastructure.favorite;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spring.core.favorite.ArticleFavorite;
+import io.spring.core.favorite.ArticleFavoriteRepository;
+import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.repository.MyBatisArticleFavoriteRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Import({
+  MyBatisArticleFavoriteRepository.class,
+  FavoriteFilter.class,
+  SimpleMeterRegistry.class
+})
+public class FavoriteFilterTest extends DbTestBase {
+  @Autowired private FavoriteFilter favoriteFilter;
+
+  @Autowired private ArticleFavoriteRepository articleFavoriteRepository;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Autowired private MeterRegistry meterRegistry;
+
+  @Test
+  public void should_rebuild_from_existing_favorites() {
+    jdbcTemplate.update(
+        "insert into article_favorites (article_id, user_id) values ('article', 'user')");
+    favoriteFilter.rebuild();
+
+    Assertions.assertTrue(favoriteFilter.mightBeFavorite("user", "article"));
+    Assertions.assertEquals(
+        Collections.singletonList("article"),
+        favoriteFilter.mightBeFavorites("user", Arrays.asList("article", "other")));
+    Assertions.assertTrue(favoriteFilter.negativeCount() > 0);
+  }
+
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void should_add_favorites_once_they_commit() {
+    favoriteFilter.rebuild();
+    Assertions.assertFalse(favoriteFilter.mightBeFavorite("user", "article"));
+
+    articleFavoriteRepository.save(new ArticleFavorite("article", "user"));
+    Assertions.assertTrue(favoriteFilter.mightBeFavorite("user", "article"));
+  }
+
+  @Test
+  public void should_pick_up_favorites_written_elsewhere_on_refresh() {
+    favoriteFilter.rebuild();
+    jdbcTemplate.update(
+        "insert into article_favorites (article_id, user_id) values ('article', 'user')");
+    Assertions.assertFalse(favoriteFilter.mightBeFavorite("user", "article"));
+
+    favoriteFilter.refresh();
+    Assertions.assertTrue(favoriteFilter.mightBeFavorite("user", "article"));
+  }
+
+  @Test
+  public void should_publish_size_and_false_positive_rate() {
+    favoriteFilter.rebuild();
+    favoriteFilter.mightBeFavorite("user", "article");
+
+    Assertions.assertEquals(
+        favoriteFilter.bitSize(), meterRegistry.get("favorites.filter.size").gauge().value());
+    Assertions.assertEquals(
+        favoriteFilter.estimatedFalsePositiveRate(),
+        meterRegistry.get("favorites.filter.false.positive.rate").gauge().value());
+    Assertions.assertEquals(
+        favoriteFilter.lookupCount(),
+        meterRegistry.get("favorites.filter.lookups").functionCounter().count());
+  }
+
+  @Test
+  public void should_keep_false_positive_rate_near_target() {
+    favoriteFilter.rebuild();
+    for (int i = 0; i < 500; i++) {
+      articleFavoriteRepository.save(new ArticleFavorite("article" + i, "user"));
+    }
+    List<String> unknown = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      unknown.add("missing" + i);
+    }
+
+    int falsePositives = favoriteFilter.mightBeFavorites("user", unknown).size();
+    Assertions.assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    Assertions.assertTrue(favoriteFilter.estimatedFalsePositiveRate() < 0.03);
+    Assertions.assertTrue(favoriteFilter.bitSize() > 0);
+  }
+}
@@ -1,21 +1,43 @@
 package io.spring.infrastructure.favorite;
 
+import io.spring.core.article.Article;
+import io.spring.core.article.ArticleRepository;
 import io.spring.core.favorite.ArticleFavorite;
 import io.spring.core.favorite.ArticleFavoriteRepository;
 import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.mybatis.readservice.ArticleFavoritesReadService;
 import io.spring.infrastructure.repository.MyBatisArticleFavoriteRepository;
+import io.spring.infrastructure.repository.MyBatisArticleRepository;
+import java.util.Arrays;
+import java.util.Collections;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
 
-@Import({MyBatisArticleFavoriteRepository.class})
+@Import({
+  MyBatisArticleFavoriteRepository.class,
+  MyBatisArticleRepository.class,
+  FavoritesCountJobs.class
+})
+// keep the scheduled flush from racing the tests that drive the jobs by hand
+@TestPropertySource(properties = "favorites.count.flushDelayMs=3600000")
 public class MyBatisArticleFavoriteRepositoryTest extends DbTestBase {
   @Autowired private ArticleFavoriteRepository articleFavoriteRepository;
 
   @Autowired
   private io.spring.infrastructure.mybatis.mapper.ArticleFavoriteMapper articleFavoriteMapper;
 
+  @Autowired private ArticleRepository articleRepository;
+
+  @Autowired private ArticleFavoritesReadService articleFavoritesReadService;
+
+  @Autowired private FavoritesCountJobs favoritesCountJobs;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
   @Test
   public void should_save_and_fetch_articleFavorite_success() {
     ArticleFavorite articleFavorite = new ArticleFavorite("123", "456");
@@ -31,4 +53,63 @@ public class MyBatisArticleFavoriteRepositoryTest extends DbTestBase {
     articleFavoriteRepository.remove(articleFavorite);
     Assertions.assertFalse(articleFavoriteRepository.find("123", "456").isPresent());
   }
+
+  @Test
+  public void should_count_pending_favorites_before_flush() {
+    Article article = saveArticle();
+    articleFavoriteRepository.save(new ArticleFavorite(article.getId(), "u1"));
+    articleFavoriteRepository.save(new ArticleFavorite(article.getId(), "u1"));
+    articleFavoriteRepository.save(new ArticleFavorite(article.getId(), "u2"));
+    articleFavoriteRepository.remove(new ArticleFavorite(article.getId(), "u3"));
+
+    Assertions.assertEquals(0, storedCount(article));
+    Assertions.assertEquals(2, articleFavoritesReadService.articleFavoriteCount(article.getId()));
+    Assertions.assertEquals(
+        2,
+        articleFavoritesReadService
+            .articlesFavoriteCount(Collections.singletonList(article.getId()))
+            .get(0)
+            .getCount());
+  }
+
+  @Test
+  public void should_fold_deltas_into_favorites_count() {
+    Article article = saveArticle();
+    articleFavoriteRepository.save(new ArticleFavorite(article.getId(), "u1"));
+    articleFavoriteRepository.save(new ArticleFavorite(article.getId(), "u2"));
+    articleFavoriteRepository.remove(new ArticleFavorite(article.getId(), "u1"));
+
+    favoritesCountJobs.flush();
+
+    Assertions.assertEquals(1, storedCount(article));
+    Assertions.assertEquals(
+        0,
+        jdbcTemplate.queryForObject("select count(1) from article_favorite_deltas", Integer.class));
+    Assertions.assertEquals(1, articleFavoritesReadService.articleFavoriteCount(article.getId()));
+  }
+
+  @Test
+  public void should_reconcile_drifted_favorites_count() {
+    Article article = saveArticle();
+    articleFavoriteRepository.save(new ArticleFavorite(article.getId(), "u1"));
+    favoritesCountJobs.flush();
+    articleFavoriteRepository.save(new ArticleFavorite(article.getId(), "u2"));
+    jdbcTemplate.update("update articles set favorites_count = 40 where id = ?", article.getId());
+
+    favoritesCountJobs.reconcile();
+
+    Assertions.assertEquals(1, storedCount(article));
+    Assertions.assertEquals(2, articleFavoritesReadService.articleFavoriteCount(article.getId()));
+  }
+
+  private Article saveArticle() {
+    Article article = new Article("test", "desc", "body", Arrays.asList("java"), "author");
+    articleRepository.save(article);
+    return article;
+  }
+
+  private int storedCount(Article article) {
+    return jdbcTemplate.queryForObject(
+        "select favorites_count from articles where id = ?", Integer.class, article.getId());
+  }
 }
@@ -0,0 +1,124 @@
+package io.spring.infrastructure.follow;
+
+import io.spring.core.user.FollowChangedEvent;
+import io.spring.core.user.FollowRelation;
+import io.spring.core.user.User;
+import io.spring.core.user.UserRepository;
+import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.repository.MyBatisUserRepository;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Import({FollowGraph.class, MyBatisUserRepository.class})
+public class FollowGraphTest extends DbTestBase {
+  @Autowired private FollowGraph followGraph;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private User user;
+  private User first;
+  private User second;
+
+  @BeforeEach
+  public void setUp() {
+    user = new User("user@example.com", "user", "123", "", "");
+    first = new User("first@example.com", "first", "123", "", "");
+    second = new User("second@example.com", "second", "123", "", "");
+    userRepository.save(user);
+    userRepository.save(first);
+    userRepository.save(second);
+  }
+
+  @Test
+  public void should_load_relations_from_database() {
+    userRepository.saveRelation(new FollowRelation(user.getId(), first.getId()));
+    userRepository.saveRelation(new FollowRelation(user.getId(), second.getId()));
+    userRepository.saveRelation(new FollowRelation(first.getId(), user.getId()));
+    followGraph.reload();
+
+    Assertions.assertTrue(followGraph.isUserFollowing(user.getId(), first.getId()));
+    Assertions.assertTrue(followGraph.isUserFollowing(first.getId(), user.getId()));
+    Assertions.assertFalse(followGraph.isUserFollowing(second.getId(), user.getId()));
+    Assertions.assertEquals(
+        new HashSet<>(Arrays.asList(first.getId(), second.getId())),
+        new HashSet<>(followGraph.followedUsers(user.getId())));
+    Assertions.assertEquals(
+        Collections.singleton(user.getId()),
+        followGraph.followingAuthors(first.getId(), Arrays.asList(user.getId(), second.getId())));
+    Assertions.assertEquals(3, followGraph.edgeCount());
+  }
+
+  @Test
+  public void should_apply_follow_changes_without_reload() {
+    followGraph.reload();
+    followGraph.onFollowChanged(new FollowChangedEvent(user.getId(), second.getId(), true));
+    followGraph.onFollowChanged(new FollowChangedEvent(user.getId(), first.getId(), true));
+    followGraph.onFollowChanged(new FollowChangedEvent(user.getId(), first.getId(), true));
+
+    Assertions.assertEquals(2, followGraph.edgeCount());
+    Assertions.assertEquals(
+        Collections.singleton(first.getId()),
+        followGraph.followingAuthors(user.getId(), Arrays.asList(first.getId(), "unknown")));
+
+    followGraph.onFollowChanged(new FollowChangedEvent(user.getId(), second.getId(), false));
+    Assertions.assertFalse(followGraph.isUserFollowing(user.getId(), second.getId()));
+    Assertions.assertEquals(
+        Collections.singletonList(first.getId()), followGraph.followedUsers(user.getId()));
+    Assertions.assertTrue(followGraph.followedUsers(second.getId()).isEmpty());
+  }
+
+  @Test
+  public void should_pick_up_changes_made_elsewhere_on_refresh() {
+    userRepository.saveRelation(new FollowRelation(user.getId(), second.getId()));
+    followGraph.reload();
+    // another instance follows first and unfollows second; this graph hears no event
+    jdbcTemplate.update(
+        "insert into follows (user_id, follow_id) values (?, ?)", user.getId(), first.getId());
+    jdbcTemplate.update(
+        "delete from follows where user_id = ? and follow_id = ?", user.getId(), second.getId());
+    jdbcTemplate.update(
+        "insert into follow_changes (user_id, follow_id, following) values (?, ?, true), (?, ?,"
+            + " false)",
+        user.getId(),
+        first.getId(),
+        user.getId(),
+        second.getId());
+    Assertions.assertFalse(followGraph.isUserFollowing(user.getId(), first.getId()));
+
+    followGraph.refresh();
+
+    Assertions.assertEquals(
+        Collections.singletonList(first.getId()), followGraph.followedUsers(user.getId()));
+  }
+
+  @Test
+  public void should_replay_a_follow_and_unfollow_in_order() {
+    followGraph.reload();
+    userRepository.saveRelation(new FollowRelation(user.getId(), first.getId()));
+    userRepository.removeRelation(new FollowRelation(user.getId(), first.getId()));
+
+    followGraph.refresh();
+
+    Assertions.assertFalse(followGraph.isUserFollowing(user.getId(), first.getId()));
+  }
+
+  @Test
+  public void should_report_memory_footprint() {
+    followGraph.reload();
+    Assertions.assertEquals(0, followGraph.bytesPerMillionEdges());
+
+    followGraph.onFollowChanged(new FollowChangedEvent(user.getId(), first.getId(), true));
+    Assertions.assertTrue(followGraph.estimatedBytes() > 0);
+    Assertions.assertEquals(
+        followGraph.estimatedBytes() * 1_000_000, followGraph.bytesPerMillionEdges());
+  }
+}
@@ -0,0 +1,111 @@
+package io.spring.infrastructure.mybatis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.spring.application.ArticleCursor;
+import io.spring.application.ArticleFetchPlan;
+import io.spring.application.CursorPageParameter;
+import io.spring.application.CursorPager.Direction;
+import io.spring.application.Page;
+import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.mybatis.readservice.ArticleReadService;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.joda.time.DateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class ArticleReadServiceSqlTest extends DbTestBase {
+  @Autowired private SqlSessionFactory sqlSessionFactory;
+
+  @Test
+  public void should_only_join_for_present_filters() {
+    for (String statement : new String[] {"queryArticles", "countArticle"}) {
+      for (int mask = 0; mask < 8; mask++) {
+        boolean tag = (mask & 1) != 0;
+        boolean author = (mask & 2) != 0;
+        boolean favoritedBy = (mask & 4) != 0;
+        String sql = sql(statement, params(tag, author, favoritedBy, new Page()));
+
+        assertThat(sql).as(sql).doesNotContain("distinct").doesNotContain("left join");
+        assertThat(sql.contains("article_tags")).as(sql).isEqualTo(tag);
+        assertThat(sql.contains("username = ?")).as(sql).isEqualTo(author || favoritedBy);
+        assertThat(sql.contains("article_favorites")).as(sql).isEqualTo(favoritedBy);
+        if (!tag && !author && !favoritedBy) {
+          assertThat(sql).as(sql).doesNotContain("where").doesNotContain("exists");
+        }
+      }
+    }
+  }
+
+  @Test
+  public void should_bind_known_tag_id_without_joining_tags() {
+    Map<String, Object> params = params(true, false, false, new Page());
+    params.put("tagId", "tag-id");
+    assertThat(sql("queryArticles", params))
+        .contains("where at.article_id = a.id and at.tag_id = ?")
+        .doesNotContain("join tags")
+        .doesNotContain("t.name");
+  }
+
+  @Test
+  public void should_read_unfiltered_page_straight_from_articles() {
+    assertThat(sql("queryArticles", params(false, false, false, new Page(20, 10))))
+        .isEqualTo(
+            "select a.id articleid from articles a"
+                + " order by a.created_at desc, a.id desc limit ? offset ?");
+  }
+
+  @Test
+  public void should_keep_cursor_condition_next_to_filters() {
+    String sql =
+        sql(
+            "findArticlesWithCursor",
+            params(true, false, false, new CursorPageParameter<>(null, 20, Direction.NEXT)));
+    assertThat(sql).contains("where exists").endsWith("order by a.created_at desc, a.id desc limit ?");
+
+    Map<String, Object> params =
+        params(false, false, false, new CursorPageParameter<>(new ArticleCursor(new DateTime(), "a1"), 20, Direction.PREV));
+    assertThat(sql("findArticlesWithCursor", params))
+        .isEqualTo(
+            "select a.id articleid from articles a where (a.created_at, a.id) > (?, ?)"
+                + " order by a.created_at asc, a.id asc limit ?");
+  }
+
+  @Test
+  public void should_read_one_row_per_article() {
+    Map<String, Object> params = new HashMap<>();
+    params.put("id", "id");
+    params.put("articleIds", Arrays.asList("a1", "a2"));
+    params.put("plan", ArticleFetchPlan.FULL);
+    for (String statement : new String[] {"findById", "findArticles"}) {
+      assertThat(sql(statement, params))
+          .contains("array( select t.name from article_tags")
+          .doesNotContain("left join article_tags");
+    }
+  }
+
+  private String sql(String statement, Map<String, Object> params) {
+    return sqlSessionFactory
+        .getConfiguration()
+        .getMappedStatement(ArticleReadService.class.getName() + "." + statement)
+        .getBoundSql(params)
+        .getSql()
+        .replaceAll("\\s+", " ")
+        .trim()
+        .toLowerCase();
+  }
+
+  private static Map<String, Object> params(
+      boolean tag, boolean author, boolean favoritedBy, Object page) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("tag", tag ? "java" : null);
+    params.put("tagId", null);
+    params.put("author", author ? "jake" : null);
+    params.put("favoritedBy", favoritedBy ? "jane" : null);
+    params.put("page", page);
+    return params;
+  }
+}
@@ -0,0 +1,265 @@
+package io.spring.infrastructure.mybatis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.application.ArticleCursor;
+import io.spring.application.ArticleFetchPlan;
+import io.spring.application.CursorPageParameter;
+import io.spring.application.CursorPager.Direction;
+import io.spring.application.Page;
+import io.spring.core.article.Article;
+import io.spring.core.comment.Comment;
+import io.spring.core.favorite.ArticleFavorite;
+import io.spring.core.user.FollowRelation;
+import io.spring.core.user.User;
+import io.spring.infrastructure.DbTestBase;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.sql.DataSource;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.joda.time.DateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+/**
+ * Seeds a dataset big enough for the planner to prefer indexes, then runs {@code EXPLAIN} for
+ * every mapper statement and fails on any sequential scan of a large table. A new statement has
+ * to be given parameters here before this suite passes again.
+ */
+@Tag("query-plan")
+public class MapperQueryPlanTest extends DbTestBase {
+  private static final Set<String> LARGE_TABLES =
+      new TreeSet<>(
+          Arrays.asList(
+              "users",
+              "articles",
+              "article_tags",
+              "article_favorites",
+              "follows",
+              "comments",
+              "timeline_entries"));
+
+  // statements that read a whole table on purpose
+  private static final Set<String> FULL_SCANS =
+      new TreeSet<>(
+          Arrays.asList(
+              "ArticleFavoriteMapper.countFavorites",
+              "ArticleFavoriteMapper.reconcileCounts",
+              "ArticleFavoriteMapper.scanFavorites",
+              "TagReadService.all",
+              "UserMapper.scanRelations"));
+
+  @Autowired private SqlSessionFactory sqlSessionFactory;
+
+  @Autowired private DataSource dataSource;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @BeforeEach
+  public void seed() {
+    jdbcTemplate.execute(
+        "insert into users (id, username, password, email, bio, image)"
+            + " select 'u' || i, 'user' || i, 'pwd', 'user' || i || '@test.com', '', ''"
+            + " from generate_series(1, 50000) i");
+    jdbcTemplate.execute(
+        "insert into tags (id, name) select 't' || i, 'tag' || i from generate_series(1, 500) i");
+    jdbcTemplate.execute(
+        "insert into articles (id, user_id, slug, title, description, body, created_at,"
+            + " updated_at)"
+            + " select 'a' || i, 'u' || (i % 5000 + 1), 'slug-' || i, 'title ' || i, 'desc',"
+            + " 'body', now() - i * interval '1 minute', now() - i * interval '1 minute'"
+            + " from generate_series(1, 50000) i");
+    jdbcTemplate.execute(
+        "insert into article_tags (article_id, tag_id)"
+            + " select 'a' || i, 't' || ((i * 7 + j * 13) % 500 + 1)"
+            + " from generate_series(1, 50000) i, generate_series(1, 3) j");
+    // t1 is on every tenth article, the popular tag an ordered index walk is meant for
+    jdbcTemplate.execute(
+        "insert into article_tags (article_id, tag_id)"
+            + " select 'a' || i, 't1' from generate_series(10, 50000, 10) i on conflict do nothing");
+    jdbcTemplate.execute(
+        "insert into article_favorites (article_id, user_id, created_at)"
+            + " select 'a' || (i % 50000 + 1), 'u' || (i % 4999 + 1),"
+            + " now() - i * interval '1 second'"
+            + " from generate_series(1, 100000) i");
+    jdbcTemplate.execute(
+        "insert into follows (user_id, follow_id)"
+            + " select 'u' || (i % 5000 + 1), 'u' || ((i * 31) % 4999 + 1)"
+            + " from generate_series(1, 50000) i on conflict do nothing");
+    jdbcTemplate.execute(
+        "insert into comments (id, body, article_id, user_id, created_at, updated_at)"
+            + " select 'c' || i, 'comment', 'a' || (i % 50000 + 1), 'u' || (i % 5000 + 1),"
+            + " now() - i * interval '1 second', now() - i * interval '1 second'"
+            + " from generate_series(1, 100000) i");
+    jdbcTemplate.execute(
+        "insert into timeline_entries (user_id, article_id, author_id, created_at)"
+            + " select 'u' || (i % 5000 + 1), 'a' || (i % 50000 + 1), 'u' || (i % 4999 + 1),"
+            + " now() - i * interval '1 second'"
+            + " from generate_series(1, 200000) i on conflict do nothing");
+    jdbcTemplate.execute(
+        "insert into timeline_pull_authors (author_id)"
+            + " select 'u' || i from generate_series(1, 20) i");
+    jdbcTemplate.execute("analyze");
+  }
+
+  @Test
+  public void should_not_scan_large_tables_sequentially() throws Exception {
+    Configuration configuration = sqlSessionFactory.getConfiguration();
+    Map<String, MappedStatement> statements = new HashMap<>();
+    for (Object statement : configuration.getMappedStatements()) {
+      if (statement instanceof MappedStatement) {
+        MappedStatement mappedStatement = (MappedStatement) statement;
+        if (mappedStatement.getId().startsWith("io.spring.")
+            && !mappedStatement.getId().endsWith("!selectKey")) {
+          statements.put(shortName(mappedStatement.getId()), mappedStatement);
+        }
+      }
+    }
+    assertThat(statements).isNotEmpty();
+
+    List<String> violations = new ArrayList<>();
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    for (Map.Entry<String, MappedStatement> entry : new TreeMap<>(statements).entrySet()) {
+      for (Map<String, Object> params : paramsFor(entry.getKey())) {
+        JsonNode plan = explain(connection, entry.getValue(), params);
+        Set<String> scanned = new TreeSet<>();
+        collectSeqScans(plan, scanned);
+        scanned.retainAll(LARGE_TABLES);
+        if (!scanned.isEmpty() && !FULL_SCANS.contains(entry.getKey())) {
+          violations.add(entry.getKey() + " scans " + scanned + "\n" + plan.toPrettyString());
+        }
+      }
+    }
+    assertThat(violations).isEmpty();
+  }
+
+  private JsonNode explain(
+      Connection connection, MappedStatement statement, Map<String, Object> params)
+      throws Exception {
+    BoundSql boundSql = statement.getBoundSql(params);
+    try (PreparedStatement ps =
+        connection.prepareStatement("explain (format json) " + boundSql.getSql())) {
+      new DefaultParameterHandler(statement, params, boundSql).setParameters(ps);
+      try (ResultSet rs = ps.executeQuery()) {
+        rs.next();
+        return objectMapper.readTree(rs.getString(1)).get(0).get("Plan");
+      }
+    }
+  }
+
+  private static void collectSeqScans(JsonNode node, Set<String> relations) {
+    if ("Seq Scan".equals(node.path("Node Type").asText())) {
+      relations.add(node.path("Relation Name").asText());
+    }
+    for (JsonNode child : node.path("Plans")) {
+      collectSeqScans(child, relations);
+    }
+  }
+
+  private static String shortName(String id) {
+    String[] parts = id.split("\\.");
+    return parts[parts.length - 2] + "." + parts[parts.length - 1];
+  }
+
+  private static List<Map<String, Object>> paramsFor(String statement) {
+    Map<String, Object> params = commonParams();
+    switch (statement) {
+      case "ArticleReadService.findArticlesWithCursor":
+      case "ArticleReadService.findTimelineWithCursor":
+        params.put(
+            "page",
+            new CursorPageParameter<>(
+                new ArticleCursor(new DateTime().minusDays(1), "a1"), 20, Direction.NEXT));
+        break;
+      case "CommentReadService.findByArticleIdWithCursor":
+        params.put(
+            "page", new CursorPageParameter<>(new DateTime().minusDays(1), 20, Direction.NEXT));
+        break;
+      default:
+        break;
+    }
+    List<Map<String, Object>> variants = new ArrayList<>();
+    variants.add(params);
+    if (statement.equals("ArticleReadService.queryArticles")
+        || statement.equals("ArticleReadService.findArticlesWithCursor")) {
+      Map<String, Object> unfiltered = new HashMap<>(params);
+      unfiltered.put("tag", null);
+      unfiltered.put("tagId", null);
+      unfiltered.put("author", null);
+      unfiltered.put("favoritedBy", null);
+      variants.add(unfiltered);
+      for (String filter : new String[] {"tag", "tagId", "author", "favoritedBy"}) {
+        Map<String, Object> single = new HashMap<>(unfiltered);
+        single.put(filter, params.get(filter));
+        variants.add(single);
+      }
+    }
+    return variants;
+  }
+
+  private static Map<String, Object> commonParams() {
+    User user = new User("user1@test.com", "user1", "pwd", "", "");
+    Article article = new Article("title 1", "desc", "body", Collections.emptyList(), "u1");
+    Map<String, Object> params = new HashMap<>();
+    params.put("id", "a1");
+    params.put("slug", "slug-1");
+    params.put("username", "user1");
+    params.put("email", "user1@test.com");
+    params.put("userId", "u1");
+    params.put("anotherUserId", "u2");
+    params.put("targetId", "u2");
+    params.put("articleId", "a1");
+    params.put("authorId", "u2");
+    params.put("createdAt", new DateTime());
+    params.put("tagId", "t1");
+    params.put("tagName", "tag1");
+    params.put("tag", "tag1");
+    params.put("author", "user1");
+    params.put("favoritedBy", "user2");
+    params.put("batchSize", 1000);
+    params.put("delta", 1);
+    params.put("windowMs", 65_000L);
+    params.put("ids", Arrays.asList("a1", "a2", "a3"));
+    params.put(
+        "tags",
+        Arrays.asList(new io.spring.core.article.Tag("tag1"), new io.spring.core.article.Tag("new")));
+    params.put("articleIds", Arrays.asList("a1", "a2", "a3"));
+    params.put("authors", Arrays.asList("u1", "u2", "u3"));
+    params.put("usernames", Arrays.asList("user1", "user2"));
+    params.put("names", Arrays.asList("tag1", "tag2"));
+    params.put("userIds", Arrays.asList("u1", "u2"));
+    params.put("lastUserId", "u1");
+    params.put("page", new Page(0, 20));
+    params.put("plan", ArticleFetchPlan.FULL);
+    params.put("user", user);
+    params.put("currentUser", user);
+    params.put("article", article);
+    params.put("comment", new Comment("comment", "u1", "a1"));
+    params.put("favorite", new ArticleFavorite("a1", "u1"));
+    params.put("articleFavorite", new ArticleFavorite("a1", "u1"));
+    params.put("followRelation", new FollowRelation("u1", "u2"));
+    return params;
+  }
+}
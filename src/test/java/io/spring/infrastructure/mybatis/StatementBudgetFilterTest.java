@@ -0,0 +1,74 @@
+package io.spring.infrastructure.mybatis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.spring.infrastructure.mybatis.StatementTally.Tally;
+import javax.servlet.FilterChain;
+import org.apache.ibatis.plugin.Invocation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(OutputCaptureExtension.class)
+public class StatementBudgetFilterTest {
+  private final StatementBudgetFilter filter = new StatementBudgetFilter(2);
+
+  @Test
+  public void should_tally_the_statements_of_a_request() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles");
+
+    filter.doFilter(request, new MockHttpServletResponse(), running(2));
+
+    Tally tally = (Tally) request.getAttribute(StatementBudgetFilter.TALLY_ATTRIBUTE);
+    assertThat(tally.getStatements()).isEqualTo(2);
+  }
+
+  @Test
+  public void should_warn_when_a_request_is_over_budget(CapturedOutput output) throws Exception {
+    filter.doFilter(
+        new MockHttpServletRequest("GET", "/articles"), new MockHttpServletResponse(), running(3));
+
+    assertThat(output).contains("GET /articles ran 3 statements").contains("budget of 2");
+  }
+
+  @Test
+  public void should_not_warn_within_budget(CapturedOutput output) throws Exception {
+    filter.doFilter(
+        new MockHttpServletRequest("GET", "/articles"), new MockHttpServletResponse(), running(2));
+
+    assertThat(output).doesNotContain("budget of 2");
+  }
+
+  @Test
+  public void should_count_into_the_tally_the_request_runs_in() throws Exception {
+    Tally outer = StatementTally.begin();
+    try {
+      filter.doFilter(
+          new MockHttpServletRequest("GET", "/articles"),
+          new MockHttpServletResponse(),
+          running(2));
+      running(1).doFilter(null, null);
+    } finally {
+      StatementTally.end();
+    }
+
+    assertThat(outer.getStatements()).isEqualTo(3);
+  }
+
+  private static FilterChain running(int statements) {
+    return (request, response) -> {
+      StatementTally interceptor = new StatementTally();
+      for (int i = 0; i < statements; i++) {
+        try {
+          interceptor.intercept(mock(Invocation.class));
+        } catch (Throwable e) {
+          throw new IllegalStateException(e);
+        }
+      }
+    };
+  }
+}
@@ -0,0 +1,106 @@
+package io.spring.infrastructure.mybatis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spring.core.user.FollowRelation;
+import io.spring.core.user.User;
+import io.spring.core.user.UserRepository;
+import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.mybatis.mapper.UserMapper;
+import io.spring.infrastructure.repository.MyBatisUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+
+@Import({StatementMetrics.class, SimpleMeterRegistry.class, MyBatisUserRepository.class})
+public class StatementMetricsTest extends DbTestBase {
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private UserMapper userMapper;
+
+  @Autowired private MeterRegistry meterRegistry;
+
+  private User user;
+  private User author;
+
+  @BeforeEach
+  public void setUp() {
+    user = new User("user@example.com", "user", "123", "", "");
+    author = new User("author@example.com", "author", "123", "", "");
+    userRepository.save(user);
+    userRepository.save(author);
+  }
+
+  @Test
+  public void should_time_each_statement_and_count_its_rows() {
+    long runs = runs("UserMapper.findByUsername");
+    double rows = rows("UserMapper.findByUsername");
+
+    userRepository.findByUsername("user");
+    userRepository.findByUsername("nobody");
+
+    assertThat(runs("UserMapper.findByUsername") - runs).isEqualTo(2);
+    assertThat(rows("UserMapper.findByUsername") - rows).isEqualTo(1);
+  }
+
+  @Test
+  public void should_count_rows_affected_by_writes() {
+    double rows = rows("UserMapper.saveRelation");
+
+    userRepository.saveRelation(new FollowRelation(user.getId(), author.getId()));
+    userRepository.saveRelation(new FollowRelation(user.getId(), author.getId()));
+
+    assertThat(rows("UserMapper.saveRelation") - rows).isEqualTo(1);
+  }
+
+  @Test
+  public void should_not_count_rows_passed_to_a_result_handler() {
+    userRepository.saveRelation(new FollowRelation(user.getId(), author.getId()));
+    long runs = runs("UserMapper.scanRelations");
+    double rows = rows("UserMapper.scanRelations");
+
+    userMapper.scanRelations(context -> {});
+
+    assertThat(runs("UserMapper.scanRelations") - runs).isEqualTo(1);
+    assertThat(rows("UserMapper.scanRelations") - rows).isZero();
+  }
+
+  @Test
+  public void should_count_failed_statements() {
+    long runs = runs("UserMapper.insert");
+    double errors = errors("UserMapper.insert");
+
+    assertThatThrownBy(
+            () -> userRepository.save(new User("other@example.com", "user", "123", "", "")))
+        .isInstanceOf(DuplicateKeyException.class);
+
+    assertThat(runs("UserMapper.insert") - runs).isEqualTo(1);
+    assertThat(errors("UserMapper.insert") - errors).isEqualTo(1);
+  }
+
+  // the registry outlives each test, so tests compare against what was recorded before them
+  private long runs(String statement) {
+    Timer timer = meterRegistry.find("mybatis.statement").tag("statement", statement).timer();
+    return timer == null ? 0 : timer.count();
+  }
+
+  private double rows(String statement) {
+    DistributionSummary summary =
+        meterRegistry.find("mybatis.statement.rows").tag("statement", statement).summary();
+    return summary == null ? 0 : summary.totalAmount();
+  }
+
+  private double errors(String statement) {
+    Counter counter =
+        meterRegistry.find("mybatis.statement.errors").tag("statement", statement).counter();
+    return counter == null ? 0 : counter.count();
+  }
+}
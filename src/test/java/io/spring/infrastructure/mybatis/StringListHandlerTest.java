@@ -0,0 +1,87 @@
+package io.spring.infrastructure.mybatis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.spring.core.user.FollowRelation;
+import io.spring.core.user.User;
+import io.spring.core.user.UserRepository;
+import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.mybatis.readservice.UserRelationshipQueryService;
+import io.spring.infrastructure.repository.MyBatisUserRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * List parameters bind as one text array, so a statement reads the same for every list size and
+ * pgjdbc keeps reusing the single server-side prepared statement it made for it.
+ */
+@Import(MyBatisUserRepository.class)
+public class StringListHandlerTest extends DbTestBase {
+  @Autowired private UserRelationshipQueryService userRelationshipQueryService;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private User user;
+  private List<String> followed;
+
+  @BeforeEach
+  public void setUp() {
+    user = new User("user@example.com", "user", "123", "", "");
+    userRepository.save(user);
+    followed = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      User author = new User("author" + i + "@example.com", "author" + i, "123", "", "");
+      userRepository.save(author);
+      userRepository.saveRelation(new FollowRelation(user.getId(), author.getId()));
+      followed.add(author.getId());
+    }
+  }
+
+  @Test
+  public void should_match_any_element_of_the_list() {
+    List<String> ids = new ArrayList<>(followed.subList(0, 2));
+    ids.add("unknown");
+
+    assertThat(userRelationshipQueryService.followingAuthors(user.getId(), ids))
+        .containsExactlyInAnyOrderElementsOf(followed.subList(0, 2));
+    assertThat(userRelationshipQueryService.followingAuthors(user.getId(), Collections.emptyList()))
+        .isEmpty();
+  }
+
+  @Test
+  public void should_reuse_one_server_statement_for_every_list_size() {
+    for (int size = 1; size <= 10; size++) {
+      userRelationshipQueryService.followingAuthors(user.getId(), ids(size));
+    }
+    assertThat(serverStatements()).isEqualTo(1);
+
+    for (int size = 11; size <= 40; size++) {
+      userRelationshipQueryService.followingAuthors(user.getId(), ids(size));
+    }
+    assertThat(serverStatements()).isEqualTo(1);
+  }
+
+  private List<String> ids(int size) {
+    List<String> ids = new ArrayList<>(followed);
+    while (ids.size() < size) {
+      ids.add("missing-" + ids.size());
+    }
+    return ids.subList(0, size);
+  }
+
+  // the pattern is split so this query never matches itself
+  private int serverStatements() {
+    return jdbcTemplate.queryForObject(
+        "select count(*) from pg_prepared_statements"
+            + " where statement like '%F.follow_id = any(' || '$1)%'",
+        Integer.class);
+  }
+}
@@ -0,0 +1,68 @@
+package io.spring.infrastructure.tag;
+
+import io.spring.application.data.ArticleData;
+import io.spring.core.article.Article;
+import io.spring.core.article.ArticleRepository;
+import io.spring.core.article.TagCreatedEvent;
+import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.mybatis.readservice.ArticleReadService;
+import io.spring.infrastructure.repository.MyBatisArticleRepository;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+@RecordApplicationEvents
+@Import({TagDictionary.class, MyBatisArticleRepository.class})
+public class TagDictionaryTest extends DbTestBase {
+  @Autowired private TagDictionary tagDictionary;
+
+  @Autowired private ArticleRepository articleRepository;
+
+  @Autowired private ArticleReadService articleReadService;
+
+  @Autowired private ApplicationEvents applicationEvents;
+
+  @Test
+  public void should_load_tags_and_share_names_with_article_data() {
+    Article article =
+        new Article("test", "desc", "body", Arrays.asList("java", "spring"), "user");
+    articleRepository.save(article);
+    tagDictionary.reload();
+
+    Assertions.assertEquals(2, tagDictionary.names().size());
+    Assertions.assertNotNull(tagDictionary.idOf("java"));
+    Assertions.assertNull(tagDictionary.idOf("missing"));
+    Assertions.assertNull(tagDictionary.idOf(null));
+
+    ArticleData articleData = articleReadService.findById(article.getId());
+    tagDictionary.shareNames(articleData.getTagList());
+    String java = tagDictionary.names().get(tagDictionary.names().indexOf("java"));
+    Assertions.assertTrue(
+        articleData.getTagList().stream().anyMatch(tag -> tag == java),
+        "tag names should be the dictionary instances");
+  }
+
+  @Test
+  public void should_publish_only_new_tags() {
+    articleRepository.save(new Article("one", "desc", "body", Arrays.asList("java"), "user"));
+    articleRepository.save(
+        new Article("two", "desc", "body", Arrays.asList("java", "spring"), "user"));
+
+    Assertions.assertEquals(2, applicationEvents.stream(TagCreatedEvent.class).count());
+  }
+
+  @Test
+  public void should_add_created_tags() {
+    tagDictionary.reload();
+    tagDictionary.onTagCreated(new TagCreatedEvent("tag-id", "kotlin"));
+    tagDictionary.onTagCreated(new TagCreatedEvent("other-id", "kotlin"));
+
+    Assertions.assertEquals("tag-id", tagDictionary.idOf("kotlin"));
+    Assertions.assertEquals(Collections.singletonList("kotlin"), tagDictionary.names());
+  }
+}
@@ -0,0 +1,143 @@
+package io.spring.infrastructure.timeline;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.spring.core.article.ArticleCreatedEvent;
+import io.spring.core.article.ArticleRemovedEvent;
+import io.spring.core.user.FollowChangedEvent;
+import io.spring.infrastructure.mybatis.mapper.TimelineMapper;
+import java.util.Arrays;
+import java.util.Collections;
+import org.joda.time.DateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class TimelineFanoutTest {
+
+  @Mock private TimelineMapper timelineMapper;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private TimelineFanout timelineFanout;
+
+  @BeforeEach
+  public void setUp() {
+    timelineFanout = new TimelineFanout(timelineMapper, transactionManager, 100, 600, 2);
+  }
+
+  @Test
+  public void should_fan_out_article_to_followers() {
+    DateTime createdAt = new DateTime();
+    when(timelineMapper.countFollowers("author")).thenReturn(100);
+
+    timelineFanout.onArticleCreated(new ArticleCreatedEvent("article", "author", createdAt));
+
+    verify(timelineMapper).fanOut("article", "author", createdAt);
+    verify(timelineMapper, never()).insertPullAuthor(anyString());
+  }
+
+  @Test
+  public void should_mark_author_over_threshold_as_pull_author() {
+    when(timelineMapper.countFollowers("author")).thenReturn(101);
+
+    timelineFanout.onArticleCreated(new ArticleCreatedEvent("article", "author", new DateTime()));
+
+    verify(timelineMapper).insertPullAuthor("author");
+    verify(timelineMapper, never()).fanOut(anyString(), anyString(), any());
+  }
+
+  @Test
+  public void should_count_followers_once_and_track_follows_after_that() {
+    when(timelineMapper.countFollowers("author")).thenReturn(100);
+    timelineFanout.onArticleCreated(new ArticleCreatedEvent("first", "author", new DateTime()));
+
+    timelineFanout.onFollowChanged(new FollowChangedEvent("user", "author", true));
+    timelineFanout.onArticleCreated(new ArticleCreatedEvent("second", "author", new DateTime()));
+
+    verify(timelineMapper, times(1)).countFollowers("author");
+    verify(timelineMapper).fanOut(eq("first"), eq("author"), any());
+    verify(timelineMapper).insertPullAuthor("author");
+    verify(timelineMapper, never()).fanOut(eq("second"), anyString(), any());
+  }
+
+  @Test
+  public void should_skip_fan_out_for_known_pull_author() {
+    when(timelineMapper.isPullAuthor("author")).thenReturn(true);
+
+    timelineFanout.onArticleCreated(new ArticleCreatedEvent("article", "author", new DateTime()));
+
+    verify(timelineMapper, never()).countFollowers(anyString());
+    verify(timelineMapper, never()).fanOut(anyString(), anyString(), any());
+  }
+
+  @Test
+  public void should_backfill_on_follow_and_drop_entries_on_unfollow() {
+    timelineFanout.onFollowChanged(new FollowChangedEvent("user", "author", true));
+    timelineFanout.onFollowChanged(new FollowChangedEvent("user", "author", false));
+
+    verify(timelineMapper).backfill("user", "author");
+    verify(timelineMapper).deleteAuthorEntries("user", "author");
+  }
+
+  @Test
+  public void should_not_backfill_pull_author() {
+    when(timelineMapper.isPullAuthor("author")).thenReturn(true);
+
+    timelineFanout.onFollowChanged(new FollowChangedEvent("user", "author", true));
+
+    verify(timelineMapper, never()).backfill(anyString(), anyString());
+  }
+
+  @Test
+  public void should_remove_entries_of_removed_article() {
+    timelineFanout.onArticleRemoved(new ArticleRemovedEvent("article"));
+
+    verify(timelineMapper).deleteArticleEntries("article");
+  }
+
+  @Test
+  public void should_repair_one_batch_and_remember_where_it_stopped() {
+    when(timelineMapper.tryLockRepair()).thenReturn(true);
+    when(timelineMapper.nextRepairUsers(2)).thenReturn(Arrays.asList("u1", "u2"));
+
+    timelineFanout.repair();
+
+    verify(timelineMapper).repairMissingEntries(Arrays.asList("u1", "u2"));
+    verify(timelineMapper).deleteStaleEntries(Arrays.asList("u1", "u2"));
+    verify(timelineMapper).saveRepairProgress("u2");
+  }
+
+  @Test
+  public void should_start_over_after_the_last_batch() {
+    when(timelineMapper.tryLockRepair()).thenReturn(true);
+    when(timelineMapper.nextRepairUsers(2)).thenReturn(Collections.singletonList("u3"));
+
+    timelineFanout.repair();
+
+    verify(timelineMapper).repairMissingEntries(Collections.singletonList("u3"));
+    verify(timelineMapper).saveRepairProgress("");
+  }
+
+  @Test
+  public void should_skip_repair_while_another_instance_holds_the_lock() {
+    when(timelineMapper.tryLockRepair()).thenReturn(false);
+
+    timelineFanout.repair();
+
+    verify(timelineMapper, never()).nextRepairUsers(2);
+    verify(timelineMapper, never()).repairMissingEntries(anyList());
+    verify(timelineMapper, never()).saveRepairProgress(anyString());
+  }
+}
@@ -1,8 +1,10 @@
 package io.spring.infrastructure.user;
 
+import io.spring.core.user.FollowChangedEvent;
 import io.spring.core.user.FollowRelation;
 import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
+import io.spring.core.user.UserUpdatedEvent;
 import io.spring.infrastructure.DbTestBase;
 import io.spring.infrastructure.repository.MyBatisUserRepository;
 import java.util.Optional;
@@ -11,10 +13,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 
 @Import(MyBatisUserRepository.class)
+@RecordApplicationEvents
 public class MyBatisUserRepositoryTest extends DbTestBase {
   @Autowired private UserRepository userRepository;
+  @Autowired private ApplicationEvents applicationEvents;
   private User user;
 
   @BeforeEach
@@ -49,6 +56,48 @@ public class MyBatisUserRepositoryTest extends DbTestBase {
     Assertions.assertEquals(optional.get().getImage(), user.getImage());
   }
 
+  @Test
+  public void should_publish_event_only_when_updating_user() {
+    userRepository.save(user);
+    Assertions.assertEquals(0, applicationEvents.stream(UserUpdatedEvent.class).count());
+
+    user.update("", "", "", "new bio", "");
+    userRepository.save(user);
+    Assertions.assertEquals(
+        1,
+        applicationEvents.stream(UserUpdatedEvent.class)
+            .filter(event -> event.getUserId().equals(user.getId()))
+            .count());
+  }
+
+  @Test
+  public void should_keep_password_when_saving_user_without_password() {
+    userRepository.save(user);
+    User principal = user.withoutPassword();
+    principal.update("", "", "", "new bio", "");
+    userRepository.save(principal);
+
+    Optional<User> optional = userRepository.findById(user.getId());
+    Assertions.assertEquals(optional.get().getPassword(), "123");
+    Assertions.assertEquals(optional.get().getBio(), "new bio");
+  }
+
+  @Test
+  public void should_reject_taken_username_with_duplicate_key() {
+    userRepository.save(user);
+    User other = new User("other@example.com", user.getUsername(), "123", "", "");
+    Assertions.assertThrows(DuplicateKeyException.class, () -> userRepository.save(other));
+  }
+
+  @Test
+  public void should_check_whether_another_user_holds_a_value() {
+    userRepository.save(user);
+    Assertions.assertTrue(userRepository.existsByUsername(user.getUsername(), null));
+    Assertions.assertTrue(userRepository.existsByEmail(user.getEmail(), "another-user-id"));
+    Assertions.assertFalse(userRepository.existsByEmail(user.getEmail(), user.getId()));
+    Assertions.assertFalse(userRepository.existsByUsername("nobody", null));
+  }
+
   @Test
   public void should_create_new_user_follow_success() {
     User other = new User("other@example.com", "other", "123", "", "");
@@ -57,6 +106,8 @@ public class MyBatisUserRepositoryTest extends DbTestBase {
     FollowRelation followRelation = new FollowRelation(user.getId(), other.getId());
     userRepository.saveRelation(followRelation);
     Assertions.assertTrue(userRepository.findRelation(user.getId(), other.getId()).isPresent());
+    Assertions.assertEquals(
+        1, applicationEvents.stream(FollowChangedEvent.class).filter(e -> e.isFollowing()).count());
   }
 
   @Test
@@ -69,5 +120,8 @@ public class MyBatisUserRepositoryTest extends DbTestBase {
 
     userRepository.removeRelation(followRelation);
     Assertions.assertFalse(userRepository.findRelation(user.getId(), other.getId()).isPresent());
+    Assertions.assertEquals(
+        1,
+        applicationEvents.stream(FollowChangedEvent.class).filter(e -> !e.isFollowing()).count());
   }
 }